@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.comparator.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -578,4 +579,18 @@ public class BundlesDeltaTests extends DeltaTestSetup {
 		assertNotNull("No delta", delta); //$NON-NLS-1$
 		assertFalse("Equals to NO_DELTA", delta == ApiComparator.NO_DELTA); //$NON-NLS-1$
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Tests that comparing baselines with several threads returns the same
+	 * deltas in the same order as a sequential comparison
+	 */
+	@Test
+	public void test17() {
+		deployBundles("test4"); //$NON-NLS-1$
+		IDelta delta = ApiComparator.compare(getBeforeState(), getAfterState(), VisibilityModifiers.ALL_VISIBILITIES, true, 1, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		IDelta delta2 = ApiComparator.compare(getBeforeState(), getAfterState(), VisibilityModifiers.ALL_VISIBILITIES, true, 4, null);
+		assertNotNull("No delta", delta2); //$NON-NLS-1$
+		assertArrayEquals("Different deltas", collectLeaves(delta), collectLeaves(delta2)); //$NON-NLS-1$
+	}
+}
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -160,4 +161,40 @@ public class ApiModelCacheTests {
 		assertTrue("The type 'a.b.c.testee1' should have been removed from the cache", ApiModelCache.getCache().removeElementInfo(element)); //$NON-NLS-1$
 		assertTrue("The cache should be empty", ApiModelCache.getCache().isEmpty()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that hits and misses of type lookups are counted
+	 */
+	@Test
+	public void testHitsAndMisses() throws Exception {
+		ApiModelCache cache = ApiModelCache.getCache();
+		long hits = cache.getHits();
+		long misses = cache.getMisses();
+		cacheType("testtype4"); //$NON-NLS-1$
+		assertNotNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "testtype4", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "testtype5", IApiElement.TYPE)); //$NON-NLS-1$
+		assertEquals("Wrong number of hits", hits + 1, cache.getHits()); //$NON-NLS-1$
+		assertEquals("Wrong number of misses", misses + 1, cache.getMisses()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the least recently used types of a component are evicted
+	 * once the component cache is full
+	 */
+	@Test
+	public void testEviction() throws Exception {
+		ApiModelCache cache = ApiModelCache.getCache();
+		long evictions = cache.getEvictions();
+		cacheType("a.b.c.first"); //$NON-NLS-1$
+		for (int i = 0; i < 2500; i++) {
+			cacheType("a.b.c.type" + i); //$NON-NLS-1$
+			// keep the first type in use
+			assertNotNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.first", IApiElement.TYPE)); //$NON-NLS-1$
+		}
+		assertTrue("Types should have been evicted", cache.getEvictions() > evictions); //$NON-NLS-1$
+		assertNull("The oldest type should have been evicted", //$NON-NLS-1$
+				cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.type0", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNotNull("The most recently used type should still be cached", //$NON-NLS-1$
+				cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.type2499", IApiElement.TYPE)); //$NON-NLS-1$
+	}
 }
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.eclipse.pde.api.tools.internal.model.ClassFileCache;
+import org.junit.Test;
+
+/**
+ * Tests the size bounded {@link ClassFileCache}
+ */
+public class ClassFileCacheTests {
+
+	private static byte[] load(ClassFileCache cache, String name, long stamp, int size) throws IOException {
+		return cache.getContents("container", stamp, size, name, () -> new byte[size]); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that cached contents are returned until the stamp changes
+	 */
+	@Test
+	public void testHitsAndStamps() throws IOException {
+		ClassFileCache cache = new ClassFileCache(1000);
+		byte[] first = load(cache, "a", 1, 10); //$NON-NLS-1$
+		assertSame(first, load(cache, "a", 1, 10)); //$NON-NLS-1$
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertTrue("A changed stamp must load the class file again", first != load(cache, "a", 2, 10)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(2, cache.getMisses());
+	}
+
+	/**
+	 * Tests that a changed length loads the class file again even if the
+	 * stamp is the same
+	 */
+	@Test
+	public void testLengthChange() throws IOException {
+		ClassFileCache cache = new ClassFileCache(1000);
+		byte[] first = load(cache, "a", 1, 10); //$NON-NLS-1$
+		byte[] second = load(cache, "a", 1, 12); //$NON-NLS-1$
+		assertTrue("A changed length must load the class file again", first != second); //$NON-NLS-1$
+		assertEquals(12, second.length);
+		assertEquals(2, cache.getMisses());
+	}
+
+	/**
+	 * Tests that the least recently used class files are evicted to stay
+	 * within the budget
+	 */
+	@Test
+	public void testEviction() throws IOException {
+		ClassFileCache cache = new ClassFileCache(100);
+		byte[] a = load(cache, "a", 1, 20); //$NON-NLS-1$
+		load(cache, "b", 1, 20); //$NON-NLS-1$
+		load(cache, "c", 1, 20); //$NON-NLS-1$
+		load(cache, "d", 1, 20); //$NON-NLS-1$
+		// use a so b is the least recently used
+		assertSame(a, load(cache, "a", 1, 20)); //$NON-NLS-1$
+		load(cache, "e", 1, 25); //$NON-NLS-1$
+		assertTrue("Cache exceeds its budget", cache.getWeight() <= 100); //$NON-NLS-1$
+		assertEquals(1, cache.getEvictions());
+		assertSame(a, load(cache, "a", 1, 20)); //$NON-NLS-1$
+		long misses = cache.getMisses();
+		load(cache, "b", 1, 20); //$NON-NLS-1$
+		assertEquals("b should have been evicted", misses + 1, cache.getMisses()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that class files larger than a quarter of the budget are not
+	 * cached
+	 */
+	@Test
+	public void testLargeClassFilesNotCached() throws IOException {
+		ClassFileCache cache = new ClassFileCache(100);
+		load(cache, "large", 1, 26); //$NON-NLS-1$
+		assertEquals(0, cache.getWeight());
+		load(cache, "large", 1, 26); //$NON-NLS-1$
+		assertEquals(2, cache.getMisses());
+	}
+}
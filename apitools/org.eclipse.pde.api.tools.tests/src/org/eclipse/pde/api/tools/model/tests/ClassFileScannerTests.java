@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,16 +13,32 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceExtractor;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.junit.AfterClass;
 import org.junit.Test;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 
 /**
  * This class tests the class file scanner and the class file visitor
@@ -409,9 +425,76 @@ public class ClassFileScannerTests extends ScannerTest {
 		assertTrue("the should be a REF_STATICMETHOD ref to doSomething from classes.Test13A", ref != null); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that extracting references in the same read that builds the type
+	 * structure finds the same references as extracting them from a built
+	 * structure
+	 */
+	@Test
+	public void testScanWithStructure() throws CoreException {
+		DirectoryApiTypeContainer container = new DirectoryApiTypeContainer(null, WORKSPACE_ROOT.append(getPackageName()).toOSString());
+		AbstractApiTypeRoot root = (AbstractApiTypeRoot) container.findTypeRoot("classes.Test13"); //$NON-NLS-1$
+		Set<Reference> references = new HashSet<>();
+		IApiType type = root.getStructure(t -> new ReferenceExtractor(t, references, IReference.MASK_REF_ALL));
+		assertTrue("the structure should have been built", type != null); //$NON-NLS-1$
+		assertTrue("the structure should have members", type.getMethods().length > 0); //$NON-NLS-1$
+		Set<String> expected = new TreeSet<>();
+		for (IReference reference : getRefSet("Test13")) { //$NON-NLS-1$
+			expected.add(reference.toString());
+		}
+		Set<String> actual = new TreeSet<>();
+		for (Reference reference : references) {
+			actual.add(reference.toString());
+		}
+		assertEquals(expected, actual);
+	}
+
 	/**
 	 * Cleans up after the tests are done. This must be the last test run
 	 */
+	/**
+	 * Tests that the visitor the class file is passed on to while building the
+	 * type structure gets the access flags of the class file and sees the
+	 * information of an inner class attribute in the type
+	 */
+	@Test
+	public void testPassedOnClassFile() {
+		ClassWriter writer = new ClassWriter(0);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_DEPRECATED, "p/A$B", null, "java/lang/Object", null); //$NON-NLS-1$ //$NON-NLS-2$
+		writer.visitInnerClass("p/A$B", "p/A", "B", Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_DEPRECATED, "f", "I", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT | Opcodes.ACC_DEPRECATED, "m", "()V", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		writer.visitEnd();
+		List<String> visited = new ArrayList<>();
+		IApiType type = TypeStructureBuilder.buildTypeStructure(writer.toByteArray(), null, null, t -> new ClassVisitor(Opcodes.ASM9) {
+			@Override
+			public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+				visited.add("class " + access); //$NON-NLS-1$
+			}
+
+			@Override
+			public void visitInnerClass(String name, String outerName, String innerName, int access) {
+				visited.add("inner " + t.isMemberType()); //$NON-NLS-1$
+			}
+
+			@Override
+			public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+				visited.add("field " + access); //$NON-NLS-1$
+				return null;
+			}
+
+			@Override
+			public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+				visited.add("method " + access); //$NON-NLS-1$
+				return null;
+			}
+		});
+		assertTrue("the structure should have been built", type != null); //$NON-NLS-1$
+		assertEquals(List.of("class " + (Opcodes.ACC_PUBLIC | Opcodes.ACC_DEPRECATED), "inner true", //$NON-NLS-1$ //$NON-NLS-2$
+				"field " + (Opcodes.ACC_PUBLIC | Opcodes.ACC_DEPRECATED), //$NON-NLS-1$
+				"method " + (Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT | Opcodes.ACC_DEPRECATED)), visited); //$NON-NLS-1$
+	}
+
 	@AfterClass
 	public static void testCleanup() throws Exception {
 		cleanUp();
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
+import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureIndex;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the persistent {@link TypeStructureIndex}
+ */
+public class TypeStructureIndexTests {
+
+	private Path fTempDir;
+	private Path fArchive;
+	private Path fIndexFile;
+
+	@Before
+	public void setUp() throws IOException {
+		fTempDir = Files.createTempDirectory("typeindex"); //$NON-NLS-1$
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("Missing jar file", path.toFile().exists()); //$NON-NLS-1$
+		fArchive = Files.copy(path.toPath(), fTempDir.resolve("sample.jar")); //$NON-NLS-1$
+		fIndexFile = fTempDir.resolve("sample.idx"); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		Util.delete(fTempDir.toFile());
+	}
+
+	/**
+	 * Returns the type roots of the copied sample archive
+	 */
+	private List<IApiTypeRoot> getTypeRoots() throws CoreException {
+		List<IApiTypeRoot> roots = new ArrayList<>();
+		new ArchiveApiTypeContainer(null, fArchive.toString()).accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				roots.add(typeroot);
+			}
+		});
+		return roots;
+	}
+
+	/**
+	 * Indexes all types of the sample archive and saves the index
+	 */
+	private List<IApiTypeRoot> writeIndex() throws CoreException {
+		TypeStructureIndex index = new TypeStructureIndex(fArchive.toString(), fIndexFile);
+		List<IApiTypeRoot> roots = getTypeRoots();
+		for (IApiTypeRoot root : roots) {
+			index.put((ApiType) root.getStructure());
+		}
+		index.save();
+		assertTrue("The index should have been written", Files.isRegularFile(fIndexFile)); //$NON-NLS-1$
+		return roots;
+	}
+
+	/**
+	 * Tests that type structures read from a saved index are the same as the
+	 * ones built from the class files
+	 */
+	@Test
+	public void testRoundTrip() throws CoreException {
+		List<IApiTypeRoot> roots = writeIndex();
+		assertFalse("Sample archive should contain types", roots.isEmpty()); //$NON-NLS-1$
+		TypeStructureIndex index = new TypeStructureIndex(fArchive.toString(), fIndexFile);
+		for (IApiTypeRoot root : roots) {
+			IApiType expected = root.getStructure();
+			IApiType actual = index.getTypeStructure(root.getTypeName(), null, root);
+			assertNotNull("Missing indexed type " + root.getTypeName(), actual); //$NON-NLS-1$
+			assertEquals("Wrong structure for " + root.getTypeName(), expected.toString(), actual.toString()); //$NON-NLS-1$
+			assertEquals(expected.getSimpleName(), actual.getSimpleName());
+			assertEquals(expected.isMemberType(), actual.isMemberType());
+			assertEquals(expected.isLocal(), actual.isLocal());
+			assertEquals(expected.isAnonymous(), actual.isAnonymous());
+			assertArrayEquals(expected.getSuperInterfaceNames(), actual.getSuperInterfaceNames());
+			assertEquals(root, actual.getTypeRoot());
+		}
+	}
+
+	/**
+	 * Tests that an index can be saved again while it is in use, i.e. the
+	 * index file is not kept open after it has been read
+	 */
+	@Test
+	public void testSaveLoadedIndex() throws CoreException {
+		List<IApiTypeRoot> roots = writeIndex();
+		TypeStructureIndex index = new TypeStructureIndex(fArchive.toString(), fIndexFile);
+		IApiTypeRoot root = roots.get(0);
+		assertNotNull(index.getTypeStructure(root.getTypeName(), null, root));
+		index.put((ApiType) root.getStructure());
+		index.save();
+		TypeStructureIndex reloaded = new TypeStructureIndex(fArchive.toString(), fIndexFile);
+		for (IApiTypeRoot typeRoot : roots) {
+			assertNotNull("Missing indexed type " + typeRoot.getTypeName(), //$NON-NLS-1$
+					reloaded.getTypeStructure(typeRoot.getTypeName(), null, typeRoot));
+		}
+	}
+
+	/**
+	 * Tests that a save appends the records built since the last save to the
+	 * index file and that the incomplete block of an interrupted save is
+	 * ignored
+	 */
+	@Test
+	public void testSaveAppends() throws CoreException, IOException {
+		List<IApiTypeRoot> roots = getTypeRoots();
+		assertTrue("Sample archive should contain several types", roots.size() > 1); //$NON-NLS-1$
+		TypeStructureIndex index = new TypeStructureIndex(fArchive.toString(), fIndexFile);
+		IApiTypeRoot first = roots.get(0);
+		index.put((ApiType) first.getStructure());
+		index.save();
+		byte[] saved = Files.readAllBytes(fIndexFile);
+		for (IApiTypeRoot root : roots.subList(1, roots.size())) {
+			index.put((ApiType) root.getStructure());
+		}
+		index.save();
+		byte[] appended = Files.readAllBytes(fIndexFile);
+		assertTrue("The records should have been appended", appended.length > saved.length); //$NON-NLS-1$
+		assertArrayEquals(saved, Arrays.copyOf(appended, saved.length));
+
+		Files.write(fIndexFile, Arrays.copyOf(appended, appended.length - 1));
+		TypeStructureIndex reloaded = new TypeStructureIndex(fArchive.toString(), fIndexFile);
+		assertNotNull(reloaded.getTypeStructure(first.getTypeName(), null, first));
+		IApiTypeRoot last = roots.get(roots.size() - 1);
+		assertNull("Records of an interrupted save must be ignored", //$NON-NLS-1$
+				reloaded.getTypeStructure(last.getTypeName(), null, last));
+	}
+
+	/**
+	 * Tests that the index files of removed archives are deleted and the
+	 * others are kept
+	 */
+	@Test
+	public void testCleanup() throws CoreException, IOException {
+		writeIndex();
+		Path removed = Files.copy(fArchive, fTempDir.resolve("removed.jar")); //$NON-NLS-1$
+		Path removedIndex = fTempDir.resolve("removed.idx"); //$NON-NLS-1$
+		TypeStructureIndex index = new TypeStructureIndex(removed.toString(), removedIndex);
+		for (IApiTypeRoot root : getTypeRoots()) {
+			index.put((ApiType) root.getStructure());
+		}
+		index.save();
+		Path garbage = Files.writeString(fTempDir.resolve("garbage.idx"), "not an index"); //$NON-NLS-1$ //$NON-NLS-2$
+		Files.delete(removed);
+
+		TypeStructureIndex.cleanup(fTempDir);
+		assertTrue("Index of an existing archive must be kept", Files.isRegularFile(fIndexFile)); //$NON-NLS-1$
+		assertFalse("Index of a removed archive must be deleted", Files.exists(removedIndex)); //$NON-NLS-1$
+		assertFalse("Invalid index files must be deleted", Files.exists(garbage)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that an index is not used once the archive has changed
+	 */
+	@Test
+	public void testChangedArchive() throws CoreException, IOException {
+		List<IApiTypeRoot> roots = writeIndex();
+		FileTime modified = Files.getLastModifiedTime(fArchive);
+		Files.setLastModifiedTime(fArchive, FileTime.fromMillis(modified.toMillis() + 10000));
+		TypeStructureIndex index = new TypeStructureIndex(fArchive.toString(), fIndexFile);
+		for (IApiTypeRoot root : roots) {
+			assertNull("Index of a changed archive must not be used", //$NON-NLS-1$
+					index.getTypeStructure(root.getTypeName(), null, root));
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,16 @@
 package org.eclipse.pde.api.tools.util.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -31,6 +36,7 @@ import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -56,7 +62,10 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
@@ -849,6 +858,95 @@ public class ApiBaselineManagerTests extends AbstractApiTest {
 		assertTrue("unexported package must be private", VisibilityModifiers.isPrivate(annot.getVisibility())); //$NON-NLS-1$
 	}
 
+	/**
+	 * Drops the cached API description of the testing project and returns the
+	 * one restored from its saved file
+	 */
+	private IApiDescription restoreTestProjectApiDescription() throws CoreException {
+		ApiDescriptionManager manager = ApiDescriptionManager.getManager();
+		manager.clean(getTestingProject(), false, true);
+		ProjectComponent component = (ProjectComponent) getWorkspaceBaseline().getApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the test project api component must exist in the workspace baseline", component); //$NON-NLS-1$
+		return manager.getApiDescription(component, component.getBundleDescription());
+	}
+
+	/**
+	 * Adds TestClass1 to the testing project, adds a restriction to it that is
+	 * not in its source and saves the workspace
+	 *
+	 * @return the binary API description file of the testing project
+	 */
+	private Path saveModifiedApiDescription() throws CoreException {
+		IJavaProject project = getTestingProject();
+		IPackageFragmentRoot root = project.findPackageFragmentRoot(IPath.fromOSString(project.getElementName()).append(ProjectUtils.SRC_FOLDER).makeAbsolute());
+		assertNotNull("the 'src' package fragment root must exist", root); //$NON-NLS-1$
+		assertTestSource(root, TESTING_PACKAGE, "TestClass1"); //$NON-NLS-1$
+		IApiDescription desc = getTestProjectApiDescription();
+		assertNotNull("the testing project api description must exist", desc); //$NON-NLS-1$
+		assertSourceResctriction(TESTING_PACKAGE, "TestClass1", RestrictionModifiers.NO_INSTANTIATE); //$NON-NLS-1$
+		IStatus status = desc.setRestrictions(Factory.typeDescriptor(TESTING_PACKAGE + ".TestClass1"), //$NON-NLS-1$
+				RestrictionModifiers.NO_INSTANTIATE | RestrictionModifiers.NO_EXTEND);
+		assertTrue(status.getMessage(), status.isOK());
+		ResourcesPlugin.getWorkspace().save(true, new NullProgressMonitor());
+		Path file = ApiDescriptionManager.API_DESCRIPTIONS_CONTAINER_PATH.append(TESTING_PLUGIN_PROJECT_NAME)
+				.append(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toPath();
+		assertTrue("the API description must have been saved", Files.isRegularFile(file)); //$NON-NLS-1$
+		return file;
+	}
+
+	/**
+	 * Tests that an API description restored from its binary file is the same
+	 * as the saved one and is not computed again from the source
+	 */
+	@Test
+	public void testApiDescriptionRoundTrip() throws Exception {
+		saveModifiedApiDescription();
+		IApiDescription restored = restoreTestProjectApiDescription();
+		IApiAnnotations annot = restored.resolveAnnotations(Factory.typeDescriptor(TESTING_PACKAGE + ".TestClass1")); //$NON-NLS-1$
+		assertNotNull("the annotations for a.b.c.TestClass1 must be restored", annot); //$NON-NLS-1$
+		assertEquals("the saved restrictions must be restored", //$NON-NLS-1$
+				RestrictionModifiers.NO_INSTANTIATE | RestrictionModifiers.NO_EXTEND, annot.getRestrictions());
+		assertEquals(VisibilityModifiers.API, annot.getVisibility());
+		annot = restored.resolveAnnotations(Factory.packageDescriptor(TESTING_PACKAGE));
+		assertNotNull("the annotations for a.b.c must be restored", annot); //$NON-NLS-1$
+		assertEquals(VisibilityModifiers.API, annot.getVisibility());
+	}
+
+	/**
+	 * Tests that a corrupt binary API description is deleted and the
+	 * description is computed again from the source
+	 */
+	@Test
+	public void testApiDescriptionCorruptFile() throws Exception {
+		Path file = saveModifiedApiDescription();
+		byte[] content = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(content, content.length / 2));
+		assertRecomputedApiDescription(file);
+	}
+
+	/**
+	 * Tests that a binary API description written by another version is
+	 * deleted and the description is computed again from the source
+	 */
+	@Test
+	public void testApiDescriptionOtherFormatVersion() throws Exception {
+		Path file = saveModifiedApiDescription();
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+			out.writeInt(0x41504944);
+			out.writeInt(0);
+		}
+		assertRecomputedApiDescription(file);
+	}
+
+	private void assertRecomputedApiDescription(Path file) throws CoreException {
+		IApiDescription restored = restoreTestProjectApiDescription();
+		assertFalse("the unreadable API description must be deleted", Files.exists(file)); //$NON-NLS-1$
+		IApiAnnotations annot = restored.resolveAnnotations(Factory.typeDescriptor(TESTING_PACKAGE + ".TestClass1")); //$NON-NLS-1$
+		assertNotNull("the annotations for a.b.c.TestClass1 must be computed", annot); //$NON-NLS-1$
+		assertEquals("the restrictions must be computed from the source", RestrictionModifiers.NO_INSTANTIATE, //$NON-NLS-1$
+				annot.getRestrictions());
+	}
+
 	/**
 	 * sets the given package name to be an Exported-Package
 	 */
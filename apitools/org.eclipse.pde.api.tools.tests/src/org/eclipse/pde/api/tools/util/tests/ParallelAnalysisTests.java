@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.pde.api.tools.internal.builder.ParallelAnalysis;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests {@link ParallelAnalysis}
+ */
+public class ParallelAnalysisTests {
+
+	private static final List<Integer> ITEMS = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+
+	@After
+	public void tearDown() {
+		ParallelAnalysis.setParallelismOverride(null);
+	}
+
+	/**
+	 * Tests that results are returned in the order of the items
+	 */
+	@Test
+	public void testResultOrder() {
+		List<Integer> results = ParallelAnalysis.map(ITEMS, 4, i -> Integer.valueOf(i.intValue() * 2),
+				new NullProgressMonitor());
+		assertEquals(ITEMS.size(), results.size());
+		for (int i = 0; i < ITEMS.size(); i++) {
+			assertEquals(Integer.valueOf(i * 2), results.get(i));
+		}
+	}
+
+	/**
+	 * Tests that a call never uses more threads than requested
+	 */
+	@Test
+	public void testParallelismBound() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maximum = new AtomicInteger();
+		ParallelAnalysis.map(ITEMS, 2, i -> {
+			maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			running.decrementAndGet();
+			return i;
+		}, new NullProgressMonitor());
+		assertTrue("Too many threads: " + maximum.get(), maximum.get() <= 2); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that nested calls are processed by the thread of the outer call
+	 */
+	@Test
+	public void testNestedCall() {
+		List<Boolean> results = ParallelAnalysis.map(ITEMS.subList(0, 8), 4, i -> {
+			Thread outer = Thread.currentThread();
+			List<Thread> threads = ParallelAnalysis.map(ITEMS.subList(0, 8), 4, j -> Thread.currentThread(),
+					new NullProgressMonitor());
+			return Boolean.valueOf(threads.stream().allMatch(thread -> thread == outer));
+		}, new NullProgressMonitor());
+		assertTrue(results.stream().allMatch(Boolean::booleanValue));
+	}
+
+	/**
+	 * Tests that a canceled call throws instead of returning partial results
+	 */
+	@Test
+	public void testCancellation() {
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		assertThrows(OperationCanceledException.class, () -> ParallelAnalysis.map(ITEMS, 4, i -> {
+			if (i.intValue() == 10) {
+				monitor.setCanceled(true);
+			}
+			return i;
+		}, monitor));
+		assertThrows(OperationCanceledException.class,
+				() -> ParallelAnalysis.map(ITEMS, 1, i -> i, monitor));
+	}
+
+	/**
+	 * Tests that a failure of the function is passed on to the caller
+	 */
+	@Test
+	public void testFailure() {
+		IllegalStateException failure = new IllegalStateException();
+		RuntimeException thrown = assertThrows(RuntimeException.class, () -> ParallelAnalysis.map(ITEMS, 4, i -> {
+			if (i.intValue() == 50) {
+				throw failure;
+			}
+			return i;
+		}, new NullProgressMonitor()));
+		Throwable cause = thrown;
+		while (cause != failure && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		assertSame(failure, cause);
+	}
+
+	/**
+	 * Tests that the session override takes precedence over the preference
+	 */
+	@Test
+	public void testParallelismOverride() {
+		ParallelAnalysis.setParallelismOverride(Integer.valueOf(3));
+		assertEquals(3, ParallelAnalysis.getParallelism());
+		ParallelAnalysis.setParallelismOverride(Integer.valueOf(ParallelAnalysis.ALL_PROCESSORS));
+		assertEquals(Runtime.getRuntime().availableProcessors(), ParallelAnalysis.getParallelism());
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.pde.api.tools.internal.builder.TypeFingerprint;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Tests the {@link TypeFingerprint} used to skip the analysis of unchanged types
+ */
+public class TypeFingerprintTests {
+
+	private static final List<String> SOURCE = List.of("/**", " * @since 1.0", " */", "public class A {"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	/**
+	 * Creates class <code>A</code> with a method <code>m</code> that loads a
+	 * string constant and calls the given method of {@link String}.
+	 */
+	private static byte[] createClass(String methodDescriptor, String calledMethod, String constant, int line) {
+		ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, "A", null, "java/lang/Object", null); //$NON-NLS-1$ //$NON-NLS-2$
+		MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "m", methodDescriptor, null, null); //$NON-NLS-1$
+		method.visitCode();
+		Label start = new Label();
+		method.visitLabel(start);
+		method.visitLineNumber(line, start);
+		method.visitLdcInsn(constant);
+		method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", calledMethod, "()Ljava/lang/String;", false); //$NON-NLS-1$ //$NON-NLS-2$
+		method.visitInsn(Opcodes.POP);
+		method.visitInsn(Opcodes.RETURN);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+
+	private static byte[] fingerprint(byte[] classFile, List<String> source) {
+		return TypeFingerprint.compute(List.of(classFile), source);
+	}
+
+	/**
+	 * Tests that changing line numbers, constants loaded in method bodies and
+	 * plain comments keeps the fingerprint
+	 */
+	@Test
+	public void testBodyOnlyChange() {
+		byte[] original = fingerprint(createClass("()V", "trim", "a", 10), SOURCE); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		List<String> commented = List.of("/**", " * Some documentation", " * @since 1.0", " */", "public class A {"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		assertArrayEquals(original, fingerprint(createClass("()V", "trim", "b", 42), commented)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Tests that changing the value of a constant field changes the
+	 * fingerprint
+	 */
+	@Test
+	public void testConstantFieldChange() {
+		assertFalse("A changed constant value must change the fingerprint", //$NON-NLS-1$
+				Arrays.equals(fingerprint(createConstant("a"), SOURCE), fingerprint(createConstant("b"), SOURCE))); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Creates class <code>A</code> with a constant field <code>F</code> of the
+	 * given value
+	 */
+	private static byte[] createConstant(String value) {
+		ClassWriter writer = new ClassWriter(0);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, "A", null, "java/lang/Object", null); //$NON-NLS-1$ //$NON-NLS-2$
+		writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, "F", "Ljava/lang/String;", null, value).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Tests that changing a reference, a signature or a tag changes the
+	 * fingerprint
+	 */
+	@Test
+	public void testApiChange() {
+		byte[] original = fingerprint(createClass("()V", "trim", "a", 10), SOURCE); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertFalse("A changed reference must change the fingerprint", //$NON-NLS-1$
+				Arrays.equals(original, fingerprint(createClass("()V", "strip", "a", 10), SOURCE))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertFalse("A changed signature must change the fingerprint", //$NON-NLS-1$
+				Arrays.equals(original, fingerprint(createClass("(I)V", "trim", "a", 10), SOURCE))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		List<String> retagged = List.of("/**", " * @since 1.1", " */", "public class A {"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertFalse("A changed tag must change the fingerprint", //$NON-NLS-1$
+				Arrays.equals(original, fingerprint(createClass("()V", "trim", "a", 10), retagged))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
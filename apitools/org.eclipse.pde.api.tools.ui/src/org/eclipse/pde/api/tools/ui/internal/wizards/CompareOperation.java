@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,7 +76,8 @@ public class CompareOperation extends Job {
 		try {
 			monitor.subTask(ActionMessages.CompareDialogComputeDeltasTaskName);
 			try {
-				IDelta delta = ApiComparator.compare(scope, baseline, VisibilityModifiers.API, false, monitor);
+				IDelta delta = ApiComparator.compare(scope, baseline, VisibilityModifiers.API, false, false,
+						ApiComparator.PREFERRED_PARALLELISM, monitor);
 				if (delta == null) {
 					// we don't want to continue. The .log file should already
 					// contain details about the failure
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,7 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.api.tools.internal.builder.ParallelAnalysis;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -66,6 +67,7 @@ public class ApiAnalysisApplication implements IApplication {
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
+		private static final String PARALLELISM_ARG = "parallelism"; //$NON-NLS-1$
 
 		private Request() {
 		}
@@ -87,6 +89,8 @@ public class ApiAnalysisApplication implements IApplication {
 					res.failOnError = Boolean.parseBoolean(param);
 				} else if (DEPENDENCY_LIST_ARG.equals(currentKey)) {
 					res.tpFile = new File(param);
+				} else if (PARALLELISM_ARG.equals(currentKey)) {
+					res.parallelism = param;
 				}
 			}
 			if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
@@ -99,6 +103,7 @@ public class ApiAnalysisApplication implements IApplication {
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
+		public String parallelism;
 	}
 
 	private ICoreRunnable restoreOriginalProjectState = null;
@@ -115,6 +120,16 @@ public class ApiAnalysisApplication implements IApplication {
 
 			Request args = Request
 					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
+			if (args.parallelism != null) {
+				// only for this run, the workspace preference is left alone
+				Integer parallelism = parseParallelism(args.parallelism);
+				if (parallelism == null) {
+					System.err.println("Invalid -parallelism: " + args.parallelism //$NON-NLS-1$
+							+ ", expected 0 for all processors or a positive number of threads."); //$NON-NLS-1$
+					return IStatus.ERROR;
+				}
+				ParallelAnalysis.setParallelismOverride(parallelism);
+			}
 			IProject project = importProject(args.project);
 			if (project == null) {
 				System.err.println("Project not loaded."); //$NON-NLS-1$
@@ -185,12 +200,22 @@ public class ApiAnalysisApplication implements IApplication {
 			e.printStackTrace();
 			return IStatus.ERROR;
 		} finally {
+			ParallelAnalysis.setParallelismOverride(null);
 			if (restoreOriginalProjectState != null) {
 				restoreOriginalProjectState.run(new NullProgressMonitor());
 			}
 		}
 	}
 
+	private static Integer parseParallelism(String value) {
+		try {
+			int parallelism = Integer.parseInt(value.trim());
+			return parallelism >= 0 ? Integer.valueOf(parallelism) : null;
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
 	private static void printMarker(IMarker marker, String type) {
 		String path = getFullPath(marker);
 		String file = marker.getResource().getName();
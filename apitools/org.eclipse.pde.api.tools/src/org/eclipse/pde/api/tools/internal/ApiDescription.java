@@ -195,6 +195,15 @@ public class ApiDescription implements IApiDescription {
 			return this;
 		}
 
+		/**
+		 * Ensures the children of this node are available. Default
+		 * implementation does nothing. Subclasses restoring their children
+		 * lazily should override.
+		 */
+		void restoreChildren() {
+			// nothing to restore
+		}
+
 		/**
 		 * Persists this node as a child of the given element.
 		 *
@@ -362,6 +371,7 @@ public class ApiDescription implements IApiDescription {
 		}
 		IApiAnnotations desc = new ApiAnnotations(vis, node.restrictions);
 		boolean visitChildren = visitor.visitElement(node.element, desc);
+		node.restoreChildren();
 		if (visitChildren && !node.children.isEmpty()) {
 			visitChildren(visitor, node.children, null);
 		}
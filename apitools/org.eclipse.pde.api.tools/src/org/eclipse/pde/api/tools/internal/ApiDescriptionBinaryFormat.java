@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.PackageNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.TypeNode;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
+
+/**
+ * Reads and writes the API description of a project in a compact binary form.
+ * It holds the same nodes as the XML written by
+ * {@link ProjectApiDescription#getXML()}.
+ * <p>
+ * Every package is written as a self-contained record with the encoded
+ * children of the package prefixed by their length. When restoring, only the
+ * package nodes are created, the children of a package are decoded the first
+ * time the package is used. Packages that were not used are written back by
+ * copying their encoded children.
+ * </p>
+ * <p>
+ * The file is not appended to, it is replaced as a whole when the description
+ * was modified. Appended records would have to be read and merged on every
+ * restore and the file compacted from time to time, while copying the encoded
+ * children of the unchanged packages makes a rewrite a sequential write.
+ * </p>
+ */
+final class ApiDescriptionBinaryFormat {
+
+	private static final int MAGIC = 0x41504944; // "APID"
+	private static final int FORMAT_VERSION = 1;
+
+	private static final byte TAG_END = 0;
+	private static final byte TAG_PACKAGE = 1;
+	private static final byte TAG_TYPE = 2;
+	private static final byte TAG_FIELD = 3;
+	private static final byte TAG_METHOD = 4;
+
+	private ApiDescriptionBinaryFormat() {
+	}
+
+	/**
+	 * Writes the given API description to the given file. The file is replaced
+	 * atomically, so a failed write leaves the previous file in place.
+	 *
+	 * @param description the API description to write
+	 * @param file the file to write to
+	 * @throws IOException if the file cannot be written
+	 */
+	static void write(ProjectApiDescription description, Path file) throws IOException {
+		Files.createDirectories(file.getParent());
+		Path tmp = Files.createTempFile(file.getParent(), "api_description", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+				out.writeLong(description.fPackageTimeStamp);
+				for (ManifestNode node : description.fPackageMap.values()) {
+					if (node instanceof PackageNode pkg && pkg.hasApiVisibility(pkg)) {
+						writePackage(out, pkg);
+					}
+				}
+				out.writeByte(TAG_END);
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	private static void writePackage(DataOutputStream out, PackageNode pkg) throws IOException {
+		out.writeByte(TAG_PACKAGE);
+		out.writeInt(pkg.visibility);
+		out.writeInt(pkg.fFragments.length);
+		for (IPackageFragment fragment : pkg.fFragments) {
+			out.writeUTF(fragment.getHandleIdentifier());
+		}
+		byte[] encoded = pkg.fEncodedChildren;
+		if (encoded == null) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream children = new DataOutputStream(bytes)) {
+				writeChildren(children, pkg.children);
+			}
+			encoded = bytes.toByteArray();
+		}
+		out.writeInt(encoded.length);
+		out.write(encoded);
+	}
+
+	/**
+	 * Writes the nodes that {@link ManifestNode#persistXML} would persist,
+	 * followed by {@link #TAG_END}.
+	 */
+	private static void writeChildren(DataOutputStream out, Map<IElementDescriptor, ManifestNode> children) throws IOException {
+		for (ManifestNode node : children.values()) {
+			if (node instanceof TypeNode type) {
+				if (type.hasApiVisibility(type)) {
+					out.writeByte(TAG_TYPE);
+					out.writeUTF(type.fType.getHandleIdentifier());
+					out.writeInt(type.visibility);
+					out.writeInt(type.restrictions);
+					out.writeLong(type.fTimeStamp);
+					writeChildren(out, type.children);
+				}
+			} else if (!RestrictionModifiers.isUnrestricted(node.restrictions)) {
+				switch (node.element.getElementType()) {
+					case IElementDescriptor.METHOD -> {
+						IMethodDescriptor method = (IMethodDescriptor) node.element;
+						out.writeByte(TAG_METHOD);
+						out.writeUTF(method.getName());
+						out.writeUTF(method.getSignature());
+						out.writeInt(node.visibility);
+						out.writeInt(node.restrictions);
+					}
+					case IElementDescriptor.FIELD -> {
+						IFieldDescriptor field = (IFieldDescriptor) node.element;
+						out.writeByte(TAG_FIELD);
+						out.writeUTF(field.getName());
+						out.writeInt(node.visibility);
+						out.writeInt(node.restrictions);
+					}
+					default -> { /**/ }
+				}
+			}
+		}
+		out.writeByte(TAG_END);
+	}
+
+	/**
+	 * Restores the packages of an API description from the given file. The
+	 * children of the packages are restored lazily, see
+	 * {@link PackageNode#restoreChildren()}.
+	 *
+	 * @param project the project of the API description
+	 * @param description the API description to restore
+	 * @param file the file written by {@link #write(ProjectApiDescription, Path)}
+	 * @return <code>true</code> if the description was restored,
+	 *         <code>false</code> if the file was written by another version,
+	 *         in which case the description is left unchanged
+	 * @throws IOException if the file cannot be read or is corrupt
+	 * @throws CoreException if an element of the description no longer exists
+	 */
+	static boolean read(IJavaProject project, ProjectApiDescription description, Path file) throws IOException, CoreException {
+		byte[] content = Files.readAllBytes(file);
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(content))) {
+			if (content.length < 8 || in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				return false;
+			}
+			String version = in.readUTF();
+			if (!IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
+				return false;
+			}
+			long timestamp = in.readLong();
+			// the packages are only added once the whole file has been read
+			List<PackageNode> packages = new ArrayList<>();
+			for (byte tag = in.readByte(); tag != TAG_END; tag = in.readByte()) {
+				if (tag != TAG_PACKAGE) {
+					throw new IOException("Unexpected tag " + tag + " in " + file); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				int vis = in.readInt();
+				IPackageFragment[] fragments = new IPackageFragment[readLength(in, file)];
+				for (int i = 0; i < fragments.length; i++) {
+					String handle = in.readUTF();
+					IJavaElement element = JavaCore.create(handle);
+					if (element == null || element.getElementType() != IJavaElement.PACKAGE_FRAGMENT) {
+						abort(ScannerMessages.ApiDescriptionManager_2 + handle);
+					}
+					fragments[i] = (IPackageFragment) element;
+				}
+				if (fragments.length == 0) {
+					abort(ScannerMessages.ApiDescriptionManager_2);
+				}
+				byte[] encoded = new byte[readLength(in, file)];
+				in.readFully(encoded);
+				IElementDescriptor descriptor = Factory.packageDescriptor(fragments[0].getElementName());
+				PackageNode node = description.newPackageNode(fragments, null, descriptor, vis, RestrictionModifiers.NO_RESTRICTIONS);
+				node.fEncodedChildren = encoded;
+				packages.add(node);
+			}
+			description.setEmbeddedVersion(version);
+			for (PackageNode node : packages) {
+				description.fPackageMap.put(node.element, node);
+			}
+			description.fPackageTimeStamp = timestamp;
+			description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+			return true;
+		}
+	}
+
+	/**
+	 * Reads a length written before a number of items, the remaining content
+	 * always holds at least one byte per item
+	 */
+	private static int readLength(DataInputStream in, Path file) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > in.available()) {
+			throw new IOException("Invalid length " + length + " in " + file); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return length;
+	}
+
+	/**
+	 * Decodes the children of a package restored by
+	 * {@link #read(IJavaProject, ProjectApiDescription, Path)}.
+	 *
+	 * @param description the API description of the package
+	 * @param pkg the package node
+	 * @param encoded the encoded children of the package
+	 * @throws IOException if the encoded children are corrupt
+	 * @throws CoreException if a child no longer exists
+	 */
+	static void readChildren(ProjectApiDescription description, PackageNode pkg, byte[] encoded) throws IOException, CoreException {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+			readChildren(description, in, pkg);
+		}
+	}
+
+	private static void readChildren(ProjectApiDescription description, DataInputStream in, ManifestNode parent) throws IOException, CoreException {
+		for (byte tag = in.readByte(); tag != TAG_END; tag = in.readByte()) {
+			ManifestNode node;
+			switch (tag) {
+				case TAG_TYPE -> {
+					String handle = in.readUTF();
+					int vis = in.readInt();
+					int res = in.readInt();
+					IJavaElement element = JavaCore.create(handle);
+					if (element == null || element.getElementType() != IJavaElement.TYPE) {
+						abort(ScannerMessages.ApiDescriptionManager_3 + handle);
+					}
+					IType type = (IType) element;
+					TypeNode typeNode = description.newTypeNode(type, parent, Factory.typeDescriptor(type.getFullyQualifiedName('$')), vis, res);
+					typeNode.fTimeStamp = in.readLong();
+					node = typeNode;
+				}
+				case TAG_FIELD -> {
+					String name = in.readUTF();
+					int vis = in.readInt();
+					int res = in.readInt();
+					node = description.newNode(parent, getEnclosingType(parent).getField(name), vis, res);
+				}
+				case TAG_METHOD -> {
+					String name = in.readUTF();
+					String signature = in.readUTF();
+					int vis = in.readInt();
+					int res = in.readInt();
+					node = description.newNode(parent, getEnclosingType(parent).getMethod(name, signature), vis, res);
+				}
+				default -> throw new IOException("Unexpected tag " + tag); //$NON-NLS-1$
+			}
+			parent.children.put(node.element, node);
+			if (tag == TAG_TYPE) {
+				readChildren(description, in, node);
+			}
+		}
+	}
+
+	private static IReferenceTypeDescriptor getEnclosingType(ManifestNode parent) throws CoreException {
+		if (parent.element instanceof IReferenceTypeDescriptor type) {
+			return type;
+		}
+		abort(ScannerMessages.ApiDescriptionManager_4);
+		return null;
+	}
+
+	private static void abort(String message) throws CoreException {
+		throw new CoreException(Status.error(message));
+	}
+}
@@ -47,6 +47,14 @@ public interface IApiCoreConstants {
 	 * <code>.api_description</code>
 	 */
 	public static final String API_DESCRIPTION_XML_NAME = ".api_description"; //$NON-NLS-1$
+	/**
+	 * Constant representing the name of the binary API description file used
+	 * to cache the API descriptions of workspace projects. Value is
+	 * <code>.api_description.bin</code>
+	 *
+	 * @since 1.3.800
+	 */
+	public static final String API_DESCRIPTION_BINARY_NAME = ".api_description.bin"; //$NON-NLS-1$
 	/**
 	 * Constant representing the name of API description XML file. Value is
 	 * <code>.api_description</code>
@@ -74,6 +82,15 @@ public interface IApiCoreConstants {
 	 */
 	public static final String API_USE_SCAN_LOCATION = "API_USE_SCAN_LOCATION"; //$NON-NLS-1$
 
+	/**
+	 * Preference to store the number of threads used for the type level checks
+	 * of the API analysis. <code>1</code> runs the analysis sequentially,
+	 * <code>0</code> uses all available processors.
+	 *
+	 * @since 1.3.800
+	 */
+	public static final String ANALYSIS_PARALLELISM = "analysis_parallelism"; //$NON-NLS-1$
+
 	/**
 	 * Constant representing <code>XML</code>
 	 */
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -99,6 +101,12 @@ public class ProjectApiDescription extends ApiDescription {
 
 		IPackageFragment[] fFragments;
 
+		/**
+		 * The children of this package as restored from the binary API
+		 * description, or <code>null</code> once they have been decoded
+		 */
+		volatile byte[] fEncodedChildren;
+
 		/**
 		 * Constructs a new node.
 		 */
@@ -107,8 +115,32 @@ public class ProjectApiDescription extends ApiDescription {
 			fFragments = fragments;
 		}
 
+		@Override
+		void restoreChildren() {
+			if (fEncodedChildren == null) {
+				return;
+			}
+			synchronized (this) {
+				byte[] encoded = fEncodedChildren;
+				if (encoded == null) {
+					return;
+				}
+				try {
+					ApiDescriptionBinaryFormat.readChildren(ProjectApiDescription.this, this, encoded);
+				} catch (IOException | CoreException e) {
+					// the types are scanned again when they are looked up
+					ApiPlugin.log(Status.warning("Failed to restore API description of package " + this, e)); //$NON-NLS-1$
+					children.clear();
+					modified();
+				} finally {
+					fEncodedChildren = null;
+				}
+			}
+		}
+
 		@Override
 		protected ManifestNode refresh() {
+			restoreChildren();
 			refreshPackages();
 			for (IPackageFragment fFragment : fFragments) {
 				if (!fFragment.exists()) {
@@ -129,6 +161,7 @@ public class ProjectApiDescription extends ApiDescription {
 					pkg.appendChild(fragment);
 				}
 				pkg.setAttribute(IApiXmlConstants.ATTR_VISIBILITY, Integer.toString(this.visibility));
+				restoreChildren();
 				persistChildren(document, pkg, children);
 				parentElement.appendChild(pkg);
 			}
@@ -650,6 +683,17 @@ public class ProjectApiDescription extends ApiDescription {
 		return document;
 	}
 
+	/**
+	 * Writes this API description to the given file in binary form.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 * @see ApiDescriptionBinaryFormat
+	 */
+	synchronized void writeBinary(Path file) throws IOException {
+		ApiDescriptionBinaryFormat.write(this, file);
+	}
+
 	/**
 	 * Persists the elements in the given map as XML elements, appended to the
 	 * given xmlElement.
@@ -144,6 +144,32 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 	}
 
+	/**
+	 * The result of comparing one type between the reference and the current
+	 * component
+	 */
+	private static final class TypeComparison {
+		final String typeName;
+		/**
+		 * If the type was compared, i.e. the previous state of the type has
+		 * to be cleared
+		 */
+		boolean compared = false;
+		/**
+		 * The computed delta or <code>null</code>
+		 */
+		IDelta delta = null;
+
+		TypeComparison(String typeName) {
+			this.typeName = typeName;
+		}
+	}
+
+	/**
+	 * Value of {@link #fParallelism} if the preference should be used
+	 */
+	private static final int PARALLELISM_UNSET = -1;
+
 	/**
 	 * The backing list of problems found so far
 	 */
@@ -180,12 +206,42 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	private boolean fContinueOnResolutionError = false;
 
+	/**
+	 * The number of threads used to compare types and to scan for API use, or
+	 * {@link #PARALLELISM_UNSET} to use the
+	 * {@link IApiCoreConstants#ANALYSIS_PARALLELISM} preference.
+	 */
+	private int fParallelism = PARALLELISM_UNSET;
+
 	/**
 	 * Constructs an API analyzer
 	 */
 	public BaseApiAnalyzer() {
 	}
 
+	/**
+	 * Sets the number of threads used to compare types and to scan for API
+	 * use. By default the {@link IApiCoreConstants#ANALYSIS_PARALLELISM}
+	 * preference is used.
+	 *
+	 * @param parallelism the number of threads, <code>0</code> to use all
+	 *            available processors
+	 * @since 1.3.800
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism = ParallelAnalysis.toThreadCount(parallelism);
+	}
+
+	/**
+	 * @return the number of threads to use for the analysis
+	 */
+	private int getParallelism() {
+		if (fParallelism == PARALLELISM_UNSET) {
+			return ParallelAnalysis.getParallelism();
+		}
+		return fParallelism;
+	}
+
 	@Override
 	public void analyzeComponent(final BuildState state, final IApiFilterStore filterStore, final Properties preferences, final IApiBaseline baseline, final IApiComponent component, final IBuildContext context, IProgressMonitor monitor) {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_analyzing_api, 6);
@@ -617,11 +673,42 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	private void checkCompatibility(String[] changedtypes, IApiComponent reference, IApiComponent component, SubMonitor localMonitor) throws CoreException {
 		localMonitor.setWorkRemaining(changedtypes.length);
+		int parallelism = getParallelism();
+		if (parallelism <= 1) {
+			for (String changedtype : changedtypes) {
+				if (changedtype == null) {
+					continue;
+				}
+				checkCompatibility(changedtype, reference, component, localMonitor.split(1));
+			}
+			return;
+		}
+		// compare the types in parallel, but process the deltas in the order
+		// of the types to keep the problems deterministic
+		List<String> typeNames = new ArrayList<>(changedtypes.length);
 		for (String changedtype : changedtypes) {
-			if (changedtype == null) {
-				continue;
+			if (changedtype != null) {
+				typeNames.add(changedtype);
+			}
+		}
+		localMonitor.setWorkRemaining(typeNames.size());
+		localMonitor.subTask(BuilderMessages.BaseApiAnalyzer_checking_compat);
+		IProgressMonitor compareMonitor = ParallelAnalysis.cancellationOnly(localMonitor);
+		List<Object> comparisons = ParallelAnalysis.map(typeNames, parallelism, typeName -> {
+			try {
+				return compareType(typeName, reference, component, compareMonitor);
+			} catch (CoreException e) {
+				return e;
+			}
+		}, compareMonitor);
+		for (Object comparison : comparisons) {
+			if (comparison instanceof CoreException) {
+				throw (CoreException) comparison;
+			}
+			SubMonitor iterationMonitor = localMonitor.split(1);
+			if (comparison != null) {
+				processComparison((TypeComparison) comparison, reference, component, iterationMonitor);
 			}
-			checkCompatibility(changedtype, reference, component, localMonitor.split(1));
 		}
 	}
 
@@ -1247,7 +1334,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			scope = getSearchScope(component, null); // entire component
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, MessageFormat.format(BuilderMessages.checking_api_usage, component.getSymbolicName()), 2);
-		ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+		ReferenceAnalyzer analyzer = new ReferenceAnalyzer(getParallelism());
 		try {
 			long start = System.currentTimeMillis();
 			IApiProblem[] illegal = analyzer.analyze(component, scope, localMonitor.split(2));
@@ -1308,6 +1395,21 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * @param typeName the type to check in each component
 	 */
 	private void checkCompatibility(final String typeName, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_checking_compat, 4);
+		TypeComparison comparison = compareType(typeName, reference, component, subMonitor.split(2));
+		processComparison(comparison, reference, component, subMonitor.split(2));
+	}
+
+	/**
+	 * Computes the delta of the given type between the two API components.
+	 * This does not change the state of the analyzer and can be called from
+	 * several threads at once.
+	 *
+	 * @param typeName the type to check in each component
+	 * @return the comparison, never <code>null</code>
+	 */
+	private TypeComparison compareType(final String typeName, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) throws CoreException {
+		TypeComparison comparison = new TypeComparison(typeName);
 		String id = component.getSymbolicName();
 		if (ApiPlugin.DEBUG_API_ANALYZER) {
 			System.out.println("comparing components [" + reference.getSymbolicName() + "] and [" + id + "] for type [" + typeName + "]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
@@ -1318,7 +1420,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		} catch (CoreException e) {
 			ApiPlugin.log(e);
 		}
-		SubMonitor subMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_checking_compat, 4);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
 		IDelta delta = null;
 		IApiComponent provider = null;
 		boolean reexported = false;
@@ -1363,7 +1465,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				try {
 					IApiType type = referenceClassFile.getStructure();
 					if (type == null) {
-						return;
+						return comparison;
 					}
 					final IApiDescription referenceApiDescription = reference.getApiDescription();
 					IApiAnnotations elementDescription = referenceApiDescription.resolveAnnotations(type.getHandle());
@@ -1379,7 +1481,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 						// if the visibility is API, we only consider public
 						// and protected types
 						if (Util.isDefault(type.getModifiers()) || Flags.isPrivate(type.getModifiers())) {
-							return;
+							return comparison;
 						}
 						if (VisibilityModifiers.isAPI(visibility)) {
 							String deltaComponentID = Util.getDeltaComponentVersionsId(reference);
@@ -1394,7 +1496,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			}
 			subMonitor.split(1);
 		} else {
-			fBuildState.cleanup(typeName);
+			comparison.compared = true;
 			long time = System.currentTimeMillis();
 			try {
 				IApiComponent exporter = null;
@@ -1414,9 +1516,26 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				if (ApiPlugin.DEBUG_API_ANALYZER) {
 					System.out.println("Time spent for " + typeName + " : " + (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 				}
-				fPendingDeltaInfos.clear();
 			}
 		}
+		comparison.delta = delta;
+		return comparison;
+	}
+
+	/**
+	 * Records the result of a type comparison: updates the build state and
+	 * creates the problems for the computed delta.
+	 *
+	 * @param comparison the result of
+	 *            {@link #compareType(String, IApiComponent, IApiComponent, IProgressMonitor)}
+	 */
+	private void processComparison(TypeComparison comparison, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
+		if (comparison.compared) {
+			fBuildState.cleanup(comparison.typeName);
+			fPendingDeltaInfos.clear();
+		}
+		IDelta delta = comparison.delta;
 		if (delta == null) {
 			return;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,7 +59,7 @@ import org.eclipse.pde.core.build.IBuildModel;
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 34;
 
 	private final Map<String, Set<IDelta>> compatibleChanges;
 	private final Map<String, Set<IDelta>> breakingChanges;
@@ -76,6 +76,13 @@ public class BuildState {
 	 */
 	private Map<String, String> buildPropChanges;
 	private String[] reexportedComponents;
+	/**
+	 * Map of type names to the fingerprints of their last analyzed state
+	 *
+	 * @see TypeFingerprint
+	 * @since 1.3.800
+	 */
+	private final Map<String, byte[]> typeFingerprints;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
 
@@ -87,6 +94,7 @@ public class BuildState {
 		this.breakingChanges = new LinkedHashMap<>();
 		this.manifestChanges = new LinkedHashMap<>();
 		this.buildPropChanges = new LinkedHashMap<>();
+		this.typeFingerprints = new HashMap<>();
 	}
 
 	/**
@@ -155,6 +163,14 @@ public class BuildState {
 					}
 					state.setBuildPropertiesState(map);
 				}
+				count = in.readInt();
+				// read the type fingerprints
+				for (int i = 0; i < count; i++) {
+					String typeName = in.readUTF();
+					byte[] fingerprint = new byte[in.readInt()];
+					in.readFully(fingerprint);
+					state.typeFingerprints.put(typeName, fingerprint);
+				}
 			}
 			return state;
 		}
@@ -210,6 +226,12 @@ public class BuildState {
 			out.writeUTF(entry.getKey());
 			out.writeUTF(entry.getValue());
 		}
+		out.writeInt(state.typeFingerprints.size());
+		for (Entry<String, byte[]> fingerprint : state.typeFingerprints.entrySet()) {
+			out.writeUTF(fingerprint.getKey());
+			out.writeInt(fingerprint.getValue().length);
+			out.write(fingerprint.getValue());
+		}
 	}
 
 	/**
@@ -370,9 +392,32 @@ public class BuildState {
 	public void cleanup(String typeName) {
 		this.breakingChanges.remove(typeName);
 		this.compatibleChanges.remove(typeName);
+		this.typeFingerprints.remove(typeName);
 		this.reexportedComponents = null;
 	}
 
+	/**
+	 * Returns the fingerprint of the given type when it was last analyzed.
+	 *
+	 * @param typeName the name of the type
+	 * @return the fingerprint or <code>null</code> if none is known
+	 * @since 1.3.800
+	 */
+	public byte[] getTypeFingerprint(String typeName) {
+		return this.typeFingerprints.get(typeName);
+	}
+
+	/**
+	 * Remembers the fingerprint of the given type after it has been analyzed.
+	 *
+	 * @param typeName the name of the type
+	 * @param fingerprint the fingerprint of the analyzed type
+	 * @since 1.3.800
+	 */
+	public void setTypeFingerprint(String typeName, byte[] fingerprint) {
+		this.typeFingerprints.put(typeName, fingerprint);
+	}
+
 	/**
 	 * Sets the current list if re-exported {@link IApiComponent}s for this
 	 * build state
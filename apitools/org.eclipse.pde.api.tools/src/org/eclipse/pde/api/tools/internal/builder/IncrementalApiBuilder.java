@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,11 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -185,6 +188,11 @@ public class IncrementalApiBuilder {
 	ApiAnalysisBuilder builder = null;
 	BuildContext context = null;
 	IApiBaseline workspaceBaseline = null;
+	/**
+	 * Fingerprints of the changed types being built, saved in the build state
+	 * once the types have been analyzed
+	 */
+	Map<String, byte[]> fingerprints = new HashMap<>();
 
 	/**
 	 * Constructor
@@ -234,7 +242,8 @@ public class IncrementalApiBuilder {
 			for (IResourceDelta delta : deltas) {
 				delta.accept(visitor);
 			}
-			buildContext(project, state, visitor.changes, depprojects);
+			List<Change> changes = visitor.buildpathChanged ? visitor.changes : skipUnchangedTypes(project, buildstate, visitor.changes);
+			buildContext(project, state, changes, depprojects);
 			build(project, baseline, wbaseline, state, buildstate, localmonitor.split(1));
 		} catch (OperationCanceledException oce) {
 			// do nothing, but don't forward it
@@ -272,8 +281,79 @@ public class IncrementalApiBuilder {
 				this.builder.getAnalyzer().analyzeComponent(buildstate, null, null, baseline, comp, this.context, localmonitor.split(1));
 				localmonitor.split(1);
 				this.builder.createMarkers();
+				for (Entry<String, byte[]> entry : this.fingerprints.entrySet()) {
+					buildstate.setTypeFingerprint(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * API problem markers created on Java files, their positions are not
+	 * updated when the file is edited
+	 */
+	private static final String[] SOURCE_MARKER_TYPES = {
+			IApiMarkerConstants.COMPATIBILITY_PROBLEM_MARKER, IApiMarkerConstants.API_USAGE_PROBLEM_MARKER,
+			IApiMarkerConstants.SINCE_TAGS_PROBLEM_MARKER, IApiMarkerConstants.UNSUPPORTED_TAG_PROBLEM_MARKER,
+			IApiMarkerConstants.UNSUPPORTED_ANNOTATION_PROBLEM_MARKER, IApiMarkerConstants.UNUSED_FILTER_PROBLEM_MARKER };
+
+	/**
+	 * Removes the changes of Java files whose types have the same fingerprint
+	 * as when they were last analyzed: their problems are still valid and
+	 * their dependents are not affected. The fingerprints of the other changed
+	 * types of the project are remembered to be saved once they have been
+	 * analyzed.
+	 * <p>
+	 * Java files with API problem markers are always analyzed again, the edit
+	 * may have moved the source ranges the markers point to.
+	 * </p>
+	 *
+	 * @param project the project being built
+	 * @param buildstate the current API tools build state
+	 * @param changes the changes found in the resource deltas
+	 * @return the changes that need to be built
+	 * @see TypeFingerprint
+	 */
+	List<Change> skipUnchangedTypes(IProject project, BuildState buildstate, List<Change> changes) {
+		if (!TypeFingerprint.isEnabled()) {
+			return changes;
+		}
+		List<Change> remaining = new ArrayList<>(changes.size());
+		for (Change change : changes) {
+			if (change.fileKind == JAVA__FILE && change.deltaKind != IResourceDelta.REMOVED && change.project.equals(project)) {
+				byte[] fingerprint = TypeFingerprint.compute(change.resource);
+				if (fingerprint != null) {
+					// description changes are always analyzed
+					if (change.changeKind == STRUCTURAL && Arrays.equals(fingerprint, buildstate.getTypeFingerprint(change.typeName))
+							&& !hasSourceMarkers(change.resource)) {
+						if (ApiPlugin.DEBUG_BUILDER) {
+							System.out.println("ApiAnalysisBuilder: Skipping unchanged type " + change.typeName); //$NON-NLS-1$
+						}
+						continue;
+					}
+					this.fingerprints.put(change.typeName, fingerprint);
+				}
+			}
+			remaining.add(change);
+		}
+		return remaining;
+	}
+
+	/**
+	 * @return <code>true</code> if the given Java file has API problem markers
+	 */
+	private static boolean hasSourceMarkers(IResource resource) {
+		try {
+			for (String type : SOURCE_MARKER_TYPES) {
+				if (resource.findMaxProblemSeverity(type, false, IResource.DEPTH_ZERO) != -1) {
+					return true;
+				}
 			}
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+			return true;
 		}
+		return false;
 	}
 
 	/**
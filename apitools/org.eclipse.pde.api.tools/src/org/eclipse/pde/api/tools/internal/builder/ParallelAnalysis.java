@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.DefaultScope;
+import org.eclipse.core.runtime.preferences.IScopeContext;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Runs independent parts of the API analysis on a bounded fork-join pool
+ * shared by all analyses. Results are always returned in the order of the
+ * inputs, so problems and deltas are merged deterministically regardless of
+ * the degree of parallelism.
+ */
+public final class ParallelAnalysis {
+
+	/**
+	 * Value for {@link IApiCoreConstants#ANALYSIS_PARALLELISM} to use all
+	 * available processors
+	 */
+	public static final int ALL_PROCESSORS = 0;
+
+	/**
+	 * Number of threads passed to the public analysis entry points to use the
+	 * {@link IApiCoreConstants#ANALYSIS_PARALLELISM} preference
+	 */
+	public static final int PREFERENCE = -1;
+
+	/**
+	 * The pool shared by all analyses, created on first use. Its size bounds
+	 * the threads of all concurrent analyses.
+	 */
+	private static ForkJoinPool fgPool;
+
+	/**
+	 * The degree of parallelism requested for this session, overriding the
+	 * preference, or <code>null</code>
+	 */
+	private static volatile Integer fgParallelismOverride;
+
+	private ParallelAnalysis() {
+	}
+
+	/**
+	 * Overrides the {@link IApiCoreConstants#ANALYSIS_PARALLELISM} preference
+	 * for this session without persisting it, e.g. with the value of a command
+	 * line argument.
+	 *
+	 * @param value {@link #ALL_PROCESSORS}, a positive number of threads or
+	 *            <code>null</code> to use the preference again
+	 */
+	public static void setParallelismOverride(Integer value) {
+		fgParallelismOverride = value;
+	}
+
+	/**
+	 * Returns the degree of parallelism configured with the
+	 * {@link IApiCoreConstants#ANALYSIS_PARALLELISM} preference,
+	 * <code>1</code> if the analysis should run sequentially.
+	 *
+	 * @return the number of threads to use for the analysis
+	 */
+	public static int getParallelism() {
+		Integer override = fgParallelismOverride;
+		if (override != null) {
+			return toThreadCount(override.intValue());
+		}
+		if (!ApiPlugin.isRunningInFramework()) {
+			return 1;
+		}
+		IScopeContext[] contexts = { InstanceScope.INSTANCE, DefaultScope.INSTANCE };
+		int value = Platform.getPreferencesService().getInt(ApiPlugin.PLUGIN_ID, IApiCoreConstants.ANALYSIS_PARALLELISM, 1, contexts);
+		return toThreadCount(value);
+	}
+
+	/**
+	 * Returns the number of threads for a number requested by a caller of the
+	 * analysis.
+	 *
+	 * @param parallelism {@link #PREFERENCE} or a number of threads
+	 * @return the number of threads, at least <code>1</code>
+	 */
+	public static int getParallelism(int parallelism) {
+		return parallelism == PREFERENCE ? getParallelism() : Math.max(1, parallelism);
+	}
+
+	/**
+	 * Converts a preference value into a number of threads.
+	 *
+	 * @param value preference value, {@link #ALL_PROCESSORS} or a positive
+	 *            number of threads
+	 * @return the number of threads, at least <code>1</code>
+	 */
+	public static int toThreadCount(int value) {
+		if (value == ALL_PROCESSORS) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+		return Math.max(1, value);
+	}
+
+	/**
+	 * Applies the given function to all items using at most
+	 * <code>parallelism</code> threads of the shared pool and returns the
+	 * results in the order of the items. When called from a task of another
+	 * call, the items are processed by the calling thread, the outer call
+	 * already keeps its threads busy.
+	 *
+	 * @param items the items to process
+	 * @param parallelism the maximum number of threads to use
+	 * @param function the function to apply, must be thread safe
+	 * @param monitor monitor used to check for cancellation only
+	 * @return the results in input order
+	 * @throws OperationCanceledException if the monitor is canceled before all
+	 *             items are processed
+	 */
+	public static <T, R> List<R> map(List<T> items, int parallelism, Function<T, R> function, IProgressMonitor monitor) {
+		ForkJoinPool pool = parallelism > 1 && items.size() > 1 ? getPool() : null;
+		if (pool == null || ForkJoinTask.getPool() == pool) {
+			List<R> results = new ArrayList<>(items.size());
+			for (T item : items) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				results.add(function.apply(item));
+			}
+			return results;
+		}
+		// a fixed number of tasks take the items in turn, which bounds the
+		// threads used by this call independent of the size of the pool
+		Object[] results = new Object[items.size()];
+		AtomicInteger next = new AtomicInteger();
+		int workers = Math.min(parallelism, items.size());
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+		for (int w = 0; w < workers; w++) {
+			tasks.add(pool.submit(() -> {
+				for (int i = next.getAndIncrement(); i < results.length && !monitor.isCanceled(); i = next
+						.getAndIncrement()) {
+					results[i] = function.apply(items.get(i));
+				}
+			}));
+		}
+		RuntimeException failure = null;
+		for (ForkJoinTask<?> task : tasks) {
+			try {
+				task.join();
+			} catch (RuntimeException e) {
+				if (failure == null) {
+					failure = e;
+					// let the other tasks stop after their current item
+					next.set(results.length);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		if (next.get() < results.length || monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		@SuppressWarnings("unchecked")
+		List<R> list = (List<R>) Arrays.asList(results);
+		return list;
+	}
+
+	private static synchronized ForkJoinPool getPool() {
+		if (fgPool == null) {
+			fgPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("API Analysis Worker-" + thread.getPoolIndex()); //$NON-NLS-1$
+				return thread;
+			}, null, false);
+		}
+		return fgPool;
+	}
+
+	/**
+	 * Returns a monitor that can be handed to a task running on another thread:
+	 * it only forwards cancellation checks to the given monitor.
+	 *
+	 * @param monitor the monitor of the calling thread
+	 * @return a thread safe monitor
+	 */
+	public static IProgressMonitor cancellationOnly(IProgressMonitor monitor) {
+		return new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+
+			@Override
+			public void setCanceled(boolean cancelled) {
+				monitor.setCanceled(cancelled);
+			}
+		};
+	}
+}
@@ -14,14 +14,18 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
@@ -83,41 +87,14 @@ public class ReferenceAnalyzer {
 		@Override
 		public void visit(String packageName, IApiTypeRoot classFile) {
 			if (!fMonitor.isCanceled()) {
+				if (fTypeRoots != null) {
+					// references are extracted in parallel once all type roots
+					// are known
+					fTypeRoots.add(classFile);
+					return;
+				}
 				try {
-					IApiType type = classFile.getStructure();
-					if (type == null) {
-						// do nothing for bad class files
-						return;
-					}
-					// don't process inner/anonymous/local types, this is done
-					// in the extractor
-					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
-						return;
-					}
-					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
-					// keep potential matches
-					for (IReference ref : references) {
-						if (fMonitor.isCanceled()) {
-							break;
-						}
-						// compute index of interested problem detectors
-						int index = getLog2(ref.getReferenceKind());
-						IApiProblemDetector[] detectors = fIndexedDetectors[index];
-						boolean added = false;
-						if (detectors != null) {
-							for (IApiProblemDetector detector : detectors) {
-								if (fMonitor.isCanceled()) {
-									break;
-								}
-								if (detector.considerReference(ref, fMonitor)) {
-									if (!added) {
-										fReferences.add(ref);
-										added = true;
-									}
-								}
-							}
-						}
-					}
+					considerReferences(extractReferences(classFile), fMonitor);
 				} catch (CoreException e) {
 					fStatus.add(e.getStatus());
 					AbstractProblemDetector.checkIfDisposed(classFile.getApiComponent(), fMonitor);
@@ -126,6 +103,86 @@ public class ReferenceAnalyzer {
 		}
 	}
 
+	/**
+	 * Extracts the references of the given type root.
+	 *
+	 * @param classFile the type root
+	 * @return the references or <code>null</code> if the type root is not
+	 *         processed
+	 * @throws CoreException if the references cannot be extracted
+	 */
+	List<IReference> extractReferences(IApiTypeRoot classFile) throws CoreException {
+		IApiType type;
+		Set<Reference> references = null;
+		if (classFile instanceof AbstractApiTypeRoot root && classFile.getTypeName().indexOf('$') < 0) {
+			// if the structure is not known yet, extract the references in the
+			// same read of the class file that builds it. A structure found in
+			// the cache or a type structure index is not built from the class
+			// file, its references are extracted below. Types with a '$' in
+			// their name are most likely nested and are processed by the
+			// extractor of their top level type, so they are read without code
+			Set<Reference> collector = new HashSet<>();
+			boolean[] extracted = new boolean[1];
+			type = root.getStructure(t -> {
+				extracted[0] = true;
+				return new ReferenceExtractor(t, collector, fAllReferenceKinds);
+			});
+			if (extracted[0]) {
+				references = collector;
+			}
+		} else {
+			type = classFile.getStructure();
+		}
+		if (type == null) {
+			// do nothing for bad class files
+			return null;
+		}
+		// don't process inner/anonymous/local types, this is done
+		// in the extractor
+		if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
+			return null;
+		}
+		if (references != null) {
+			return new LinkedList<>(references);
+		}
+		return type.extractReferences(fAllReferenceKinds, null);
+	}
+
+	/**
+	 * Hands the given references off to the interested problem detectors and
+	 * keeps the potential matches.
+	 *
+	 * @param references the extracted references or <code>null</code>
+	 * @param monitor progress monitor
+	 */
+	void considerReferences(List<IReference> references, IProgressMonitor monitor) {
+		if (references == null) {
+			return;
+		}
+		for (IReference ref : references) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			// compute index of interested problem detectors
+			int index = getLog2(ref.getReferenceKind());
+			IApiProblemDetector[] detectors = fIndexedDetectors[index];
+			boolean added = false;
+			if (detectors != null) {
+				for (IApiProblemDetector detector : detectors) {
+					if (monitor.isCanceled()) {
+						break;
+					}
+					if (detector.considerReference(ref, monitor)) {
+						if (!added) {
+							fReferences.add(ref);
+							added = true;
+						}
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Scan status
 	 */
@@ -148,6 +205,35 @@ public class ReferenceAnalyzer {
 	 */
 	private IApiProblemDetector[][] fIndexedDetectors;
 
+	/**
+	 * The maximum number of threads used to extract and resolve references
+	 */
+	private final int fParallelism;
+
+	/**
+	 * Type roots collected for parallel reference extraction or
+	 * <code>null</code> when references are extracted while visiting
+	 */
+	List<IApiTypeRoot> fTypeRoots;
+
+	/**
+	 * Constructor, the analysis runs sequentially
+	 */
+	public ReferenceAnalyzer() {
+		this(1);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param parallelism the maximum number of threads used to extract and
+	 *            resolve references and to create problems
+	 * @since 1.3.800
+	 */
+	public ReferenceAnalyzer(int parallelism) {
+		fParallelism = Math.max(1, parallelism);
+	}
+
 	/**
 	 * Indexes the problem detectors by the reference kinds they are interested
 	 * in. For example, a detector interested in a
@@ -206,10 +292,18 @@ public class ReferenceAnalyzer {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, packageNames.length);
 		ApiTypeContainerVisitor visitor = new Visitor(localMonitor);
 		long start = System.currentTimeMillis();
+		if (fParallelism > 1) {
+			fTypeRoots = new ArrayList<>();
+		}
 		try {
 			scope.accept(visitor);
+			if (fTypeRoots != null) {
+				extractReferencesInParallel(fTypeRoots, localMonitor);
+			}
 		} catch (CoreException e) {
 			fStatus.add(e.getStatus());
+		} finally {
+			fTypeRoots = null;
 		}
 		long end = System.currentTimeMillis();
 		if (!fStatus.isOK()) {
@@ -220,6 +314,35 @@ public class ReferenceAnalyzer {
 		}
 	}
 
+	/**
+	 * Extracts the references of the given type roots using a bounded number of
+	 * threads. The references are handed to the (not thread safe) problem
+	 * detectors afterwards in the order of the type roots.
+	 *
+	 * @param typeRoots the type roots to scan
+	 * @param monitor progress monitor
+	 */
+	private void extractReferencesInParallel(List<IApiTypeRoot> typeRoots, IProgressMonitor monitor) {
+		IProgressMonitor extractMonitor = ParallelAnalysis.cancellationOnly(monitor);
+		List<List<IReference>> references = ParallelAnalysis.map(typeRoots, fParallelism, classFile -> {
+			try {
+				return extractReferences(classFile);
+			} catch (CoreException e) {
+				synchronized (fStatus) {
+					fStatus.add(e.getStatus());
+				}
+				AbstractProblemDetector.checkIfDisposed(classFile.getApiComponent(), extractMonitor);
+				return null;
+			}
+		}, extractMonitor);
+		for (List<IReference> refs : references) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			considerReferences(refs, monitor);
+		}
+	}
+
 	/**
 	 * Analyzes the given {@link IApiComponent} within the given
 	 * {@link IApiTypeContainer} (scope) and returns a collection of detected
@@ -244,12 +367,14 @@ public class ReferenceAnalyzer {
 			// 2. resolve problematic references
 			localMonitor.subTask(BuilderMessages.ReferenceAnalyzer_analyzing_api_checking_use);
 			if (fReferences.size() != 0) {
-				ReferenceResolver.resolveReferences(fReferences);
+				ReferenceResolver.resolveReferences(fReferences, fParallelism);
 			}
 			// 3. create problems
 			List<IApiProblem> allProblems = new LinkedList<>();
 			localMonitor.subTask(BuilderMessages.ReferenceAnalyzer_analyzing_api_checking_use);
 			SubMonitor loopMonitor = localMonitor.split(1).setWorkRemaining(detectors.length);
+			// detectors are not required to be thread safe, they share the
+			// type and method caches of the components they look up
 			for (IApiProblemDetector detector : detectors) {
 				if (monitor.isCanceled()) {
 					break;
@@ -50,7 +50,6 @@ import org.objectweb.asm.Type;
 import org.objectweb.asm.TypePath;
 import org.objectweb.asm.signature.SignatureReader;
 import org.objectweb.asm.signature.SignatureVisitor;
-import org.objectweb.asm.tree.ClassNode;
 
 /**
  * Extracts references from a class file
@@ -935,7 +934,7 @@ public class ReferenceExtractor extends ClassVisitor {
 	 *            {@link IReference}
 	 */
 	public ReferenceExtractor(IApiType type, Set<Reference> collector, int referenceKinds) {
-		super(Util.LATEST_OPCODES_ASM, new ClassNode());
+		super(Util.LATEST_OPCODES_ASM);
 		fType = type;
 		this.collector = collector;
 		fReferenceKinds = referenceKinds;
@@ -947,7 +946,7 @@ public class ReferenceExtractor extends ClassVisitor {
 	 * Constructor
 	 */
 	protected ReferenceExtractor(IApiType type, Set<Reference> collector, int referenceKinds, FieldTracker tracker) {
-		super(Util.LATEST_OPCODES_ASM, new ClassNode());
+		super(Util.LATEST_OPCODES_ASM);
 		fType = type;
 		this.collector = collector;
 		fReferenceKinds = referenceKinds;
@@ -1356,9 +1355,9 @@ public class ReferenceExtractor extends ClassVisitor {
 					}
 				}
 			}
-			MethodVisitor mv = super.visitMethod(access, name, desc, signature, exceptions);
-			if (mv != null && ((access & (Opcodes.ACC_NATIVE | Opcodes.ACC_ABSTRACT)) == 0)) {
-				return new ClassFileMethodVisitor(mv, name, argumentcount);
+			// the method body is only visited, it is not kept as a tree
+			if ((access & (Opcodes.ACC_NATIVE | Opcodes.ACC_ABSTRACT)) == 0) {
+				return new ClassFileMethodVisitor(null, name, argumentcount);
 			}
 		}
 		return null;
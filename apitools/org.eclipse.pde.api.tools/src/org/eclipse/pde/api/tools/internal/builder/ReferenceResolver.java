@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
@@ -44,6 +45,19 @@ public final class ReferenceResolver {
 	 * @throws CoreException if something goes wrong
 	 */
 	public static void resolveReferences(List<IReference> references) throws CoreException {
+		resolveReferences(references, 1);
+	}
+
+	/**
+	 * Resolves retained references, resolving the sets of references to the
+	 * same target using at most the given number of threads.
+	 *
+	 * @param references list of {@link IReference} to resolve
+	 * @param parallelism the maximum number of threads to use
+	 * @throws CoreException if something goes wrong
+	 * @since 1.3.800
+	 */
+	public static void resolveReferences(List<IReference> references, int parallelism) throws CoreException {
 		// sort references by target type for 'shared' resolution
 		int refcount = references.size();
 		Map<String, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
@@ -72,7 +86,11 @@ public final class ReferenceResolver {
 		}
 		// resolve references
 		start = System.currentTimeMillis();
-		resolveReferenceSets(sigtoref);
+		if (parallelism > 1) {
+			resolveReferenceSets(sigtoref, parallelism);
+		} else {
+			resolveReferenceSets(sigtoref);
+		}
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
@@ -95,15 +113,50 @@ public final class ReferenceResolver {
 	 * @throws CoreException if something bad happens
 	 */
 	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
-		IReference ref = null;
 		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
-			if (resolved != null) {
-				for (IReference ref2 : refs) {
-					((Reference) ref2).setResolution(resolved);
-				}
+			resolveReferenceSet(refs);
+		}
+	}
+
+	/**
+	 * Resolves the collect sets of references using at most the given number of
+	 * threads. Each set is only touched by one thread.
+	 *
+	 * @param map the mapping of keys to sets of {@link IReference}s
+	 * @param parallelism the maximum number of threads to use
+	 * @throws CoreException if resolving one of the sets failed
+	 */
+	private static void resolveReferenceSets(Map<String, List<IReference>> map, int parallelism) throws CoreException {
+		List<List<IReference>> sets = new ArrayList<>(map.values());
+		List<CoreException> failures = ParallelAnalysis.map(sets, parallelism, refs -> {
+			try {
+				resolveReferenceSet(refs);
+				return null;
+			} catch (CoreException e) {
+				return e;
+			}
+		}, new NullProgressMonitor());
+		for (CoreException e : failures) {
+			if (e != null) {
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Resolves the first reference of the given set and applies the resolution
+	 * to all other references of the set.
+	 *
+	 * @param refs references to the same target
+	 * @throws CoreException if something bad happens
+	 */
+	private static void resolveReferenceSet(List<IReference> refs) throws CoreException {
+		IReference ref = refs.get(0);
+		((Reference) ref).resolve();
+		IApiMember resolved = ref.getResolvedReference();
+		if (resolved != null) {
+			for (IReference ref2 : refs) {
+				((Reference) ref2).setResolution(resolved);
 			}
 		}
 	}
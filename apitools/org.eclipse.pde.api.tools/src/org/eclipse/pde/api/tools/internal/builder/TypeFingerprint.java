@@ -0,0 +1,375 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.TypePath;
+
+/**
+ * Computes the API fingerprint of the types compiled from a source file. The
+ * fingerprint covers everything the API analysis of a type depends on: the
+ * signatures, modifiers and annotations of the types and their members, the
+ * references made from method bodies and the tag lines of the source (like
+ * <code>@since</code> or restriction tags in Javadoc comments). The values of
+ * constant fields are covered as well, since changing them is reported by the
+ * compatibility analysis. It does not cover line numbers, names of local
+ * variables or the constants loaded in method bodies, so editing a comment or
+ * changing a method body without changing what it references keeps the
+ * fingerprint.
+ * <p>
+ * Fingerprints can be disabled with the
+ * <code>org.eclipse.pde.api.tools.disableTypeFingerprints</code> system
+ * property, in which case every changed type is analyzed again.
+ * </p>
+ */
+public final class TypeFingerprint {
+
+	private static final boolean DISABLED = Boolean.getBoolean("org.eclipse.pde.api.tools.disableTypeFingerprints"); //$NON-NLS-1$
+
+	private TypeFingerprint() {
+	}
+
+	/**
+	 * @return <code>true</code> if fingerprints are used to skip the analysis
+	 *         of unchanged types
+	 */
+	public static boolean isEnabled() {
+		return !DISABLED;
+	}
+
+	/**
+	 * Computes the fingerprint of the types compiled from the given source file
+	 * from its class files in the output location of its source folder.
+	 *
+	 * @param source the Java source file
+	 * @return the fingerprint or <code>null</code> if the source file has no
+	 *         class files or they cannot be read
+	 */
+	public static byte[] compute(IFile source) {
+		if (!(JavaCore.create(source) instanceof ICompilationUnit unit)) {
+			return null;
+		}
+		try {
+			IPackageFragmentRoot root = (IPackageFragmentRoot) unit.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			if (root == null) {
+				return null;
+			}
+			IClasspathEntry entry = root.getRawClasspathEntry();
+			IPath output = entry.getOutputLocation();
+			if (output == null) {
+				output = unit.getJavaProject().getOutputLocation();
+			}
+			String packageName = unit.getParent().getElementName();
+			if (!packageName.isEmpty()) {
+				output = output.append(packageName.replace('.', '/'));
+			}
+			IResource folder = ResourcesPlugin.getWorkspace().getRoot().findMember(output);
+			if (!(folder instanceof IContainer container)) {
+				return null;
+			}
+			List<String> typeNames = new ArrayList<>();
+			typeNames.add(unit.getElementName().substring(0, unit.getElementName().length() - 5));
+			for (IType type : unit.getTypes()) {
+				typeNames.add(type.getElementName());
+			}
+			List<IFile> classFiles = new ArrayList<>();
+			for (IResource member : container.members()) {
+				if (member.getType() == IResource.FILE && Util.isClassFile(member.getName())) {
+					String name = member.getName().substring(0, member.getName().length() - 6);
+					for (String typeName : typeNames) {
+						if (name.equals(typeName) || name.startsWith(typeName + '$')) {
+							classFiles.add((IFile) member);
+							break;
+						}
+					}
+				}
+			}
+			if (classFiles.isEmpty()) {
+				return null;
+			}
+			classFiles.sort(Comparator.comparing(IResource::getName));
+			List<byte[]> contents = new ArrayList<>(classFiles.size());
+			for (IFile classFile : classFiles) {
+				try (InputStream in = classFile.getContents()) {
+					contents.add(in.readAllBytes());
+				}
+			}
+			List<String> lines = new ArrayList<>();
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(source.getContents(), source.getCharset()))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					lines.add(line);
+				}
+			}
+			return compute(contents, lines);
+		} catch (CoreException | IOException e) {
+			if (ApiPlugin.DEBUG_BUILDER) {
+				ApiPlugin.log(e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of the given class files and source lines.
+	 *
+	 * @param classFiles the contents of the class files compiled from the
+	 *            source, in a stable order
+	 * @param sourceLines the lines of the source file
+	 * @return the fingerprint
+	 */
+	public static byte[] compute(List<byte[]> classFiles, List<String> sourceLines) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		FingerprintVisitor visitor = new FingerprintVisitor(digest);
+		for (byte[] classFile : classFiles) {
+			new ClassReader(classFile).accept(visitor, ClassReader.SKIP_FRAMES);
+		}
+		for (String line : sourceLines) {
+			String trimmed = line.trim();
+			if (trimmed.indexOf('@') >= 0) {
+				visitor.put("@", trimmed); //$NON-NLS-1$
+			}
+		}
+		return digest.digest();
+	}
+
+	/**
+	 * Feeds the API relevant parts of a class file to a digest
+	 */
+	private static final class FingerprintVisitor extends ClassVisitor {
+
+		private final MessageDigest fDigest;
+
+		FingerprintVisitor(MessageDigest digest) {
+			super(Util.LATEST_OPCODES_ASM);
+			fDigest = digest;
+		}
+
+		void put(Object... values) {
+			for (Object value : values) {
+				fDigest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+				fDigest.update((byte) 0);
+			}
+		}
+
+		private void putAll(String[] values) {
+			if (values != null) {
+				put((Object[]) values);
+			}
+		}
+
+		@Override
+		public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+			put("class", access, name, signature, superName); //$NON-NLS-1$
+			putAll(interfaces);
+		}
+
+		@Override
+		public void visitOuterClass(String owner, String name, String descriptor) {
+			put("outer", owner, name, descriptor); //$NON-NLS-1$
+		}
+
+		@Override
+		public void visitInnerClass(String name, String outerName, String innerName, int access) {
+			put("inner", name, outerName, innerName, access); //$NON-NLS-1$
+		}
+
+		@Override
+		public void visitNestHost(String nestHost) {
+			put("nesthost", nestHost); //$NON-NLS-1$
+		}
+
+		@Override
+		public void visitPermittedSubclass(String permittedSubclass) {
+			put("permits", permittedSubclass); //$NON-NLS-1$
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			return annotation("annotation", descriptor); //$NON-NLS-1$
+		}
+
+		@Override
+		public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+			return annotation("typeannotation", descriptor); //$NON-NLS-1$
+		}
+
+		@Override
+		public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+			// the value of a constant field is part of the API
+			put("field", access, name, descriptor, signature, value); //$NON-NLS-1$
+			return new FieldVisitor(api) {
+				@Override
+				public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+					return annotation("annotation", annotationDescriptor); //$NON-NLS-1$
+				}
+
+				@Override
+				public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String annotationDescriptor, boolean visible) {
+					return annotation("typeannotation", annotationDescriptor); //$NON-NLS-1$
+				}
+			};
+		}
+
+		@Override
+		public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+			put("method", access, name, descriptor, signature); //$NON-NLS-1$
+			putAll(exceptions);
+			return new MethodVisitor(api) {
+				@Override
+				public AnnotationVisitor visitAnnotationDefault() {
+					return annotation("default", null); //$NON-NLS-1$
+				}
+
+				@Override
+				public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+					return annotation("annotation", annotationDescriptor); //$NON-NLS-1$
+				}
+
+				@Override
+				public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String annotationDescriptor, boolean visible) {
+					return annotation("typeannotation", annotationDescriptor); //$NON-NLS-1$
+				}
+
+				@Override
+				public AnnotationVisitor visitParameterAnnotation(int parameter, String annotationDescriptor, boolean visible) {
+					put("parameter", parameter); //$NON-NLS-1$
+					return annotation("annotation", annotationDescriptor); //$NON-NLS-1$
+				}
+
+				@Override
+				public void visitTypeInsn(int opcode, String type) {
+					put("type", opcode, type); //$NON-NLS-1$
+				}
+
+				@Override
+				public void visitFieldInsn(int opcode, String owner, String fieldName, String fieldDescriptor) {
+					put("fieldref", opcode, owner, fieldName, fieldDescriptor); //$NON-NLS-1$
+				}
+
+				@Override
+				public void visitMethodInsn(int opcode, String owner, String methodName, String methodDescriptor, boolean isInterface) {
+					put("methodref", opcode, owner, methodName, methodDescriptor); //$NON-NLS-1$
+				}
+
+				@Override
+				public void visitInvokeDynamicInsn(String methodName, String methodDescriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+					put("indy", methodName, methodDescriptor, bootstrapMethodHandle); //$NON-NLS-1$
+					for (Object argument : bootstrapMethodArguments) {
+						if (argument instanceof Type || argument instanceof Handle) {
+							put(argument);
+						}
+					}
+				}
+
+				@Override
+				public void visitLdcInsn(Object value) {
+					// only constants referring to types or members matter
+					if (value instanceof Type || value instanceof Handle) {
+						put("ldc", value); //$NON-NLS-1$
+					}
+				}
+
+				@Override
+				public void visitMultiANewArrayInsn(String arrayDescriptor, int numDimensions) {
+					put("newarray", arrayDescriptor); //$NON-NLS-1$
+				}
+
+				@Override
+				public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+					put("catch", type); //$NON-NLS-1$
+				}
+
+				@Override
+				public void visitLocalVariable(String variableName, String variableDescriptor, String variableSignature, Label start, Label end, int index) {
+					put("local", variableDescriptor, variableSignature); //$NON-NLS-1$
+				}
+			};
+		}
+
+		AnnotationVisitor annotation(String kind, String descriptor) {
+			put(kind, descriptor);
+			return new AnnotationVisitor(api) {
+				@Override
+				public void visit(String name, Object value) {
+					put(name, value != null && value.getClass().isArray() ? arrayToString(value) : value);
+				}
+
+				@Override
+				public void visitEnum(String name, String enumDescriptor, String value) {
+					put(name, enumDescriptor, value);
+				}
+
+				@Override
+				public AnnotationVisitor visitAnnotation(String name, String annotationDescriptor) {
+					put(name);
+					return annotation("annotation", annotationDescriptor); //$NON-NLS-1$
+				}
+
+				@Override
+				public AnnotationVisitor visitArray(String name) {
+					put(name, "["); //$NON-NLS-1$
+					return this;
+				}
+			};
+		}
+
+		private static String arrayToString(Object array) {
+			StringBuilder buffer = new StringBuilder();
+			int length = Array.getLength(array);
+			for (int i = 0; i < length; i++) {
+				buffer.append(Array.get(array, i)).append(',');
+			}
+			return buffer.toString();
+		}
+	}
+}
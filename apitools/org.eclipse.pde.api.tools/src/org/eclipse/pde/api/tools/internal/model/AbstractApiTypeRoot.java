@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.pde.api.tools.internal.model;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
@@ -22,6 +23,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.objectweb.asm.ClassVisitor;
 
 /**
  * Common implementation for {@link IApiTypeRoot}
@@ -46,6 +48,28 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 
 	@Override
 	public IApiType getStructure() throws CoreException {
+		return getStructure(null);
+	}
+
+	/**
+	 * Returns the type structure of this type root like {@link #getStructure()}.
+	 * If the structure has to be built from the class file, the complete class
+	 * file is passed on to the visitor created by the given factory in the same
+	 * read. The factory is not called if the structure is already known or is
+	 * not built from the class file, for example when it is read from a
+	 * {@link TypeStructureIndex}, so callers have to check whether it was
+	 * called.
+	 *
+	 * @param visitorFactory creates the visitor to pass the class file on to,
+	 *            or <code>null</code>
+	 * @return the type structure or <code>null</code> if the class file is
+	 *         corrupt
+	 * @throws CoreException if the contents cannot be read
+	 * @see TypeStructureBuilder#buildTypeStructure(byte[], IApiComponent,
+	 *      IApiTypeRoot, Function)
+	 * @since 1.3.800
+	 */
+	public IApiType getStructure(Function<IApiType, ClassVisitor> visitorFactory) throws CoreException {
 		// if exists return
 		if (fType != null) {
 			return fType;
@@ -59,7 +83,7 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 			type = (IApiType) cache.getElementInfo(baseline.getName(), comp.getSymbolicName(), this.getTypeName(), IApiElement.TYPE);
 		}
 		if (type == null) {
-			type = TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+			type = buildStructure(visitorFactory);
 			if (type == null) {
 				return null;
 			}
@@ -79,6 +103,34 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 		return fType;
 	}
 
+	/**
+	 * Builds the type structure for this type root. By default the structure is
+	 * built from the class file contents.
+	 *
+	 * @return the type structure or <code>null</code> if the class file is
+	 *         corrupt
+	 * @throws CoreException if the contents cannot be read
+	 */
+	protected IApiType buildStructure() throws CoreException {
+		return buildStructure(null);
+	}
+
+	/**
+	 * Builds the type structure for this type root, passing the class file on
+	 * to the visitor created by the given factory if the structure is built
+	 * from the class file contents.
+	 *
+	 * @param visitorFactory creates the visitor to pass the class file on to,
+	 *            or <code>null</code>
+	 * @return the type structure or <code>null</code> if the class file is
+	 *         corrupt
+	 * @throws CoreException if the contents cannot be read
+	 * @since 1.3.800
+	 */
+	protected IApiType buildStructure(Function<IApiType, ClassVisitor> visitorFactory) throws CoreException {
+		return TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this, visitorFactory);
+	}
+
 	/**
 	 * @see IApiTypeRoot#getApiComponent()
 	 */
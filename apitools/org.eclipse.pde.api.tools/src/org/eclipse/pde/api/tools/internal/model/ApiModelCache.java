@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,16 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -25,41 +30,152 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 
 /**
  * Manages the caches of {@link IApiElement}s
+ * <p>
+ * The cache is segmented by baseline and then by component, every segment is a
+ * concurrent map of its own. Lookups do not lock, a segment that grows beyond
+ * its size plus overflow evicts its least recently used entries.
+ * </p>
  *
  * @since 1.0.2
  */
 public final class ApiModelCache {
 
 	/**
-	 * Cache used for {@link IApiElement}s
+	 * A cached value and the time it was last used
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	private static final class Entry<V> {
+		final V fValue;
+		volatile long fLastAccess = System.nanoTime();
+
+		Entry(V value) {
+			fValue = value;
+		}
+	}
+
+	/**
+	 * The last access time of an entry taken when evicting, access times can
+	 * change while the entries are sorted
+	 */
+	private record AccessSnapshot<V>(String key, Entry<V> entry, long lastAccess) {
+	}
+
+	/**
+	 * A bounded segment of the cache
+	 */
+	final class Segment<V> {
+
+		private final Map<String, Entry<V>> fEntries = new ConcurrentHashMap<>();
+		private final ReentrantLock fEvictionLock = new ReentrantLock();
+		private final int fSize;
+		private final int fOverflow;
+
+		Segment(int size, int overflow) {
+			fSize = Math.max(1, size);
+			fOverflow = Math.max(0, overflow);
+		}
+
+		V get(String key) {
+			Entry<V> entry = fEntries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			entry.fLastAccess = System.nanoTime();
+			return entry.fValue;
+		}
+
+		V getOrCreate(String key, Supplier<V> supplier) {
+			V value = get(key);
+			if (value != null) {
+				return value;
+			}
+			Entry<V> entry = fEntries.computeIfAbsent(key, k -> new Entry<>(supplier.get()));
+			checkSize();
+			return entry.fValue;
+		}
+
+		void put(String key, V value) {
+			fEntries.put(key, new Entry<>(value));
+			checkSize();
+		}
+
+		V remove(String key) {
+			Entry<V> entry = fEntries.remove(key);
+			return entry == null ? null : entry.fValue;
+		}
 
 		/**
-		 * Constructor
+		 * Removes the given key only if it is still mapped to the given value
 		 */
-		public Cache(int size, int overflow) {
-			super(size, overflow);
+		boolean remove(String key, V value) {
+			Entry<V> entry = fEntries.get(key);
+			return entry != null && entry.fValue == value && fEntries.remove(key, entry);
+		}
+
+		List<String> keysSnapshot() {
+			return new ArrayList<>(fEntries.keySet());
 		}
 
-		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
-			return true;
+		boolean isEmpty() {
+			return fEntries.isEmpty();
 		}
 
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
+		void clear() {
+			fEntries.clear();
 		}
 
+		/**
+		 * Evicts the least recently used entries once the segment has
+		 * overflown. Only one thread evicts at a time, other threads keep
+		 * adding entries meanwhile.
+		 */
+		private void checkSize() {
+			if (fEntries.size() <= fSize + fOverflow || !fEvictionLock.tryLock()) {
+				return;
+			}
+			try {
+				int excess = fEntries.size() - fSize;
+				if (excess <= 0) {
+					return;
+				}
+				List<AccessSnapshot<V>> snapshots = new ArrayList<>(fEntries.size());
+				fEntries.forEach((key, entry) -> snapshots.add(new AccessSnapshot<>(key, entry, entry.fLastAccess)));
+				snapshots.sort(Comparator.comparingLong(AccessSnapshot::lastAccess));
+				for (int i = 0; i < excess && i < snapshots.size(); i++) {
+					AccessSnapshot<V> snapshot = snapshots.get(i);
+					if (fEntries.remove(snapshot.key(), snapshot.entry())) {
+						fEvictions.increment();
+					}
+				}
+			} finally {
+				fEvictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * The cached types of one component
+	 */
+	final class ComponentCache {
+		final Segment<IApiElement> fTypes = new Segment<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
+		/**
+		 * Member types by the name of their root type
+		 */
+		final Segment<Segment<ApiType>> fMemberTypes = new Segment<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
+
+		boolean isEmpty() {
+			return fTypes.isEmpty() && fMemberTypes.isEmpty();
+		}
 	}
 
 	static final int DEFAULT_CACHE_SIZE = 1000;
 	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	final Segment<Segment<ComponentCache>> fRootCache = new Segment<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
+
+	final LongAdder fHits = new LongAdder();
+	final LongAdder fMisses = new LongAdder();
+	final LongAdder fEvictions = new LongAdder();
 
 	/**
 	 * Constructor - no instantiation
@@ -79,18 +195,6 @@ public final class ApiModelCache {
 		return fInstance;
 	}
 
-	/**
-	 * Returns the key to use in a cache. The key is of the form:
-	 * <code>[baselineid].[componentid].[typename]</code><br>
-	 *
-	 * @return the member type cache key to use
-	 */
-	private String getCacheKey(String baseline, String component, String typename) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(baseline).append('.').append(component).append('.').append(typename);
-		return buffer.toString();
-	}
-
 	/**
 	 * Caches the given {@link IApiElement} in the correct cache based on its
 	 * type.
@@ -103,9 +207,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -113,45 +214,18 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
+					Segment<ComponentCache> compcache = fRootCache.getOrCreate(baseline.getName(),
+							() -> new Segment<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2));
+					ComponentCache cache = compcache.getOrCreate(id, ComponentCache::new);
 					ApiType type = (ApiType) element;
-					if (type.isMemberType() || isMemberType(type.getName()) /*
-																			 * cache
-																			 * even
-																			 * a
-																			 * root
-																			 * type
-																			 * with
-																			 * a
-																			 * '$'
-																			 * in
-																			 * its
-																			 * name
-																			 * here
-																			 * as
-																			 * well
-																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
-						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
+					// cache even a root type with a '$' in its name as a
+					// member type
+					if (type.isMemberType() || isMemberType(type.getName())) {
+						Segment<ApiType> mcache = cache.fMemberTypes.getOrCreate(getRootName(type.getName()),
+								() -> new Segment<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW));
 						mcache.put(type.getName(), type);
 					} else {
-						typecache.put(element.getName(), element);
+						cache.fTypes.put(element.getName(), element);
 					}
 				}
 				break;
@@ -184,6 +258,14 @@ public final class ApiModelCache {
 		return typename.indexOf('$') > -1;
 	}
 
+	/**
+	 * Returns the cached types of the given component or <code>null</code>
+	 */
+	private ComponentCache getComponentCache(String baselineid, String componentid) {
+		Segment<ComponentCache> compcache = fRootCache.get(baselineid);
+		return compcache == null ? null : compcache.get(componentid);
+	}
+
 	/**
 	 * Returns the {@link IApiElement} infos for the element referenced by the
 	 * given identifier and of the given type.
@@ -205,27 +287,12 @@ public final class ApiModelCache {
 		}
 		switch (type) {
 			case IApiElement.TYPE: {
-				if (isMemberType(identifier)) {
-					if (this.fMemberTypeCache != null) {
-						Cache<String, ApiType> mcache = this.fMemberTypeCache
-								.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						if (mcache != null) {
-							return mcache.get(identifier);
-						}
-					}
-				} else {
-					if (this.fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null && identifier != null) {
-								IApiElement ele = typecache.get(identifier);
-								if (ele != null) {
-									return ele;
-								}
-
-							}
-						}
+				ComponentCache cache = getComponentCache(baselineid, componentid);
+				if (cache != null && identifier != null) {
+					IApiElement ele = getType(cache, identifier);
+					if (ele != null) {
+						fHits.increment();
+						return ele;
 					}
 				}
 				break;
@@ -233,34 +300,43 @@ public final class ApiModelCache {
 			default:
 				break;
 			}
-		if (componentid.startsWith("JavaSE-") && this.fRootCache != null) { //$NON-NLS-1$
+		if (componentid.startsWith("JavaSE-")) { //$NON-NLS-1$
 			// for system component, retrieve element from any baseline instead
 			// of recreating the structure and caching the equivalent element info
 			IApiElement element = getElementInfoFromAnyBaseline(baselineid, componentid, identifier);
 			if (element != null) {
+				fHits.increment();
 				return element;
 			}
 		}
+		fMisses.increment();
 		return null;
 	}
 
+	private IApiElement getType(ComponentCache cache, String identifier) {
+		if (isMemberType(identifier)) {
+			Segment<ApiType> mcache = cache.fMemberTypes.get(getRootName(identifier));
+			return mcache == null ? null : mcache.get(identifier);
+		}
+		return cache.fTypes.get(identifier);
+	}
+
 	private IApiElement getElementInfoFromAnyBaseline(String baselineid, String componentid, String updatedIdentifier) {
-		List<String> elements = fRootCache.keysSnapshot();
-		for (String otherBaselines : elements) {
-				if (otherBaselines.equals(baselineid)) {
-					continue;
-				}
-				Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(otherBaselines);
-				if (compcache != null) {
-					Cache<String, IApiElement> typecache = compcache.get(componentid);
-					if (typecache != null && updatedIdentifier != null) {
-						IApiElement ele = typecache.get(updatedIdentifier);
-						if (ele != null) {
-							return ele;
-						}
-					}
+		if (updatedIdentifier == null || isMemberType(updatedIdentifier)) {
+			return null;
+		}
+		for (String otherBaselines : fRootCache.keysSnapshot()) {
+			if (otherBaselines.equals(baselineid)) {
+				continue;
+			}
+			ComponentCache cache = getComponentCache(otherBaselines, componentid);
+			if (cache != null) {
+				IApiElement ele = cache.fTypes.get(updatedIdentifier);
+				if (ele != null) {
+					return ele;
 				}
 			}
+		}
 		return null;
 	}
 
@@ -282,48 +358,37 @@ public final class ApiModelCache {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (componentid != null && identifier != null) {
-					boolean removed = true;
-					// clean member type cache
-					if (this.fMemberTypeCache != null) {
-						if (isMemberType(identifier)) {
-							Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-							if (mcache != null) {
-								return mcache.remove(identifier) != null;
-							}
-						} else {
-							this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						}
-					}
-					if (fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null) {
-								removed &= typecache.remove(identifier) != null;
-								if (typecache.isEmpty()) {
-									removed &= compcache.remove(componentid) != null;
-								}
-								if (compcache.isEmpty()) {
-									removed &= fRootCache.remove(baselineid) != null;
-								}
-								return removed;
-							}
-
-						}
-					} else {
+					Segment<ComponentCache> compcache = fRootCache.get(baselineid);
+					ComponentCache cache = compcache == null ? null : compcache.get(componentid);
+					if (cache == null) {
 						return false;
 					}
+					if (isMemberType(identifier)) {
+						Segment<ApiType> mcache = cache.fMemberTypes.get(getRootName(identifier));
+						return mcache != null && mcache.remove(identifier) != null;
+					}
+					// clean the member types of the type
+					cache.fMemberTypes.remove(identifier);
+					boolean removed = cache.fTypes.remove(identifier) != null;
+					// an element cached concurrently while the segments are
+					// dropped is simply lost, which only costs a cache miss
+					if (cache.isEmpty()) {
+						removed &= compcache.remove(componentid, cache);
+					}
+					if (compcache.isEmpty()) {
+						removed &= fRootCache.remove(baselineid, compcache);
+					}
+					return removed;
 				}
 				break;
 			}
 			case IApiElement.COMPONENT: {
-				flushMemberCache();
-				if (fRootCache != null && componentid != null) {
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
+				if (componentid != null) {
+					Segment<ComponentCache> compcache = fRootCache.get(baselineid);
 					if (compcache != null) {
 						boolean removed = compcache.remove(componentid) != null;
 						if (compcache.isEmpty()) {
-							removed &= fRootCache.remove(baselineid) != null;
+							removed &= fRootCache.remove(baselineid, compcache);
 						}
 						return removed;
 					}
@@ -331,11 +396,7 @@ public final class ApiModelCache {
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					return fRootCache.remove(baselineid) != null;
-				}
-				break;
+				return fRootCache.remove(baselineid) != null;
 			}
 			default:
 				break;
@@ -356,26 +417,20 @@ public final class ApiModelCache {
 		switch (element.getType()) {
 			case IApiElement.COMPONENT:
 			case IApiElement.TYPE: {
-				if (fRootCache != null) {
-					IApiComponent comp = element.getApiComponent();
-					if (comp != null) {
-						try {
-							IApiBaseline baseline = comp.getBaseline();
-							return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
-						} catch (CoreException ce) {
-							ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
-						}
+				IApiComponent comp = element.getApiComponent();
+				if (comp != null) {
+					try {
+						IApiBaseline baseline = comp.getBaseline();
+						return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
+					} catch (CoreException ce) {
+						ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
-					return fRootCache.remove(baseline.getName()) != null;
-				}
-				break;
+				IApiBaseline baseline = (IApiBaseline) element;
+				return fRootCache.remove(baseline.getName()) != null;
 			}
 			default:
 				break;
@@ -387,19 +442,7 @@ public final class ApiModelCache {
 	 * Clears out all cached information.
 	 */
 	public void flushCaches() {
-		if (fRootCache != null) {
-			fRootCache.flush();
-		}
-		flushMemberCache();
-	}
-
-	/**
-	 * Flushes the cache of member types
-	 */
-	private void flushMemberCache() {
-		if (this.fMemberTypeCache != null) {
-			this.fMemberTypeCache.flush();
-		}
+		fRootCache.clear();
 	}
 
 	/**
@@ -408,13 +451,34 @@ public final class ApiModelCache {
 	 * @return true if the cache has no entries, false otherwise
 	 */
 	public boolean isEmpty() {
-		boolean empty = true;
-		if (fRootCache != null) {
-			empty &= fRootCache.isEmpty();
-		}
-		if (this.fMemberTypeCache != null) {
-			empty &= this.fMemberTypeCache.isEmpty();
-		}
-		return empty;
+		return fRootCache.isEmpty();
+	}
+
+	/**
+	 * @return the number of type lookups answered from the cache
+	 */
+	public long getHits() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of type lookups not found in the cache
+	 */
+	public long getMisses() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return the number of baselines, components, and types evicted to keep
+	 *         the cache within its size
+	 */
+	public long getEvictions() {
+		return fEvictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "API model cache: " + getHits() + " hits, " + getMisses() + " misses, " + getEvictions() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ " evictions"; //$NON-NLS-1$
 	}
 }
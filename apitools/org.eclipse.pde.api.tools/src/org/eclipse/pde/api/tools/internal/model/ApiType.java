@@ -627,6 +627,67 @@ public class ApiType extends ApiMember implements IApiType {
 		return fEnclosingType;
 	}
 
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the raw name of the enclosing type or <code>null</code>
+	 */
+	String getEnclosingTypeName() {
+		return fEnclosingTypeName;
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the simple name recorded while building the structure or
+	 *         <code>null</code>
+	 */
+	String getRecordedSimpleName() {
+		return fSimpleName;
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the simple names of the member types of this type, never
+	 *         <code>null</code>
+	 */
+	String[] getMemberTypeNames() {
+		if (fMemberTypes == null) {
+			return new String[0];
+		}
+		return fMemberTypes.keySet().toArray(String[]::new);
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return <code>true</code> if the enclosing method information has been
+	 *         set on this type
+	 */
+	boolean hasEnclosingMethodInfo() {
+		return fEnclosingMethodName != null;
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the enclosing method name or <code>null</code> if there is none
+	 */
+	String getEnclosingMethodName() {
+		return fEnclosingMethodName == NO_ENCLOSING_METHOD ? null : fEnclosingMethodName;
+	}
+
+	/**
+	 * Used when persisting a type structure.
+	 *
+	 * @return the enclosing method signature or <code>null</code> if there is
+	 *         none
+	 */
+	String getEnclosingMethodSignature() {
+		return fEnclosingMethodSignature == NO_ENCLOSING_METHOD ? null : fEnclosingMethodSignature;
+	}
+
 	private String processEnclosingTypeName() {
 		if (isLocal() || isAnonymous()) {
 			int idx = fEnclosingTypeName.lastIndexOf('$');
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
@@ -21,15 +22,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
 import org.eclipse.pde.api.tools.internal.util.Util;
+import org.objectweb.asm.ClassVisitor;
 
 /**
  * {@link IApiTypeContainer} container for an archive (jar or zip) file.
@@ -44,7 +48,6 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	static class ArchiveApiTypeRoot extends AbstractApiTypeRoot implements Comparable<Object> {
 
 		private final String fTypeName;
-		private byte[] fContents = null;
 
 		/**
 		 * Constructs a new handle to an {@link IApiTypeRoot} in the archive.
@@ -82,18 +85,33 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 
 		@Override
 		public byte[] getContents() throws CoreException {
-			if (fContents != null) {
-				return fContents;
-			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
 			try {
-				Path location = archive.getLocation();
-				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
+				return ClassFileCache.getCache().getContents(archive.fLocation, archive.fStamp, archive.fLength, getName(),
+						() -> Files.readAllBytes(archive.getLocation().resolve(getName())));
 			} catch (IOException e) {
 				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
+				return null;
 			}
-			return fContents;
+		}
+
+		@Override
+		protected IApiType buildStructure(Function<IApiType, ClassVisitor> visitorFactory) throws CoreException {
+			TypeStructureIndex index = ((ArchiveApiTypeContainer) getParent()).fIndex;
+			if (index == null) {
+				return super.buildStructure(visitorFactory);
+			}
+			// an indexed structure is not read from the class file, the
+			// visitor factory is not called and the caller reads the class
+			// file itself if it needs more than the structure
+			IApiType type = index.getTypeStructure(fTypeName, getApiComponent(), this);
+			if (type == null) {
+				type = super.buildStructure(visitorFactory);
+				if (type instanceof ApiType apiType) {
+					index.put(apiType);
+				}
+			}
+			return type;
 		}
 
 		@Override
@@ -107,6 +125,13 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	String fLocation;
 
+	/**
+	 * Modification stamp and length of the archive, identify its class files
+	 * in the {@link ClassFileCache}
+	 */
+	private final long fStamp;
+	private final long fLength;
+
 	/**
 	 * Cache of package names to a map of class names to class files paths in that
 	 * package, or <code>null</code> if not yet initialized.
@@ -118,6 +143,13 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * Persistent index of the type structures in this archive or
+	 * <code>null</code> if type structures are always built from the class
+	 * files.
+	 */
+	private final TypeStructureIndex fIndex;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -126,8 +158,26 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 * @param path   location of the file in the local file system
 	 */
 	public ArchiveApiTypeContainer(IApiElement parent, String path) {
+		this(parent, path, false);
+	}
+
+	/**
+	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
+	 * file at the specified location.
+	 *
+	 * @param parent  the parent {@link IApiElement} or <code>null</code> if none
+	 * @param path    location of the file in the local file system
+	 * @param indexed whether type structures of this archive should be kept in
+	 *                the persistent {@link TypeStructureIndex}. Should only be
+	 *                used for archives at a stable location.
+	 */
+	public ArchiveApiTypeContainer(IApiElement parent, String path, boolean indexed) {
 		super(parent, IApiElement.API_TYPE_CONTAINER, path);
 		this.fLocation = path;
+		File file = new File(path);
+		this.fStamp = file.lastModified();
+		this.fLength = file.length();
+		this.fIndex = indexed ? TypeStructureIndex.getIndex(path) : null;
 	}
 
 	/**
@@ -185,7 +235,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		if (fIndex != null) {
+			fIndex.save();
+		}
 	}
 
 	/**
@@ -667,7 +667,7 @@ public class BundleComponent extends Component {
 				File entry = new File(bundle, path);
 				if (entry.exists()) {
 					if (entry.isFile()) {
-						return new ArchiveApiTypeContainer(this, entry.getCanonicalPath());
+						return new ArchiveApiTypeContainer(this, entry.getCanonicalPath(), true);
 					} else {
 						return new DirectoryApiTypeContainer(this, entry.getCanonicalPath());
 					}
@@ -675,7 +675,7 @@ public class BundleComponent extends Component {
 			} else {
 				// bundle is jar'd
 				if (path.equals(".")) { //$NON-NLS-1$
-					return new ArchiveApiTypeContainer(this, fLocation);
+					return new ArchiveApiTypeContainer(this, fLocation, true);
 				} else {
 					// classpath element can be jar or folder
 					// https://bugs.eclipse.org/bugs/show_bug.cgi?id=279729
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of class file contents shared by all archive and directory type
+ * containers. The cache is bounded by the total number of bytes it holds,
+ * the least recently used class files are evicted once the budget is
+ * exceeded. Class files larger than a quarter of the budget are not cached.
+ * <p>
+ * The budget in megabytes can be set with the
+ * <code>org.eclipse.pde.api.tools.classFileCacheSize</code> system property,
+ * <code>0</code> disables the cache.
+ * </p>
+ * <p>
+ * Cached contents are shared and must not be modified by callers.
+ * </p>
+ */
+public final class ClassFileCache {
+
+	/**
+	 * Loads the contents of a class file that is not cached
+	 */
+	@FunctionalInterface
+	public interface ContentsLoader {
+		/**
+		 * @return the contents of the class file
+		 * @throws IOException if the class file cannot be read
+		 */
+		byte[] load() throws IOException;
+	}
+
+	/**
+	 * Key of a class file: the location of its container, the modification
+	 * stamp and length of the container (or the class file) and the name of
+	 * the class file in the container.
+	 */
+	private record Key(String container, long stamp, long length, String name) {
+	}
+
+	private static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+
+	private static ClassFileCache fInstance = null;
+
+	private final long fBudget;
+	private final Map<Key, byte[]> fEntries = new LinkedHashMap<>(256, 0.75f, true);
+	private long fWeight;
+
+	private final AtomicLong fHits = new AtomicLong();
+	private final AtomicLong fMisses = new AtomicLong();
+	private final AtomicLong fEvictions = new AtomicLong();
+
+	/**
+	 * Creates a cache with its own budget. Containers use the shared cache
+	 * returned by {@link #getCache()}.
+	 *
+	 * @param budget the maximum number of bytes to cache
+	 */
+	public ClassFileCache(long budget) {
+		fBudget = Math.max(0, budget);
+	}
+
+	/**
+	 * Returns the shared class file cache
+	 *
+	 * @return the cache
+	 */
+	public static synchronized ClassFileCache getCache() {
+		if (fInstance == null) {
+			long budget = DEFAULT_BUDGET;
+			String size = System.getProperty("org.eclipse.pde.api.tools.classFileCacheSize"); //$NON-NLS-1$
+			if (size != null) {
+				try {
+					budget = Long.parseLong(size) * 1024 * 1024;
+				} catch (NumberFormatException e) {
+					// use the default
+				}
+			}
+			fInstance = new ClassFileCache(budget);
+		}
+		return fInstance;
+	}
+
+	/**
+	 * Returns the contents of a class file, from the cache if present.
+	 * Otherwise the contents are loaded with the given loader and cached.
+	 *
+	 * @param container the location of the container of the class file
+	 * @param stamp the modification stamp of the container or class file
+	 * @param length the length of the container or class file
+	 * @param name the name of the class file in the container
+	 * @param loader loads the contents if they are not cached
+	 * @return the contents of the class file, must not be modified
+	 * @throws IOException if the contents cannot be loaded
+	 */
+	public byte[] getContents(String container, long stamp, long length, String name, ContentsLoader loader) throws IOException {
+		Key key = new Key(container, stamp, length, name);
+		synchronized (this) {
+			byte[] contents = fEntries.get(key);
+			if (contents != null) {
+				fHits.incrementAndGet();
+				return contents;
+			}
+		}
+		fMisses.incrementAndGet();
+		// load outside of the lock, a class file loaded concurrently by two
+		// threads is simply cached twice
+		byte[] contents = loader.load();
+		if (contents.length <= fBudget / 4) {
+			put(key, contents);
+		}
+		return contents;
+	}
+
+	private synchronized void put(Key key, byte[] contents) {
+		byte[] previous = fEntries.put(key, contents);
+		if (previous != null) {
+			fWeight -= previous.length;
+		}
+		fWeight += contents.length;
+		Iterator<byte[]> iterator = fEntries.values().iterator();
+		while (fWeight > fBudget && iterator.hasNext()) {
+			fWeight -= iterator.next().length;
+			iterator.remove();
+			fEvictions.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Removes all cached class files
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+		fWeight = 0;
+	}
+
+	/**
+	 * @return the number of bytes currently cached
+	 */
+	public synchronized long getWeight() {
+		return fWeight;
+	}
+
+	/**
+	 * @return the number of lookups answered from the cache
+	 */
+	public long getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return the number of lookups that had to load the class file
+	 */
+	public long getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * @return the number of class files evicted to stay within the budget
+	 */
+	public long getEvictions() {
+		return fEvictions.get();
+	}
+
+	@Override
+	public String toString() {
+		return "Class file cache: " + getWeight() + " of " + fBudget + " bytes, " + getHits() + " hits, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				+ getMisses() + " misses, " + getEvictions() + " evictions"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,8 +82,10 @@ public class DirectoryApiTypeContainer extends ApiElement implements IApiTypeCon
 
 		@Override
 		public byte[] getContents() throws CoreException {
+			File file = new File(fLocation);
 			try {
-				return Files.readAllBytes(new File(fLocation).toPath());
+				return ClassFileCache.getCache().getContents(fLocation, file.lastModified(), file.length(), getName(),
+						() -> Files.readAllBytes(file.toPath()));
 			} catch (FileNotFoundException e) {
 				abort("File not found", e); //$NON-NLS-1$
 				return null;
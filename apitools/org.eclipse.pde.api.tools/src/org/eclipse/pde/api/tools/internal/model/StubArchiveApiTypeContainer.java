@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -34,6 +35,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Util;
+import org.objectweb.asm.ClassVisitor;
 
 /**
  * {@link IApiTypeContainer} container for an archive (jar or zip) file.
@@ -50,7 +52,7 @@ public class StubArchiveApiTypeContainer extends ApiElement implements IApiTypeC
 		private String fTypeName;
 
 		@Override
-		public IApiType getStructure() throws CoreException {
+		public IApiType getStructure(Function<IApiType, ClassVisitor> visitorFactory) throws CoreException {
 			return TypeStructureBuilder.buildStubTypeStructure(getContents(), getApiComponent(), this);
 		}
 
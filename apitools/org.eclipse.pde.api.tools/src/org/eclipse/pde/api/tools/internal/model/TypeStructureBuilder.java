@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Status;
@@ -37,7 +38,6 @@ import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.tree.ClassNode;
 /**
  * Class adapter used to create an API type structure
  */
@@ -45,6 +45,12 @@ public class TypeStructureBuilder extends ClassVisitor {
 	ApiType fType;
 	IApiComponent fComponent;
 	IApiTypeRoot fFile;
+	/**
+	 * Creates the visitor the class file is passed on to once the type is
+	 * known, or <code>null</code>. The visitor gets the unmodified access
+	 * flags of the class file, like when it reads the class file itself.
+	 */
+	Function<IApiType, ClassVisitor> fVisitorFactory;
 
 	/**
 	 * Builds a type structure for a class file. Note that if an API component
@@ -80,6 +86,9 @@ public class TypeStructureBuilder extends ClassVisitor {
 			laccess |= Flags.AccDeprecated;
 		}
 		fType = new ApiType(fComponent, name.replace('/', '.'), simpleSig.toString(), signature, laccess, enclosingName, fFile);
+		if (fVisitorFactory != null) {
+			cv = fVisitorFactory.apply(fType);
+		}
 		if (superName != null) {
 			fType.setSuperclassName(superName.replace('/', '.'));
 		}
@@ -90,12 +99,11 @@ public class TypeStructureBuilder extends ClassVisitor {
 			}
 			fType.setSuperInterfaceNames(names);
 		}
-		super.visit(version, laccess, name, signature, superName, interfaces);
+		super.visit(version, access, name, signature, superName, interfaces);
 	}
 
 	@Override
 	public void visitInnerClass(String name, String outerName, String innerName, int access) {
-		super.visitInnerClass(name, outerName, innerName, access);
 		String currentName = name.replace('/', '.');
 		if (currentName.equals(fType.getName())) {
 			if (innerName == null) {
@@ -120,11 +128,13 @@ public class TypeStructureBuilder extends ClassVisitor {
 				fType.setMemberType();
 			}
 		}
+		super.visitInnerClass(name, outerName, innerName, access);
 	}
 
 	@Override
 	public void visitOuterClass(String owner, String name, String desc) {
 		fType.setEnclosingMethodInfo(name, desc);
+		super.visitOuterClass(owner, name, desc);
 	}
 
 	@Override
@@ -135,7 +145,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 			laccess |= Flags.AccDeprecated;
 		}
 		fType.addField(name, desc, signature, laccess, value);
-		return null;
+		return super.visitField(access, name, desc, signature, value);
 	}
 
 	@Override
@@ -154,7 +164,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 		}
 		final ApiMethod method = fType.addMethod(name, desc, signature, laccess, names);
 		return new MethodVisitor(Util.LATEST_OPCODES_ASM,
-				super.visitMethod(laccess, name, desc, signature, exceptions)) {
+				super.visitMethod(access, name, desc, signature, exceptions)) {
 			@Override
 			public AnnotationVisitor visitAnnotation(String sig, boolean visible) {
 				if (visible && "Ljava/lang/invoke/MethodHandle$PolymorphicSignature;".equals(sig)) { //$NON-NLS-1$
@@ -255,10 +265,30 @@ public class TypeStructureBuilder extends ClassVisitor {
 	 * @param file associated class file
 	 */
 	public static IApiType buildTypeStructure(byte[] bytes, IApiComponent component, IApiTypeRoot file) {
-		TypeStructureBuilder visitor = new TypeStructureBuilder(new ClassNode(), component, file);
+		return buildTypeStructure(bytes, component, file, null);
+	}
+
+	/**
+	 * Builds a type structure with the given .class file bytes in the specified
+	 * API component. The complete class file is passed on to the visitor
+	 * created by the given factory in the same read, so the class file is only
+	 * decoded once when both its structure and its code are needed. The
+	 * visitor is created once the type is known, members are added to the type
+	 * before they are passed on.
+	 *
+	 * @param bytes class file bytes
+	 * @param component originating API component
+	 * @param file associated class file
+	 * @param visitorFactory creates the visitor to pass the class file on to,
+	 *            or <code>null</code> to only build the structure
+	 * @since 1.3.800
+	 */
+	public static IApiType buildTypeStructure(byte[] bytes, IApiComponent component, IApiTypeRoot file, Function<IApiType, ClassVisitor> visitorFactory) {
+		TypeStructureBuilder visitor = new TypeStructureBuilder(null, component, file);
+		visitor.fVisitorFactory = visitorFactory;
 		try {
 			ClassReader classReader = new ClassReader(bytes);
-			classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+			classReader.accept(visitor, visitorFactory == null ? ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES : ClassReader.SKIP_FRAMES);
 		} catch (ArrayIndexOutOfBoundsException e) {
 			logAndReturn(file, e);
 			return null;
@@ -276,7 +306,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 	public static void setEnclosingMethod(IApiType enclosingType, ApiType currentAnonymousLocalType) {
 		IApiTypeRoot typeRoot = enclosingType.getTypeRoot();
 		if (typeRoot instanceof AbstractApiTypeRoot abstractApiTypeRoot) {
-			EnclosingMethodSetter visitor = new EnclosingMethodSetter(new ClassNode(), currentAnonymousLocalType.getName());
+			EnclosingMethodSetter visitor = new EnclosingMethodSetter(null, currentAnonymousLocalType.getName());
 			try {
 				ClassReader classReader = new ClassReader(abstractApiTypeRoot.getContents());
 				classReader.accept(visitor, ClassReader.SKIP_FRAMES);
@@ -315,9 +345,9 @@ public class TypeStructureBuilder extends ClassVisitor {
 					}
 					MethodVisitor mv;
 					if ("<init>".equals(name)) { //$NON-NLS-1$
-						mv = new TypeNameFinderInConstructor(cv.visitMethod(access, name, desc, signature, exceptions), this);
+						mv = new TypeNameFinderInConstructor(super.visitMethod(access, name, desc, signature, exceptions), this);
 					} else {
-						mv = new TypeNameFinder(cv.visitMethod(access, name, desc, signature, exceptions), this);
+						mv = new TypeNameFinder(super.visitMethod(access, name, desc, signature, exceptions), this);
 					}
 					return mv;
 				}
@@ -0,0 +1,753 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+
+/**
+ * A persistent index of the {@link IApiType} structures of one archive.
+ * <p>
+ * The index is stored in the state location of the API tools plug-in, one
+ * file per archive. The file name is derived from the archive location and the
+ * file header records a stamp of the archive content (size and modification
+ * time), so a changed archive simply starts with an empty index. Index files
+ * are read in one go and individual type records are only decoded when the
+ * structure of the type is requested, which avoids re-reading and re-parsing
+ * class files of baseline components after every restart. Index files are not
+ * kept open, so they can be replaced on save on every platform, and the index
+ * files of archives that no longer exist are deleted once per session.
+ * </p>
+ * <p>
+ * After the header the file is a sequence of blocks, each holding a directory
+ * and the records of the types saved at once. A save appends a block with the
+ * records built since the last save; a record in a later block replaces the
+ * one of an earlier block. The file is only rewritten as a whole, into a
+ * temporary file that replaces it, when it does not exist yet, when most of
+ * its records are replaced or when it ends with the incomplete block of an
+ * interrupted save, which is ignored when reading.
+ * </p>
+ * <p>
+ * The index can be disabled with the system property
+ * <code>org.eclipse.pde.api.tools.disableTypeStructureIndex=true</code>.
+ * </p>
+ */
+public final class TypeStructureIndex {
+
+	/**
+	 * System property to disable the use of the type structure index
+	 */
+	private static final boolean DISABLED = Boolean.getBoolean("org.eclipse.pde.api.tools.disableTypeStructureIndex"); //$NON-NLS-1$
+
+	/**
+	 * Name of the folder in the plug-in state location holding the index files
+	 */
+	private static final String INDEX_FOLDER = ".type_structures"; //$NON-NLS-1$
+
+	private static final String INDEX_FILE_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	/**
+	 * Magic number identifying an index file: "APIT"
+	 */
+	private static final int MAGIC = 0x41504954;
+
+	/**
+	 * Current version of the index file format, must be incremented whenever
+	 * the record format changes
+	 */
+	private static final short VERSION = 2;
+
+	/**
+	 * Size in bytes of the header of a block: directory length and data length
+	 */
+	private static final int BLOCK_HEADER_SIZE = 4 + 4;
+
+	/**
+	 * Number of blocks after which the index file is rewritten as a whole
+	 */
+	private static final int MAX_BLOCKS = 32;
+
+	private static final byte FLAG_ANONYMOUS = 0x1;
+	private static final byte FLAG_LOCAL = 0x2;
+	private static final byte FLAG_MEMBER = 0x4;
+
+	private static final byte VALUE_NONE = 0;
+	private static final byte VALUE_INTEGER = 1;
+	private static final byte VALUE_LONG = 2;
+	private static final byte VALUE_FLOAT = 3;
+	private static final byte VALUE_DOUBLE = 4;
+	private static final byte VALUE_STRING = 5;
+
+	/**
+	 * Shared indexes, keyed by archive location
+	 */
+	private static final Map<String, TypeStructureIndex> fgIndexes = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether the index files of removed archives have been deleted in this
+	 * session
+	 */
+	private static final AtomicBoolean fgCleanedUp = new AtomicBoolean();
+
+	/**
+	 * Location of a type record in the bytes read from or written to the
+	 * index file
+	 */
+	private record Slot(byte[] bytes, int offset, int length) {
+	}
+
+	/**
+	 * The content of the index file
+	 *
+	 * @param entries the current record of each type
+	 * @param blocks the number of blocks in the file
+	 * @param records the number of records in the file, including replaced
+	 *            ones
+	 * @param length the length of the file up to the end of its last complete
+	 *            block, or <code>0</code> if there is no valid file
+	 */
+	private record Mapping(Map<String, Slot> entries, int blocks, int records, long length) {
+		static final Mapping EMPTY = new Mapping(Collections.emptyMap(), 0, 0, 0);
+
+		byte[] getRecord(String typeName) {
+			Slot slot = entries.get(typeName);
+			if (slot == null) {
+				return null;
+			}
+			return Arrays.copyOfRange(slot.bytes(), slot.offset(), slot.offset() + slot.length());
+		}
+	}
+
+	private final String fLocation;
+	private final Path fArchive;
+	private final Path fIndexFile;
+	private volatile long fSizeStamp;
+	private volatile long fModificationStamp;
+	private volatile Mapping fMapping = Mapping.EMPTY;
+
+	/**
+	 * Records of type structures built since the index was last saved, keyed
+	 * by type name
+	 */
+	private final Map<String, byte[]> fPending = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor. Clients should use {@link #getIndex(String)} to obtain the
+	 * shared index of an archive.
+	 *
+	 * @param location the archive location
+	 * @param indexFile the file the index is persisted to
+	 */
+	public TypeStructureIndex(String location, Path indexFile) {
+		fLocation = location;
+		fArchive = getContentFile(location);
+		fIndexFile = indexFile;
+		load();
+	}
+
+	/**
+	 * Returns the shared index for the archive at the given location or
+	 * <code>null</code> if type structures cannot be indexed in this session.
+	 *
+	 * @param location the location of the archive in the local file system
+	 * @return the index or <code>null</code>
+	 */
+	public static TypeStructureIndex getIndex(String location) {
+		if (DISABLED || location == null || !ApiPlugin.isRunningInFramework()) {
+			return null;
+		}
+		Path folder = ApiPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).toPath();
+		if (fgCleanedUp.compareAndSet(false, true)) {
+			cleanup(folder);
+		}
+		return fgIndexes.compute(location, (loc, index) -> {
+			if (index != null && index.isCurrent()) {
+				return index;
+			}
+			return new TypeStructureIndex(loc, folder.resolve(getIndexFileName(loc)));
+		});
+	}
+
+	/**
+	 * Deletes the index files in the given folder that belong to archives that
+	 * no longer exist or that were written in another format.
+	 *
+	 * @param folder the folder holding the index files
+	 */
+	public static void cleanup(Path folder) {
+		if (!Files.isDirectory(folder)) {
+			return;
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(folder, "*" + INDEX_FILE_EXTENSION)) { //$NON-NLS-1$
+			for (Path file : files) {
+				String location = readLocation(file);
+				if (location == null || !Files.exists(Path.of(location))) {
+					Files.deleteIfExists(file);
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			// the index is only a cache, try again in the next session
+			if (ApiPlugin.DEBUG_BUILDER) {
+				ApiPlugin.log("Failed to clean up type structure indexes in " + folder, e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Returns the archive location recorded in the given index file or
+	 * <code>null</code> if the file is not a current index file.
+	 */
+	private static String readLocation(Path file) {
+		try (InputStream stream = Files.newInputStream(file);
+				DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+			if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+				return null;
+			}
+			// size stamp and modification stamp
+			in.readLong();
+			in.readLong();
+			return in.readUTF();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns whether the archive has not changed since this index was
+	 * loaded.
+	 */
+	private boolean isCurrent() {
+		try {
+			return fSizeStamp == Files.size(fArchive)
+					&& fModificationStamp == Files.getLastModifiedTime(fArchive).toMillis();
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the file whose stamp reflects the content of the archive at the
+	 * given location. For the JRT file system this is the modules image next
+	 * to the <code>jrt-fs.jar</code>.
+	 */
+	@SuppressWarnings("restriction")
+	private static Path getContentFile(String location) {
+		Path path = Path.of(location);
+		if (location.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)) {
+			Path modules = path.resolveSibling("modules"); //$NON-NLS-1$
+			if (Files.isRegularFile(modules)) {
+				return modules;
+			}
+		}
+		return path;
+	}
+
+	private static String getIndexFileName(String location) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			StringBuilder buffer = new StringBuilder();
+			for (byte b : digest.digest(location.getBytes(StandardCharsets.UTF_8))) {
+				buffer.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return buffer.append(INDEX_FILE_EXTENSION).toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(location.hashCode()) + INDEX_FILE_EXTENSION;
+		}
+	}
+
+	/**
+	 * Reads the index file, if it exists and matches the current content of
+	 * the archive. The file is read into memory rather than mapped, a mapped
+	 * file stays locked on some platforms and could not be replaced on save.
+	 */
+	private void load() {
+		try {
+			fSizeStamp = Files.size(fArchive);
+			fModificationStamp = Files.getLastModifiedTime(fArchive).toMillis();
+		} catch (IOException e) {
+			fSizeStamp = -1;
+			fModificationStamp = -1;
+			return;
+		}
+		if (!Files.isRegularFile(fIndexFile)) {
+			return;
+		}
+		try {
+			if (Files.size(fIndexFile) > Integer.MAX_VALUE) {
+				return;
+			}
+			Mapping mapping = parse(Files.readAllBytes(fIndexFile));
+			if (mapping != null) {
+				fMapping = mapping;
+			}
+		} catch (IOException e) {
+			if (ApiPlugin.DEBUG_BUILDER) {
+				ApiPlugin.log("Failed to read type structure index of " + fLocation, e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Reads the blocks of an index file.
+	 *
+	 * @param bytes the content of the index file
+	 * @return the mapping or <code>null</code> if the file is not an index of
+	 *         the current content of the archive
+	 * @throws IOException if a directory is corrupt
+	 */
+	private Mapping parse(byte[] bytes) throws IOException {
+		int position;
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+			if (in.readInt() != MAGIC || in.readShort() != VERSION || in.readLong() != fSizeStamp
+					|| in.readLong() != fModificationStamp || !fLocation.equals(in.readUTF())) {
+				// stale, another format or a hash collision with another archive
+				return null;
+			}
+			position = bytes.length - in.available();
+		} catch (EOFException e) {
+			return null;
+		}
+		Map<String, Slot> entries = new HashMap<>();
+		int blocks = 0;
+		int records = 0;
+		while (true) {
+			int count = readBlock(bytes, position, entries);
+			if (count < 0) {
+				// end of file or the incomplete block of an interrupted save
+				break;
+			}
+			position += getBlockLength(bytes, position);
+			blocks++;
+			records += count;
+		}
+		return new Mapping(entries, blocks, records, position);
+	}
+
+	private static int getBlockLength(byte[] bytes, int position) {
+		return BLOCK_HEADER_SIZE + readInt(bytes, position) + readInt(bytes, position + 4);
+	}
+
+	/**
+	 * Adds the records of the block at the given position to the given
+	 * entries.
+	 *
+	 * @return the number of records in the block or <code>-1</code> if there
+	 *         is no complete block at the position
+	 * @throws IOException if the directory of the block is corrupt
+	 */
+	private static int readBlock(byte[] bytes, int position, Map<String, Slot> entries) throws IOException {
+		if (bytes.length - position < BLOCK_HEADER_SIZE) {
+			return -1;
+		}
+		int directoryLength = readInt(bytes, position);
+		int dataLength = readInt(bytes, position + 4);
+		if (directoryLength < 0 || dataLength < 0
+				|| (long) position + BLOCK_HEADER_SIZE + directoryLength + dataLength > bytes.length) {
+			return -1;
+		}
+		int directory = position + BLOCK_HEADER_SIZE;
+		int data = directory + directoryLength;
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, directory, directoryLength))) {
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String typeName = in.readUTF();
+				int offset = in.readInt();
+				int length = in.readInt();
+				if (offset < 0 || length < 0 || (long) offset + length > dataLength) {
+					throw new IOException("Corrupt type structure index entry for " + typeName); //$NON-NLS-1$
+				}
+				entries.put(typeName, new Slot(bytes, data + offset, length));
+			}
+			return count;
+		}
+	}
+
+	private static int readInt(byte[] bytes, int position) {
+		return ((bytes[position] & 0xFF) << 24) | ((bytes[position + 1] & 0xFF) << 16)
+				| ((bytes[position + 2] & 0xFF) << 8) | (bytes[position + 3] & 0xFF);
+	}
+
+	/**
+	 * Returns the structure of the given type from this index or
+	 * <code>null</code> if the type has not been indexed.
+	 *
+	 * @param typeName fully qualified name of the type
+	 * @param component the component the type belongs to
+	 * @param root the type root backing the type structure
+	 * @return the type structure or <code>null</code>
+	 */
+	public IApiType getTypeStructure(String typeName, IApiComponent component, IApiTypeRoot root) {
+		byte[] record = fPending.get(typeName);
+		if (record == null) {
+			record = fMapping.getRecord(typeName);
+			if (record == null) {
+				return null;
+			}
+		}
+		try {
+			return decode(record, component, root);
+		} catch (IOException e) {
+			if (ApiPlugin.DEBUG_BUILDER) {
+				ApiPlugin.log("Corrupt type structure index entry for " + typeName + " in " + fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Records the given type structure. The index will be written on the next
+	 * {@link #save()}.
+	 *
+	 * @param type the type structure built from the class file
+	 */
+	public void put(ApiType type) {
+		if (fSizeStamp == -1) {
+			// archive could not be stamped
+			return;
+		}
+		try {
+			fPending.put(type.getName(), encode(type));
+		} catch (IOException e) {
+			// e.g. a signature exceeding the modified UTF-8 limit, not indexed
+		}
+	}
+
+	/**
+	 * Writes all type structures recorded since the last save to disk. They
+	 * are appended to the index file, unless it has to be rewritten as a whole.
+	 */
+	public synchronized void save() {
+		if (fPending.isEmpty()) {
+			return;
+		}
+		Mapping mapping = fMapping;
+		Map<String, byte[]> pending = new TreeMap<>(fPending);
+		try {
+			Files.createDirectories(fIndexFile.getParent());
+			fMapping = canAppend(mapping, pending) ? append(mapping, pending) : rewrite(mapping, pending);
+			// records put again meanwhile are written by the next save
+			pending.forEach(fPending::remove);
+		} catch (IOException e) {
+			// the index is only a cache: keep the pending records and retry
+			// on the next save
+			if (ApiPlugin.DEBUG_BUILDER) {
+				ApiPlugin.log("Failed to write type structure index of " + fLocation, e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given records can be appended to the index file:
+	 * the file ends with the last block read or written and appending does
+	 * not make replaced records the majority of the file.
+	 */
+	private boolean canAppend(Mapping mapping, Map<String, byte[]> pending) throws IOException {
+		if (mapping.length() == 0 || mapping.blocks() >= MAX_BLOCKS || !Files.isRegularFile(fIndexFile)
+				|| Files.size(fIndexFile) != mapping.length()) {
+			return false;
+		}
+		int live = mapping.entries().size();
+		for (String typeName : pending.keySet()) {
+			if (!mapping.entries().containsKey(typeName)) {
+				live++;
+			}
+		}
+		int replaced = mapping.records() + pending.size() - live;
+		return replaced <= live;
+	}
+
+	private Mapping append(Mapping mapping, Map<String, byte[]> pending) throws IOException {
+		byte[] block = encodeBlock(pending);
+		Files.write(fIndexFile, block, StandardOpenOption.APPEND);
+		Map<String, Slot> entries = new HashMap<>(mapping.entries());
+		int count = readBlock(block, 0, entries);
+		return new Mapping(entries, mapping.blocks() + 1, mapping.records() + count, mapping.length() + block.length);
+	}
+
+	private Mapping rewrite(Mapping mapping, Map<String, byte[]> pending) throws IOException {
+		Map<String, byte[]> records = new TreeMap<>();
+		for (String typeName : mapping.entries().keySet()) {
+			records.put(typeName, mapping.getRecord(typeName));
+		}
+		records.putAll(pending);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.writeLong(fSizeStamp);
+			out.writeLong(fModificationStamp);
+			out.writeUTF(fLocation);
+			out.write(encodeBlock(records));
+		}
+		byte[] contents = bytes.toByteArray();
+		Path tmp = Files.createTempFile(fIndexFile.getParent(), "index", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			Files.write(tmp, contents);
+			try {
+				Files.move(tmp, fIndexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp, fIndexFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+		return parse(contents);
+	}
+
+	/**
+	 * Encodes a block: the lengths of its directory and data, the directory
+	 * mapping type names to the offset and length of their record in the data
+	 * and the data.
+	 */
+	private static byte[] encodeBlock(Map<String, byte[]> records) throws IOException {
+		ByteArrayOutputStream directory = new ByteArrayOutputStream();
+		int offset = 0;
+		try (DataOutputStream out = new DataOutputStream(directory)) {
+			out.writeInt(records.size());
+			for (Map.Entry<String, byte[]> entry : records.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeInt(offset);
+				out.writeInt(entry.getValue().length);
+				offset += entry.getValue().length;
+			}
+		}
+		ByteArrayOutputStream block = new ByteArrayOutputStream(BLOCK_HEADER_SIZE + directory.size() + offset);
+		try (DataOutputStream out = new DataOutputStream(block)) {
+			out.writeInt(directory.size());
+			out.writeInt(offset);
+			directory.writeTo(out);
+			for (byte[] record : records.values()) {
+				out.write(record);
+			}
+		}
+		return block.toByteArray();
+	}
+
+	/**
+	 * Encodes the given type structure into an index record.
+	 *
+	 * @param type the type to encode
+	 * @return the record bytes
+	 * @throws IOException if the type cannot be encoded
+	 */
+	static byte[] encode(ApiType type) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeUTF(type.getName());
+			out.writeUTF(type.getSignature());
+			writeString(out, type.getGenericSignature());
+			out.writeInt(type.getModifiers());
+			writeString(out, type.getEnclosingTypeName());
+			writeString(out, type.getSuperclassName());
+			writeStrings(out, type.getSuperInterfaceNames());
+			writeString(out, type.getRecordedSimpleName());
+			byte flags = 0;
+			if (type.isAnonymous()) {
+				flags |= FLAG_ANONYMOUS;
+			}
+			if (type.isLocal()) {
+				flags |= FLAG_LOCAL;
+			}
+			if (type.isMemberType()) {
+				flags |= FLAG_MEMBER;
+			}
+			out.writeByte(flags);
+			out.writeBoolean(type.hasEnclosingMethodInfo());
+			if (type.hasEnclosingMethodInfo()) {
+				writeString(out, type.getEnclosingMethodName());
+				writeString(out, type.getEnclosingMethodSignature());
+			}
+			writeStrings(out, type.getMemberTypeNames());
+			IApiField[] fields = type.getFields();
+			out.writeInt(fields.length);
+			for (IApiField field : fields) {
+				out.writeUTF(field.getName());
+				writeString(out, field.getSignature());
+				writeString(out, field.getGenericSignature());
+				out.writeInt(field.getModifiers());
+				writeValue(out, field.getConstantValue());
+			}
+			IApiMethod[] methods = type.getMethods();
+			out.writeInt(methods.length);
+			for (IApiMethod method : methods) {
+				out.writeUTF(method.getName());
+				writeString(out, method.getSignature());
+				writeString(out, method.getGenericSignature());
+				out.writeInt(method.getModifiers());
+				writeStrings(out, method.getExceptionNames());
+				writeString(out, method.getDefaultValue());
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes a type structure from the given index record.
+	 *
+	 * @param record the record bytes
+	 * @param component the component the type belongs to
+	 * @param root the type root backing the type structure
+	 * @return the type structure
+	 * @throws IOException if the record is corrupt
+	 */
+	static ApiType decode(byte[] record, IApiComponent component, IApiTypeRoot root) throws IOException {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+			String name = in.readUTF();
+			String signature = in.readUTF();
+			String genericSignature = readString(in);
+			int modifiers = in.readInt();
+			String enclosingName = readString(in);
+			ApiType type = new ApiType(component, name, signature, genericSignature, modifiers, enclosingName, root);
+			type.setSuperclassName(readString(in));
+			type.setSuperInterfaceNames(readStrings(in));
+			String simpleName = readString(in);
+			if (simpleName != null) {
+				type.setSimpleName(simpleName);
+			}
+			byte flags = in.readByte();
+			if ((flags & FLAG_ANONYMOUS) != 0) {
+				type.setAnonymous();
+			}
+			if ((flags & FLAG_LOCAL) != 0) {
+				type.setLocal();
+			}
+			if ((flags & FLAG_MEMBER) != 0) {
+				type.setMemberType();
+			}
+			if (in.readBoolean()) {
+				type.setEnclosingMethodInfo(readString(in), readString(in));
+			}
+			String[] memberTypes = readStrings(in);
+			if (memberTypes != null) {
+				for (String memberType : memberTypes) {
+					type.addMemberType(name + '$' + memberType);
+				}
+			}
+			int fieldCount = in.readInt();
+			for (int i = 0; i < fieldCount; i++) {
+				type.addField(in.readUTF(), readString(in), readString(in), in.readInt(), readValue(in));
+			}
+			int methodCount = in.readInt();
+			for (int i = 0; i < methodCount; i++) {
+				ApiMethod method = type.addMethod(in.readUTF(), readString(in), readString(in), in.readInt(), readStrings(in));
+				method.setDefaultValue(readString(in));
+			}
+			return type;
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+		if (values == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(values.length);
+		for (String value : values) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		String[] values = new String[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = in.readUTF();
+		}
+		return values;
+	}
+
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value instanceof Integer i) {
+			out.writeByte(VALUE_INTEGER);
+			out.writeInt(i.intValue());
+		} else if (value instanceof Long l) {
+			out.writeByte(VALUE_LONG);
+			out.writeLong(l.longValue());
+		} else if (value instanceof Float f) {
+			out.writeByte(VALUE_FLOAT);
+			out.writeFloat(f.floatValue());
+		} else if (value instanceof Double d) {
+			out.writeByte(VALUE_DOUBLE);
+			out.writeDouble(d.doubleValue());
+		} else if (value instanceof String s) {
+			out.writeByte(VALUE_STRING);
+			out.writeUTF(s);
+		} else if (value == null) {
+			out.writeByte(VALUE_NONE);
+		} else {
+			throw new IOException("Unsupported constant value: " + value); //$NON-NLS-1$
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		byte kind = in.readByte();
+		return switch (kind) {
+			case VALUE_NONE -> null;
+			case VALUE_INTEGER -> Integer.valueOf(in.readInt());
+			case VALUE_LONG -> Long.valueOf(in.readLong());
+			case VALUE_FLOAT -> Float.valueOf(in.readFloat());
+			case VALUE_DOUBLE -> Double.valueOf(in.readDouble());
+			case VALUE_STRING -> in.readUTF();
+			default -> throw new IOException("Unknown constant value kind: " + kind); //$NON-NLS-1$
+		};
+	}
+
+	@Override
+	public String toString() {
+		return "Type structure index for: " + fLocation; //$NON-NLS-1$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -22,6 +26,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
+import org.eclipse.pde.api.tools.internal.builder.ParallelAnalysis;
 import org.eclipse.pde.api.tools.internal.comparator.ClassFileComparator;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -52,6 +57,14 @@ public class ApiComparator {
 	 */
 	public static final IDelta NO_DELTA = new Delta();
 
+	/**
+	 * Number of threads to compare with the API analysis parallelism
+	 * preference of the workspace
+	 *
+	 * @since 1.3.800
+	 */
+	public static final int PREFERRED_PARALLELISM = ParallelAnalysis.PREFERENCE;
+
 	/**
 	 * Returns a delta for a API component version change
 	 */
@@ -99,6 +112,33 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference. The components and the types of each
+	 * component are compared using at most <code>parallelism</code> threads,
+	 * the resulting delta does not depend on the number of threads.
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallelism the maximum number of threads to use or
+	 *            {@link #PREFERRED_PARALLELISM}, other values less than
+	 *            <code>1</code> are treated as <code>1</code>
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 * @since 1.3.800
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final int parallelism, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -107,43 +147,34 @@ public class ApiComparator {
 		IApiComponent[] apiComponents2 = baseline.getApiComponents();
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
-		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
+		List<IApiComponent> components = new ArrayList<>(apiComponents.length);
+		for (IApiComponent apiComponent : apiComponents) {
 			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
-					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
-						}
-					}
-				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
-				}
+				components.add(apiComponent);
+			}
+		}
+		// compare the components in parallel, but add the deltas in the order
+		// of the components
+		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(components.size());
+		IProgressMonitor compareMonitor = ParallelAnalysis.cancellationOnly(apiLoopMonitor);
+		int threads = ParallelAnalysis.getParallelism(parallelism);
+		List<ComponentDeltas> componentDeltas = ParallelAnalysis.map(components, threads,
+				apiComponent -> compareComponent(apiComponent, referenceBaseline, baseline, visibilityModifiers, force, threads, compareMonitor),
+				compareMonitor);
+		for (int i = 0; i < components.size(); i++) {
+			apiLoopMonitor.split(1);
+			ComponentDeltas deltas = componentDeltas.get(i);
+			if (deltas == null) {
+				continue;
+			}
+			if (deltas.compared()) {
+				apiComponentsIds.add(components.get(i).getSymbolicName());
+			}
+			if (deltas.versionDelta() != null) {
+				globalDelta.add(deltas.versionDelta());
+			}
+			if (deltas.delta() != null && deltas.delta() != NO_DELTA) {
+				globalDelta.add(deltas.delta());
 			}
 		}
 		SubMonitor elementLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents2.length);
@@ -162,6 +193,50 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * The deltas of one component of a baseline comparison
+	 *
+	 * @param compared whether the component is part of both baselines
+	 * @param versionDelta the delta for the version change of the component or
+	 *            <code>null</code>
+	 * @param delta the delta of the component or <code>null</code>
+	 */
+	private record ComponentDeltas(boolean compared, IDelta versionDelta, IDelta delta) {
+	}
+
+	/**
+	 * Compares one component of the reference baseline with the component of
+	 * the same id in the given baseline. Called concurrently for the components
+	 * of a baseline comparison.
+	 */
+	private static ComponentDeltas compareComponent(IApiComponent apiComponent, IApiBaseline referenceBaseline, IApiBaseline baseline, int visibilityModifiers, boolean force, int parallelism, IProgressMonitor monitor) {
+		String id = apiComponent.getSymbolicName();
+		IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+		if (apiComponentBaseline == null) {
+			// report removal of an API component
+			return new ComponentDeltas(false, null,
+					new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT, null, id, id));
+		}
+		String versionString = apiComponent.getVersion();
+		String versionString2 = apiComponentBaseline.getVersion();
+		IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id, versionString,
+				versionString2);
+		IDelta delta = null;
+		if (!versionString.equals(versionString2) || force) {
+			long time = System.currentTimeMillis();
+			try {
+				delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers,
+						parallelism, monitor);
+			} finally {
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				}
+			}
+		}
+		return new ComponentDeltas(true, bundleVersionChangesDelta, delta);
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -245,6 +320,38 @@ public class ApiComparator {
 	 *                </ul>
 	 */
 	public static IDelta compare(final IApiComponent referenceComponent, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final IProgressMonitor monitor) {
+		return compare(referenceComponent, component2, referenceBaseline, baseline, visibilityModifiers, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the two given API
+	 * components. The two components are compared even if their versions are
+	 * identical. The top level types of a package are compared using at most
+	 * <code>parallelism</code> threads.
+	 *
+	 * @param referenceComponent the given API component
+	 * @param component2 the given API component to compare with
+	 * @param referenceBaseline the given API baseline from which the given
+	 *            component <code>component</code> is coming from
+	 * @param baseline the given API baseline from which the given component
+	 *            <code>component2</code> is coming from
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param parallelism the maximum number of threads to use or
+	 *            {@link #PREFERRED_PARALLELISM}, other values less than
+	 *            <code>1</code> are treated as <code>1</code>
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @exception IllegalArgumentException if:
+	 *                <ul>
+	 *                <li>both given components are null</li>
+	 *                <li>one of the baselines is null</li>
+	 *                </ul>
+	 * @since 1.3.800
+	 */
+	public static IDelta compare(final IApiComponent referenceComponent, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final int parallelism, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 3);
 		try {
 			if (referenceComponent == null) {
@@ -281,7 +388,7 @@ public class ApiComparator {
 						currentEE,
 						Util.getComponentVersionsId(referenceComponent) }));
 			}
-			return internalCompare(referenceComponent, component2, referenceBaseline, baseline, visibilityModifiers, globalDelta, localmonitor.split(1));
+			return internalCompare(referenceComponent, component2, referenceBaseline, baseline, visibilityModifiers, ParallelAnalysis.getParallelism(parallelism), globalDelta, localmonitor.split(1));
 		} catch (CoreException e) {
 			// null means an error case
 			return null;
@@ -529,15 +636,47 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the given scope
+	 * with the given baseline. The components of the scope and their types are
+	 * compared using at most <code>parallelism</code> threads, the resulting
+	 * delta does not depend on the number of threads.
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param parallelism the maximum number of threads to use or
+	 *            {@link #PREFERRED_PARALLELISM}, other values less than
+	 *            <code>1</code> are treated as <code>1</code>
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 *             CoreException if one of the element in the scope cannot be
+	 *             visited
+	 * @since 1.3.800
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final int parallelism, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
 		}
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
-		final Set<IDelta> deltas = new HashSet<>();
+		final Set<IDelta> deltas = new LinkedHashSet<>();
 		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
-				continueOnResolverError, localmonitor.split(1));
+				continueOnResolverError, ParallelAnalysis.getParallelism(parallelism), localmonitor.split(1));
 		scope.accept(visitor);
+		visitor.compareDeferredComponents();
 
 		// If set to continue on error, return whatever deltas were
 		// collected
@@ -600,14 +739,15 @@ public class ApiComparator {
 
 	/**
 	 * Performs the internal compare of the given {@link IApiComponent}s using
-	 * their type containers
+	 * their type containers. The top level types of a package are compared
+	 * using at most <code>parallelism</code> threads.
 	 *
 	 * @param monitor
 	 *
 	 * @return a delta of changed API elements
 	 */
-	private static IDelta internalCompare(final IApiComponent component, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final Delta globalDelta, final IProgressMonitor monitor) throws CoreException {
-		final Set<String> typeRootBaseLineNames = new HashSet<>();
+	private static IDelta internalCompare(final IApiComponent component, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final int parallelism, final Delta globalDelta, final IProgressMonitor monitor) throws CoreException {
+		final Set<String> typeRootBaseLineNames = ConcurrentHashMap.newKeySet();
 		final String id = component.getSymbolicName();
 		final SubMonitor localmonitor = SubMonitor.convert(monitor, 4);
 		IApiTypeContainer[] typeRootContainers = component.getApiTypeContainers(id);
@@ -618,131 +758,154 @@ public class ApiComparator {
 			SubMonitor loopMonitor = localmonitor.split(1).setWorkRemaining(typeRootContainers.length);
 			for (IApiTypeContainer container : typeRootContainers) {
 				SubMonitor iterationMonitor = loopMonitor.split(1);
+				IProgressMonitor typeMonitor = ParallelAnalysis.cancellationOnly(iterationMonitor);
 				try {
 					container.accept(new ApiTypeContainerVisitor() {
+						final List<IApiTypeRoot> typeRoots = new ArrayList<>();
+
 						@Override
 						public void visit(String packageName, IApiTypeRoot typeRoot) {
-							SubMonitor visitMonitor = iterationMonitor.setWorkRemaining(50).split(1).setWorkRemaining(2);
-							String typeName = typeRoot.getTypeName();
-							try {
-								IApiType typeDescriptor = typeRoot.getStructure();
-								IApiAnnotations elementDescription = apiDescription.resolveAnnotations(typeDescriptor.getHandle());
-								if (typeDescriptor.isMemberType() || typeDescriptor.isAnonymous() || typeDescriptor.isLocal()) {
-									// we skip nested types (member, local and
-									// anonymous)
-									return;
-								}
-								int visibility;
-								if (elementDescription != null) {
-									visibility = elementDescription.getVisibility();
-								} else {
-									// Annotation is missing, not an API?
-									visibility = 0;
-								}
-								IApiTypeRoot typeRoot2 = component2.findTypeRoot(typeName, id);
-								IApiComponent provider = null;
-								IApiDescription providerApiDesc = null;
-								boolean reexported = false;
-								if (typeRoot2 == null) {
-									// check if the type is provided by a
-									// required component (it could have been
-									// moved/re-exported)
-									IApiComponent[] providers = component2.getBaseline().resolvePackage(component2, packageName);
-									SubMonitor providerMonitor = visitMonitor.split(1).setWorkRemaining(providers.length);
-									int index = 0;
-									while (typeRoot2 == null && index < providers.length) {
-										providerMonitor.split(1);
-										IApiComponent p = providers[index];
-										if (!p.equals(component2)) {
-											String id2 = p.getSymbolicName();
-											typeRoot2 = p.findTypeRoot(typeName, id2);
-											if (typeRoot2 != null) {
-												provider = p;
-												providerApiDesc = p.getApiDescription();
-												IRequiredComponentDescription[] required = component2.getRequiredComponents();
-												for (IRequiredComponentDescription description : required) {
-													if (description.getId().equals(id2)) {
-														reexported = description.isExported();
-														break;
+							typeRoots.add(typeRoot);
+						}
+
+						@Override
+						public void endVisitPackage(String packageName) {
+							// compare the types of the package in parallel, but
+							// add the deltas in the order of the types
+							List<List<IDelta>> packageDeltas = ParallelAnalysis.map(typeRoots, parallelism, typeRoot -> {
+								List<IDelta> deltas = new ArrayList<>(2);
+								SubMonitor visitMonitor = SubMonitor.convert(typeMonitor, 2);
+								String typeName = typeRoot.getTypeName();
+								try {
+									IApiType typeDescriptor = typeRoot.getStructure();
+									IApiAnnotations elementDescription = apiDescription.resolveAnnotations(typeDescriptor.getHandle());
+									if (typeDescriptor.isMemberType() || typeDescriptor.isAnonymous() || typeDescriptor.isLocal()) {
+										// we skip nested types (member, local and
+										// anonymous)
+										return deltas;
+									}
+									int visibility;
+									if (elementDescription != null) {
+										visibility = elementDescription.getVisibility();
+									} else {
+										// Annotation is missing, not an API?
+										visibility = 0;
+									}
+									IApiTypeRoot typeRoot2 = component2.findTypeRoot(typeName, id);
+									IApiComponent provider = null;
+									IApiDescription providerApiDesc = null;
+									boolean reexported = false;
+									if (typeRoot2 == null) {
+										// check if the type is provided by a
+										// required component (it could have been
+										// moved/re-exported)
+										IApiComponent[] providers = component2.getBaseline().resolvePackage(component2, packageName);
+										SubMonitor providerMonitor = visitMonitor.split(1).setWorkRemaining(providers.length);
+										int index = 0;
+										while (typeRoot2 == null && index < providers.length) {
+											providerMonitor.split(1);
+											IApiComponent p = providers[index];
+											if (!p.equals(component2)) {
+												String id2 = p.getSymbolicName();
+												typeRoot2 = p.findTypeRoot(typeName, id2);
+												if (typeRoot2 != null) {
+													provider = p;
+													providerApiDesc = p.getApiDescription();
+													IRequiredComponentDescription[] required = component2.getRequiredComponents();
+													for (IRequiredComponentDescription description : required) {
+														if (description.getId().equals(id2)) {
+															reexported = description.isExported();
+															break;
+														}
 													}
 												}
 											}
+											index++;
 										}
-										index++;
+									} else {
+										provider = component2;
+										providerApiDesc = apiDescription2;
 									}
-								} else {
-									provider = component2;
-									providerApiDesc = apiDescription2;
-								}
-								visitMonitor.setWorkRemaining(1).split(1);
-								String deltaComponentID = Util.getDeltaComponentVersionsId(component2);
-								if (typeRoot2 == null) {
-									if ((visibility & visibilityModifiers) == 0) {
-										// we skip the class file according to
-										// their visibility
-										return;
-									}
-									if (visibilityModifiers == VisibilityModifiers.API) {
-										// if the visibility is API, we only
-										// consider public and protected types
-										if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
-											return;
+									visitMonitor.setWorkRemaining(1).split(1);
+									String deltaComponentID = Util.getDeltaComponentVersionsId(component2);
+									if (typeRoot2 == null) {
+										if ((visibility & visibilityModifiers) == 0) {
+											// we skip the class file according to
+											// their visibility
+											return deltas;
 										}
-									}
-									globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, IDelta.TYPE, RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), 0, typeName, typeName, new String[] {
-											typeName,
-													component2.isFragment()
-															? Util.getComponentVersionsId(component2.getHost())
-															: Util.getComponentVersionsId(component2) }));
-								} else {
-									if ((visibility & visibilityModifiers) == 0) {
-										// we skip the class file according to
-										// their visibility
-										return;
-									}
-									IApiType typeDescriptor2 = typeRoot2.getStructure();
-									IApiAnnotations elementDescription2 = providerApiDesc.resolveAnnotations(typeDescriptor2.getHandle());
-									int visibility2 = 0;
-									if (elementDescription2 != null) {
-										visibility2 = elementDescription2.getVisibility();
-									}
-									if (visibilityModifiers == VisibilityModifiers.API) {
-										// if the visibility is API, we only
-										// consider public and protected types
-										if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
-											return;
+										if (visibilityModifiers == VisibilityModifiers.API) {
+											// if the visibility is API, we only
+											// consider public and protected types
+											if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
+												return deltas;
+											}
 										}
-									}
-									if (Util.isAPI(visibility, typeDescriptor)) {
-										if (!Util.isAPI(visibility2, typeDescriptor2)) {
-											globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, reexported ? IDelta.REEXPORTED_API_TYPE : IDelta.API_TYPE, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
+										deltas.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, IDelta.TYPE, RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), 0, typeName, typeName, new String[] {
+												typeName,
+														component2.isFragment()
+																? Util.getComponentVersionsId(component2.getHost())
+																: Util.getComponentVersionsId(component2) }));
+									} else {
+										if ((visibility & visibilityModifiers) == 0) {
+											// we skip the class file according to
+											// their visibility
+											return deltas;
+										}
+										IApiType typeDescriptor2 = typeRoot2.getStructure();
+										IApiAnnotations elementDescription2 = providerApiDesc.resolveAnnotations(typeDescriptor2.getHandle());
+										int visibility2 = 0;
+										if (elementDescription2 != null) {
+											visibility2 = elementDescription2.getVisibility();
+										}
+										if (visibilityModifiers == VisibilityModifiers.API) {
+											// if the visibility is API, we only
+											// consider public and protected types
+											if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
+												return deltas;
+											}
+										}
+										if (Util.isAPI(visibility, typeDescriptor)) {
+											if (!Util.isAPI(visibility2, typeDescriptor2)) {
+												deltas.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, reexported ? IDelta.REEXPORTED_API_TYPE : IDelta.API_TYPE, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
+														typeName,
+														Util.getComponentVersionsId(component2) }));
+												return deltas;
+											}
+										}
+										if ((visibility2 & visibilityModifiers) == 0) {
+											// we simply report a changed visibility
+											deltas.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.CHANGED, IDelta.TYPE_VISIBILITY, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
 													typeName,
 													Util.getComponentVersionsId(component2) }));
-											return;
 										}
-									}
-									if ((visibility2 & visibilityModifiers) == 0) {
-										// we simply report a changed visibility
-										globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.CHANGED, IDelta.TYPE_VISIBILITY, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
-												typeName,
-												Util.getComponentVersionsId(component2) }));
-									}
-									typeRootBaseLineNames.add(typeName);
-									ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, provider, referenceBaseline, baseline, visibilityModifiers);
-									IDelta delta = comparator.getDelta();
-									if (ApiPlugin.DEBUG_API_COMPARATOR) {
-										IStatus status = comparator.getStatus();
-										if (status != null) {
-											ApiPlugin.log(status);
+										typeRootBaseLineNames.add(typeName);
+										ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, provider, referenceBaseline, baseline, visibilityModifiers);
+										IDelta delta = comparator.getDelta();
+										if (ApiPlugin.DEBUG_API_COMPARATOR) {
+											IStatus status = comparator.getStatus();
+											if (status != null) {
+												ApiPlugin.log(status);
+											}
+										}
+										if (delta != null && delta != NO_DELTA) {
+											deltas.add(delta);
 										}
 									}
-									if (delta != null && delta != NO_DELTA) {
+								} catch (CoreException e) {
+									ApiPlugin.log(e);
+									AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), typeMonitor);
+								}
+								return deltas;
+							}, typeMonitor);
+							typeRoots.clear();
+							for (List<IDelta> deltas : packageDeltas) {
+								iterationMonitor.setWorkRemaining(50).split(1);
+								if (deltas != null) {
+									for (IDelta delta : deltas) {
 										globalDelta.add(delta);
 									}
 								}
-							} catch (CoreException e) {
-								ApiPlugin.log(e);
-								AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), iterationMonitor);
 							}
 						}
 					});
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
+import org.eclipse.pde.api.tools.internal.builder.ParallelAnalysis;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiScopeVisitor;
@@ -39,21 +43,48 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	boolean force;
 	boolean continueOnResolverError = false;
 	boolean containsErrors = false;
+	int parallelism = 1;
 	SubMonitor monitor;
 
+	/**
+	 * Components to compare once the scope has been visited, only used when
+	 * comparing with more than one thread
+	 */
+	private final List<ComponentPair> deferred = new ArrayList<>();
+
+	/**
+	 * A component of the scope and the component of the reference baseline it
+	 * is compared with, <code>null</code> if the component was added
+	 */
+	private record ComponentPair(IApiComponent referenceComponent, IApiComponent component) {
+	}
+
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
+		this(deltas, baseline, force, visibilityModifiers, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Creates a visitor comparing the components of the scope with at most
+	 * <code>parallelism</code> threads. With more than one thread consecutive
+	 * components are compared by {@link #compareDeferredComponents()} before
+	 * the next element that is not a component is visited, the caller has to
+	 * call it once the scope has been visited.
+	 */
+	CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final int parallelism, final SubMonitor monitor) {
 		this.deltas = deltas;
 		this.referenceBaseline = baseline;
 		this.visibilityModifiers = visibilityModifiers;
 		this.force = force;
 		this.continueOnResolverError = continueOnResolverError;
+		this.parallelism = Math.max(1, parallelism);
 		this.monitor = monitor;
 	}
 
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
+		compareDeferredComponents();
 		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, this.parallelism, null);
 		if (delta != null) {
 			delta.accept(new DeltaVisitor() {
 				@Override
@@ -71,6 +102,7 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 
 	@Override
 	public boolean visit(IApiTypeContainer container) throws CoreException {
+		compareDeferredComponents();
 		SubMonitor localMonitor = this.monitor.setWorkRemaining(100).split(1);
 		container.accept(new ApiTypeContainerVisitor() {
 			@Override
@@ -109,8 +141,45 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		}
 
 		subMonitor.split(50);
+		if (this.parallelism > 1) {
+			this.deferred.add(new ComponentPair(referenceComponent, component));
+		} else {
+			addDeltas(compareComponent(referenceComponent, component));
+		}
+		return false;
+	}
+
+	/**
+	 * Compares the components visited so far that were not compared yet. The
+	 * components are compared in parallel, the deltas are collected in the
+	 * order the components were visited.
+	 */
+	void compareDeferredComponents() {
+		if (this.deferred.isEmpty()) {
+			return;
+		}
+		IProgressMonitor compareMonitor = ParallelAnalysis.cancellationOnly(this.monitor);
+		List<IDelta> componentDeltas = ParallelAnalysis.map(this.deferred, this.parallelism,
+				pair -> compareComponent(pair.referenceComponent(), pair.component()), compareMonitor);
+		this.deferred.clear();
+		for (IDelta delta : componentDeltas) {
+			if (delta != null) {
+				addDeltas(delta);
+			}
+		}
+	}
+
+	/**
+	 * Compares a component of the scope with the component of the reference
+	 * baseline, may be called from several threads at once.
+	 */
+	private IDelta compareComponent(IApiComponent referenceComponent, IApiComponent component) {
 		final Delta globalDelta = new Delta();
-		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, null));
+		try {
+			globalDelta.add(ApiComparator.compare(referenceComponent, component, referenceComponent == null ? null : referenceComponent.getBaseline(), component.getBaseline(), this.visibilityModifiers, this.parallelism, null));
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+		}
 		if (referenceComponent != null) {
 			String versionString = referenceComponent.getVersion();
 			String versionString2 = component.getVersion();
@@ -119,7 +188,14 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				globalDelta.add(bundleVersionChangesDelta);
 			}
 		}
-		globalDelta.accept(new DeltaVisitor() {
+		return globalDelta;
+	}
+
+	/**
+	 * Adds the leaf deltas of the given delta
+	 */
+	private void addDeltas(IDelta delta) {
+		delta.accept(new DeltaVisitor() {
 			@Override
 			public void endVisit(IDelta localDelta) {
 				if (localDelta.getChildren().length == 0) {
@@ -127,11 +203,11 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				}
 			}
 		});
-		return false;
 	}
 
 	@Override
 	public void visit(IApiTypeRoot root) throws CoreException {
+		compareDeferredComponents();
 		this.monitor.setWorkRemaining(100).split(1);
 		compareApiTypeRoot(root);
 	}
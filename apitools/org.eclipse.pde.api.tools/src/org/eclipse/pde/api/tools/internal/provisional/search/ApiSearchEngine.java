@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
+import org.eclipse.pde.api.tools.internal.builder.ParallelAnalysis;
 import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
@@ -53,11 +54,32 @@ public final class ApiSearchEngine {
 	public static final IReference[] NO_REFERENCES = new IReference[0];
 
 	/**
-	 * Visitor used to extract references from the component is is passed to
+	 * Number of threads to search with the API analysis parallelism preference
+	 * of the workspace
+	 *
+	 * @since 1.3.800
+	 */
+	public static final int PREFERRED_PARALLELISM = ParallelAnalysis.PREFERENCE;
+
+	/**
+	 * Visitor used to extract references from the component is is passed to.
+	 * The types of a package are collected in chunks and their references are
+	 * extracted and resolved on up to {@link ApiSearchEngine#fParallelism}
+	 * threads. The references are then run through the requestor on the
+	 * calling thread, as the requestor keeps state for the component being
+	 * searched. Accepted references are reported at the end of each package
+	 * and whenever {@link #COLLECTOR_MAX} of them have been collected, so the
+	 * memory used does not grow with the size of the component.
 	 */
 	class ReferenceExtractor extends ApiTypeContainerVisitor {
 		static final int COLLECTOR_MAX = 2500;
-		private List<IReference> collector = null;
+		/**
+		 * The number of types whose references are extracted at once for each
+		 * thread
+		 */
+		static final int TYPES_PER_THREAD = 16;
+		private final List<IReference> collector = new ArrayList<>();
+		private final List<IApiTypeRoot> typeroots = new ArrayList<>();
 		private IApiSearchRequestor requestor = null;
 		private IApiSearchReporter reporter = null;
 		IApiElement element = null;
@@ -67,7 +89,6 @@ public final class ApiSearchEngine {
 		 * Constructor
 		 */
 		public ReferenceExtractor(IApiSearchRequestor requestor, IApiSearchReporter reporter, IApiElement element, IProgressMonitor monitor) {
-			collector = new ArrayList<>();
 			this.requestor = requestor;
 			this.reporter = reporter;
 			this.element = element;
@@ -84,21 +105,9 @@ public final class ApiSearchEngine {
 			if (monitor.isCanceled()) {
 				return;
 			}
-			try {
-				IApiType type = typeroot.getStructure();
-				if (type == null || !requestor.acceptMember(type)) {
-					return;
-				}
-				collector.addAll(acceptReferences(requestor, type, getResolvedReferences(requestor, type, monitor.split(1)), monitor.split(1)));
-			} catch (CoreException ce) {
-				ApiPlugin.log(ce);
-			}
-		}
-
-		@Override
-		public void end(String packageName, IApiTypeRoot typeroot) {
-			if (this.collector.size() >= COLLECTOR_MAX) {
-				reportResults();
+			typeroots.add(typeroot);
+			if (typeroots.size() >= TYPES_PER_THREAD * fParallelism) {
+				extractReferences();
 			}
 		}
 
@@ -109,15 +118,63 @@ public final class ApiSearchEngine {
 
 		@Override
 		public void endVisitPackage(String packageName) {
+			extractReferences();
 			reportResults();
 		}
 
+		/**
+		 * Extracts the references of the collected types and runs them
+		 * through the requestor
+		 */
+		private void extractReferences() {
+			if (typeroots.isEmpty()) {
+				return;
+			}
+			IProgressMonitor extractMonitor = ParallelAnalysis.cancellationOnly(monitor);
+			List<TypeReferences> extracted = ParallelAnalysis.map(typeroots, fParallelism, typeroot -> {
+				try {
+					IApiType type = typeroot.getStructure();
+					if (type == null || !requestor.acceptMember(type)) {
+						return null;
+					}
+					return new TypeReferences(type, getResolvedReferences(requestor, type, extractMonitor));
+				} catch (CoreException ce) {
+					ApiPlugin.log(ce);
+					return null;
+				}
+			}, extractMonitor);
+			typeroots.clear();
+			for (TypeReferences refs : extracted) {
+				if (refs != null && !monitor.isCanceled()) {
+					collector.addAll(acceptReferences(requestor, refs.type(), refs.references(), monitor.split(1)));
+				}
+				if (collector.size() >= COLLECTOR_MAX) {
+					reportResults();
+				}
+			}
+		}
+
+		/**
+		 * Reports the references accepted since the last report
+		 */
 		private void reportResults() {
 			reporter.reportResults(this.element, collector.toArray(new IReference[collector.size()]));
 			collector.clear();
 		}
 	}
 
+	/**
+	 * The resolved references extracted from one type
+	 */
+	private record TypeReferences(IApiType type, List<IReference> references) {
+	}
+
+	/**
+	 * The maximum number of threads used to extract references from the types
+	 * of a component
+	 */
+	private int fParallelism = 1;
+
 	/**
 	 * Simple string used for reporting what is being searched
 	 */
@@ -285,6 +342,23 @@ public final class ApiSearchEngine {
 		}
 	}
 
+	/**
+	 * Sets the maximum number of threads used to extract references from the
+	 * types of a searched component. The default is <code>1</code>, which
+	 * searches sequentially. With more threads
+	 * {@link IApiSearchRequestor#acceptMember(IApiMember)} is called
+	 * concurrently, all other requestor and reporter methods are always called
+	 * from the thread running the search.
+	 *
+	 * @param parallelism the maximum number of threads or
+	 *            {@link #PREFERRED_PARALLELISM}, other values less than
+	 *            <code>1</code> are treated as <code>1</code>
+	 * @since 1.3.800
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism = ParallelAnalysis.getParallelism(parallelism);
+	}
+
 	/**
 	 * Computes the process context (label)
 	 *
@@ -13,12 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.search;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -26,8 +33,12 @@ import java.util.Set;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.FactoryConfigurationError;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
 import org.eclipse.pde.api.tools.internal.builder.Reference;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -239,33 +250,25 @@ public class XmlReferenceDescriptorWriter {
 			Element root = null;
 			int count = 0;
 			File out = new File(parent, name + ".xml"); //$NON-NLS-1$
-			if (out.exists()) {
-				try {
-					try (FileInputStream inputStream = new FileInputStream(out)) {
-						doc = this.parser.parse(inputStream);
-					} catch (IOException e) {
-						e.printStackTrace();
-					}
-					if (doc == null) {
-						return;
-					}
-					root = doc.getDocumentElement();
-					String value = root.getAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT);
-					count = Integer.parseInt(value);
-				} catch (SAXException se) {
-					se.printStackTrace();
+			if (!out.exists()) {
+				writeNewGroup(origin, referee, out, name, map, visibility);
+				return;
+			}
+			// merge into the references written before
+			try {
+				try (FileInputStream inputStream = new FileInputStream(out)) {
+					doc = this.parser.parse(inputStream);
+				} catch (IOException e) {
+					e.printStackTrace();
 				}
-			} else {
-				doc = Util.newDocument();
-				root = doc.createElement(IApiXmlConstants.REFERENCES);
-				doc.appendChild(root);
-				root.setAttribute(IApiXmlConstants.ATTR_REFERENCE_VISIBILITY, Integer.toString(visibility));
-				root.setAttribute(IApiXmlConstants.ATTR_ORIGIN, origin);
-				root.setAttribute(IApiXmlConstants.ATTR_REFEREE, referee);
-				root.setAttribute(IApiXmlConstants.ATTR_NAME, getFormattedTypeName(name));
-				if (alternate != null) {
-					root.setAttribute(IApiXmlConstants.ATTR_ALTERNATE, getId(alternate));
+				if (doc == null) {
+					return;
 				}
+				root = doc.getDocumentElement();
+				String value = root.getAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT);
+				count = Integer.parseInt(value);
+			} catch (SAXException se) {
+				se.printStackTrace();
 			}
 			if (doc == null || root == null) {
 				return;
@@ -299,6 +302,133 @@ public class XmlReferenceDescriptorWriter {
 		}
 	}
 
+	/**
+	 * Streams a group of references into a new file. This produces the same
+	 * document {@link #writeGroup} would without building a DOM for it, which
+	 * matters as a group holds all references of a component.
+	 *
+	 * @param origin the name of the bundle that has the references in it
+	 * @param referee the name of the bundle that is referenced
+	 */
+	private void writeNewGroup(String origin, String referee, File out, String name,
+			Map<String, Set<IReferenceDescriptor>> map, int visibility) throws CoreException, IOException {
+		int count = 0;
+		for (Set<IReferenceDescriptor> refs : map.values()) {
+			count += refs.size();
+		}
+		try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(out))) {
+			XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(stream,
+					StandardCharsets.UTF_8.name());
+			try {
+				writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0"); //$NON-NLS-1$
+				newLine(writer, 0);
+				writer.writeStartElement(IApiXmlConstants.REFERENCES);
+				writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_VISIBILITY, Integer.toString(visibility));
+				writer.writeAttribute(IApiXmlConstants.ATTR_ORIGIN, origin);
+				writer.writeAttribute(IApiXmlConstants.ATTR_REFEREE, referee);
+				writer.writeAttribute(IApiXmlConstants.ATTR_NAME, getFormattedTypeName(name));
+				if (alternate != null) {
+					writer.writeAttribute(IApiXmlConstants.ATTR_ALTERNATE, getId(alternate));
+				}
+				writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT, Integer.toString(count));
+				for (Entry<String, Set<IReferenceDescriptor>> entry : map.entrySet()) {
+					newLine(writer, 1);
+					writer.writeStartElement(IApiXmlConstants.ELEMENT_TARGET);
+					writer.writeAttribute(IApiXmlConstants.ATTR_NAME, entry.getKey());
+					// group by kind in the order the kinds are first seen
+					Map<Integer, List<IReferenceDescriptor>> kinds = new LinkedHashMap<>();
+					IReferenceDescriptor last = null;
+					for (IReferenceDescriptor ref : entry.getValue()) {
+						kinds.computeIfAbsent(Integer.valueOf(ref.getReferenceKind()), k -> new ArrayList<>()).add(ref);
+						last = ref;
+					}
+					if (last != null && last.getReferencedMember() != null) {
+						// set qualified referenced attributes
+						writeMemberDetails(writer, last.getReferencedMember());
+					}
+					for (Entry<Integer, List<IReferenceDescriptor>> kind : kinds.entrySet()) {
+						List<IReferenceDescriptor> refs = kind.getValue();
+						newLine(writer, 2);
+						writer.writeStartElement(IApiXmlConstants.REFERENCE_KIND);
+						writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_KIND_NAME,
+								Reference.getReferenceText(kind.getKey().intValue()));
+						writer.writeAttribute(IApiXmlConstants.ATTR_KIND, kind.getKey().toString());
+						writer.writeAttribute(IApiXmlConstants.ATTR_FLAGS, Integer.toString(refs.get(0).getReferenceFlags()));
+						for (IReferenceDescriptor ref : refs) {
+							writeReference(writer, ref);
+						}
+						newLine(writer, 2);
+						writer.writeEndElement();
+					}
+					newLine(writer, 1);
+					writer.writeEndElement();
+				}
+				newLine(writer, 0);
+				writer.writeEndElement();
+				writer.writeEndDocument();
+				writer.flush();
+			} finally {
+				writer.close();
+			}
+		} catch (XMLStreamException e) {
+			throw new CoreException(Status.error("Unable to write references to " + out, e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Streams the attributes from the given {@link IReference} as a new
+	 * element, references to unresolved members are skipped.
+	 */
+	private void writeReference(XMLStreamWriter writer, IReferenceDescriptor reference)
+			throws CoreException, XMLStreamException {
+		if (reference.getReferencedMember() == null) {
+			return;
+		}
+		newLine(writer, 3);
+		writer.writeEmptyElement(IApiXmlConstants.ATTR_REFERENCE);
+		IMemberDescriptor member = reference.getMember();
+		writer.writeAttribute(IApiXmlConstants.ATTR_ORIGIN, getText(member));
+		String[] messages = reference.getProblemMessages();
+		if (messages != null) {
+			writer.writeAttribute(IApiXmlConstants.ELEMENT_PROBLEM_MESSAGE_ARGUMENTS, getText(messages));
+		}
+		// add detailed information about origin
+		writeMemberDetails(writer, member);
+		writer.writeAttribute(IApiXmlConstants.ATTR_LINE_NUMBER, Integer.toString(reference.getLineNumber()));
+	}
+
+	/**
+	 * Streams member descriptor details as attributes of the current element.
+	 *
+	 * @param writer the writer positioned in a start element
+	 * @param member member to add details for
+	 */
+	private void writeMemberDetails(XMLStreamWriter writer, IMemberDescriptor member) throws XMLStreamException {
+		switch (member.getElementType()) {
+			case IElementDescriptor.TYPE -> writer.writeAttribute(IApiXmlConstants.ATTR_TYPE,
+					((IReferenceTypeDescriptor) member).getQualifiedName());
+			case IElementDescriptor.FIELD -> {
+				writer.writeAttribute(IApiXmlConstants.ATTR_TYPE, member.getEnclosingType().getQualifiedName());
+				writer.writeAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
+			}
+			case IElementDescriptor.METHOD -> {
+				writer.writeAttribute(IApiXmlConstants.ATTR_TYPE, member.getEnclosingType().getQualifiedName());
+				writer.writeAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
+				writer.writeAttribute(IApiXmlConstants.ATTR_SIGNATURE, ((IMethodDescriptor) member).getSignature());
+			}
+			default -> { /**/ }
+		}
+	}
+
+	/**
+	 * Indents the next element the same way {@link Util#writeDocumentToFile}
+	 * does
+	 */
+	private static void newLine(XMLStreamWriter writer, int depth) throws XMLStreamException {
+		writer.writeCharacters(System.lineSeparator());
+		writer.writeCharacters(" ".repeat(depth * 4)); //$NON-NLS-1$
+	}
+
 	/**
 	 * Add member descriptor details to the given element.
 	 *
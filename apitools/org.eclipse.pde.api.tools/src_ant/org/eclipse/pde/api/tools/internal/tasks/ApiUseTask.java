@@ -28,6 +28,7 @@ import org.apache.tools.ant.BuildException;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.service.resolver.ResolverError;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.builder.ParallelAnalysis;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -118,6 +119,11 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * Maximum number of threads used to scan a component
+	 */
+	private int parallelism = 1;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -269,6 +275,27 @@ public final class ApiUseTask extends CommonUtilsTask {
 		archivePatterns = parsePatterns(patterns);
 	}
 
+	/**
+	 * Sets the maximum number of threads used to extract references from the
+	 * types of a scanned component.
+	 * <p>
+	 * The possible values are a positive number of threads or <code>0</code>
+	 * to use all available processors.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param parallelism the given value
+	 */
+	public void setParallelism(String parallelism) {
+		try {
+			this.parallelism = ParallelAnalysis.toThreadCount(Integer.parseInt(parallelism));
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.ApiUseTask_invalid_parallelism, parallelism));
+		}
+	}
+
 	protected void assertParameters() throws BuildException {
 		if (this.reportLocation == null) {
 			StringWriter out = new StringWriter();
@@ -302,6 +329,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			TreeSet<IApiComponent> scope = new TreeSet<>(Util.componentsorter);
 			getContext(baseline, ids, scope);
 			ApiSearchEngine engine = new ApiSearchEngine();
+			engine.setParallelism(this.parallelism);
 			UseSearchRequestor requestor = new UseSearchRequestor(ids, scope.toArray(new IApiElement[scope.size()]), getSearchFlags());
 			requestor.setJarPatterns(archivePatterns);
 			requestor.setFilterRoot(filters);
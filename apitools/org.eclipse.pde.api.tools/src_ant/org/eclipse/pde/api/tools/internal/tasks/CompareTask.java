@@ -24,6 +24,7 @@ import java.util.regex.PatternSyntaxException;
 import org.apache.tools.ant.BuildException;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.builder.ParallelAnalysis;
 import org.eclipse.pde.api.tools.internal.model.StubApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
@@ -49,6 +50,7 @@ public class CompareTask extends CommonUtilsTask {
 	private String componentsList;
 	private String excludeListLocation;
 	private String includeListLocation;
+	private int parallelism = 1;
 
 	@Override
 	public void execute() throws BuildException {
@@ -140,7 +142,7 @@ public class CompareTask extends CommonUtilsTask {
 			scope.addElement(currentBaseline);
 		}
 		try {
-			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, null);
+			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, false, this.parallelism, null);
 		} catch (CoreException e) {
 			// an error occurred during the comparison
 			throw new BuildException(NLS.bind(Messages.illegalElementInScope, e.getMessage()));
@@ -275,6 +277,28 @@ public class CompareTask extends CommonUtilsTask {
 			}
 	}
 
+	/**
+	 * Sets the maximum number of threads used to compare the components and
+	 * their types.
+	 * <p>
+	 * The possible values are a positive number of threads or <code>0</code>
+	 * to use all available processors. The report does not depend on the
+	 * number of threads.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param parallelism the given value
+	 */
+	public void setParallelism(String parallelism) {
+		try {
+			this.parallelism = ParallelAnalysis.toThreadCount(Integer.parseInt(parallelism));
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.CompareTask_invalid_parallelism, parallelism));
+		}
+	}
+
 	/**
 	 * Set the given components that needs to be compared against the baseline.
 	 *
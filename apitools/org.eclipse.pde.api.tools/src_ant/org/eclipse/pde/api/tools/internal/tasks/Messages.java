@@ -75,6 +75,7 @@ public class Messages extends NLS {
 	public static String printArguments;
 	public static String errorInComparison;
 	public static String illegalElementInScope;
+	public static String CompareTask_invalid_parallelism;
 	public static String errorCreatingParentReportFile;
 	public static String errorCreatingReportDirectory;
 	public static String directoryIsEmpty;
@@ -91,6 +92,7 @@ public class Messages extends NLS {
 	public static String ApiMigrationTask_scan_locatoin_same_as_report_location;
 
 	public static String ApiUseReportConversionTask_conversion_complete;
+	public static String ApiUseTask_invalid_parallelism;
 	public static String ApiUseTask_missing_baseline_argument;
 	public static String ApiUseTask_missing_report_location;
 	public static String ApiUseTask_search_engine_problem;
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Properties;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.pde.build.tests.PDETestCase;
+import org.junit.Test;
+
+/**
+ * Tests the scheduling of the <code>eclipse.parallelBuild</code> task and the
+ * timings it records.
+ */
+public class ParallelBuildTests extends PDETestCase {
+
+	@Test
+	public void testReadyBundleWithLongestChainFirst() throws Exception {
+		IFolder buildFolder = newTest("parallelBuild_order");
+		writeBundleScript(buildFolder, "A", false);
+		writeBundleScript(buildFolder, "B", false);
+		writeBundleScript(buildFolder, "C", false);
+
+		// B has a bundle depending on it, A has not
+		StringBuffer bundles = new StringBuffer();
+		bundles.append("<bundle id=\"1\" name=\"A\" version=\"1.0.0\" dir=\"A\"/>\n");
+		bundles.append("<bundle id=\"2\" name=\"B\" version=\"1.0.0\" dir=\"B\"/>\n");
+		bundles.append("<bundle id=\"3\" name=\"C\" version=\"1.0.0\" dir=\"C\" requires=\"2\"/>\n");
+		runParallelBuild(buildFolder, bundles);
+
+		assertEquals(List.of("B", "A", "C"), readOrder(buildFolder));
+	}
+
+	@Test
+	public void testFailureStopsScheduling() throws Exception {
+		IFolder buildFolder = newTest("parallelBuild_failure");
+		writeBundleScript(buildFolder, "A", true);
+		writeBundleScript(buildFolder, "B", false);
+		writeBundleScript(buildFolder, "C", false);
+
+		StringBuffer bundles = new StringBuffer();
+		bundles.append("<bundle id=\"1\" name=\"A\" version=\"1.0.0\" dir=\"A\"/>\n");
+		bundles.append("<bundle id=\"2\" name=\"B\" version=\"1.0.0\" dir=\"B\" requires=\"1\"/>\n");
+		bundles.append("<bundle id=\"3\" name=\"C\" version=\"1.0.0\" dir=\"C\"/>\n");
+		try {
+			runParallelBuild(buildFolder, bundles);
+			fail("The parallel build was expected to fail.");
+		} catch (Exception e) {
+			assertLogContainsLine(buildFolder.getFile("log.log"), "Failure of A");
+		}
+
+		assertEquals(List.of("A"), readOrder(buildFolder));
+	}
+
+	@Test
+	public void testTimings() throws Exception {
+		IFolder buildFolder = newTest("parallelBuild_timings");
+		writeBundleScript(buildFolder, "A_1", false);
+		writeBundleScript(buildFolder, "A_2", false);
+		writeBundleScript(buildFolder, "B", false);
+
+		// the recorded durations are kept apart for each version of A
+		StringBuffer timings = new StringBuffer();
+		timings.append("A_1.0.0=1\n");
+		timings.append("A_2.0.0=1000\n");
+		timings.append("B_1.0.0=10\n");
+		Utils.writeBuffer(buildFolder.getFile("compile.timings"), timings);
+
+		StringBuffer bundles = new StringBuffer();
+		bundles.append("<bundle id=\"1\" name=\"A\" version=\"1.0.0\" dir=\"A_1\"/>\n");
+		bundles.append("<bundle id=\"2\" name=\"B\" version=\"1.0.0\" dir=\"B\"/>\n");
+		bundles.append("<bundle id=\"3\" name=\"A\" version=\"2.0.0\" dir=\"A_2\"/>\n");
+		runParallelBuild(buildFolder, bundles);
+
+		assertEquals(List.of("A_2", "B", "A_1"), readOrder(buildFolder));
+		Properties recorded = Utils.loadProperties(buildFolder.getFile("compile.timings"));
+		assertEquals(3, recorded.size());
+		for (String key : new String[] { "A_1.0.0", "A_2.0.0", "B_1.0.0" }) {
+			assertNotNull(key, recorded.getProperty(key));
+			assertTrue(key, Long.parseLong(recorded.getProperty(key)) >= 0);
+		}
+		assertFalse(recorded.containsKey("A"));
+	}
+
+	private void runParallelBuild(IFolder buildFolder, StringBuffer bundles) throws Exception {
+		StringBuffer buffer = new StringBuffer();
+		buffer.append("<project name=\"parallel\" default=\"main\">\n");
+		buffer.append("  <target name=\"main\">\n");
+		buffer.append("    <eclipse.parallelBuild antfile=\"build.xml\" target=\"build\" threadCount=\"1\" timings=\"compile.timings\">\n");
+		buffer.append(bundles);
+		buffer.append("    </eclipse.parallelBuild>\n");
+		buffer.append("  </target>\n");
+		buffer.append("</project>\n");
+		IFile buildXml = buildFolder.getFile("parallel.xml");
+		Utils.writeBuffer(buildXml, buffer);
+
+		runAntScript(buildXml.getLocation().toOSString(), new String[] { "main" },
+				buildFolder.getLocation().toOSString(), null);
+	}
+
+	private static void writeBundleScript(IFolder buildFolder, String name, boolean fail) throws Exception {
+		StringBuffer buffer = new StringBuffer();
+		buffer.append("<project name=\"" + name + "\" default=\"build\">\n");
+		buffer.append("  <target name=\"build\">\n");
+		buffer.append("    <echo file=\"${builder}/order.log\" append=\"true\" message=\"" + name + "${line.separator}\"/>\n");
+		if (fail) {
+			buffer.append("    <fail message=\"Failure of " + name + "\"/>\n");
+		}
+		buffer.append("  </target>\n");
+		buffer.append("</project>\n");
+		Utils.writeBuffer(buildFolder.getFile(name + "/build.xml"), buffer);
+	}
+
+	private static List<String> readOrder(IFolder buildFolder) throws Exception {
+		File order = new File(buildFolder.getLocation().toFile(), "order.log");
+		return Files.readAllLines(order.toPath()).stream().filter(line -> !line.isBlank()).toList();
+	}
+}
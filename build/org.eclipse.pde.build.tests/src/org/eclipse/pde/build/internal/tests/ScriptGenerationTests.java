@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -46,7 +46,6 @@ import org.apache.tools.ant.Task;
 import org.apache.tools.ant.filters.StringInputStream;
 import org.apache.tools.ant.taskdefs.Copy;
 import org.apache.tools.ant.taskdefs.Javac;
-import org.apache.tools.ant.taskdefs.Parallel;
 import org.apache.tools.ant.taskdefs.Zip;
 import org.apache.tools.ant.types.Path;
 import org.eclipse.core.resources.IFile;
@@ -874,38 +873,43 @@ public class ScriptGenerationTests extends PDETestCase {
 		Project antProject = assertValidAntScript(buildScript);
 		Target main = antProject.getTargets().get("main");
 		assertNotNull(main);
-		Object[] children = AntUtils.getChildrenByName(main, "parallel");
-		assertEquals(4, children.length);
-
-		Task[] tasks = AntUtils.getParallelTasks((Parallel) children[0]);
-		assertEquals(2, tasks.length);
-		String dir0 = (String) tasks[0].getRuntimeConfigurableWrapper().getAttributeMap().get("dir");
-		String dir1 = (String) tasks[1].getRuntimeConfigurableWrapper().getAttributeMap().get("dir");
-		if (dir0.equals("plugins/B")) {
-			assertEquals("plugins/A", dir1);
-		} else {
-			assertEquals("plugins/A", dir0);
-			assertEquals("plugins/B", dir1);
+		Task parallelBuild = null;
+		for (Task task : main.getTasks()) {
+			if (task.getTaskName().equals("eclipse.parallelBuild")) {
+				assertEquals(null, parallelBuild);
+				parallelBuild = task;
+			}
 		}
-
-		tasks = AntUtils.getParallelTasks((Parallel) children[1]);
-		assertEquals(2, tasks.length);
-		dir0 = (String) tasks[0].getRuntimeConfigurableWrapper().getAttributeMap().get("dir");
-		dir1 = (String) tasks[1].getRuntimeConfigurableWrapper().getAttributeMap().get("dir");
-		if (dir0.equals("plugins/C")) {
-			assertEquals("plugins/D", dir1);
-		} else {
-			assertEquals("plugins/D", dir0);
-			assertEquals("plugins/C", dir1);
+		assertNotNull(parallelBuild);
+
+		// each bundle is scheduled with the bundles it requires
+		Map<String, String> dirs = new HashMap<>();
+		Map<String, String> requires = new HashMap<>();
+		Enumeration<RuntimeConfigurable> bundles = parallelBuild.getRuntimeConfigurableWrapper().getChildren();
+		while (bundles.hasMoreElements()) {
+			Map<String, Object> attributes = bundles.nextElement().getAttributeMap();
+			String dir = (String) attributes.get("dir");
+			dirs.put((String) attributes.get("id"), dir);
+			requires.put(dir, (String) attributes.get("requires"));
+		}
+		assertEquals(6, dirs.size());
+		assertEquals(null, requires.get("plugins/A"));
+		assertEquals(null, requires.get("plugins/B"));
+		assertRequires(dirs, requires.get("plugins/C"), "plugins/A");
+		assertRequires(dirs, requires.get("plugins/D"), "plugins/A", "plugins/B");
+		assertRequires(dirs, requires.get("plugins/E"), "plugins/B", "plugins/C", "plugins/D");
+		assertRequires(dirs, requires.get("plugins/F"), "plugins/C", "plugins/D", "plugins/E");
+	}
+
+	private void assertRequires(Map<String, String> dirs, String requires, String... expected) {
+		assertNotNull(requires);
+		Set<String> required = new HashSet<>();
+		for (String id : requires.split(":")) {
+			required.add(dirs.get(id));
+		}
+		for (String dir : expected) {
+			assertTrue(dir + " not in " + required, required.contains(dir));
 		}
-
-		tasks = AntUtils.getParallelTasks((Parallel) children[2]);
-		assertEquals(1, tasks.length);
-		assertEquals("plugins/E", tasks[0].getRuntimeConfigurableWrapper().getAttributeMap().get("dir"));
-
-		tasks = AntUtils.getParallelTasks((Parallel) children[3]);
-		assertEquals(1, tasks.length);
-		assertEquals("plugins/F", tasks[0].getRuntimeConfigurableWrapper().getAttributeMap().get("dir"));
 	}
 
 	public static class TestQualifierDirector extends BuildDirector {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -13,7 +13,9 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
@@ -25,6 +27,7 @@ import org.eclipse.pde.internal.build.AssemblyInformation;
 import org.eclipse.pde.internal.build.Utils;
 
 public class CompilationScriptGenerator extends AbstractScriptGenerator {
+	private static final String TASK_PARALLEL_BUILD = "eclipse.parallelBuild"; //$NON-NLS-1$
 
 	private String featureId = "all"; //$NON-NLS-1$
 	private boolean parallel = true;
@@ -94,15 +97,33 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 		script.printProjectEnd();
 	}
 
+	/**
+	 * Generates the calls to the <code>build.jars</code> target of each
+	 * plug-in. When compiling in parallel, the plug-ins are handed to the
+	 * <code>eclipse.parallelBuild</code> task along with the plug-ins they
+	 * require, so each plug-in starts as soon as its own prerequisites are
+	 * compiled.
+	 */
 	private void generatePlugins() throws CoreException {
 		Set<BundleDescription> plugins = assemblyData.getAllCompiledPlugins();
 		List<BundleDescription> sortedPlugins = Utils.extractPlugins(getSite(false).getRegistry().getSortedBundles(), plugins);
 		IPath basePath = IPath.fromOSString(workingDirectory);
 
-		Set<Long> bucket = null;
+		Set<Long> scheduled = null;
 		if (parallel) {
-			bucket = new HashSet<>();
-			script.printParallel(threadCount, threadsPerProcessor);
+			scheduled = new HashSet<>();
+			Map<String, String> arguments = new LinkedHashMap<>();
+			arguments.put("antfile", DEFAULT_BUILD_SCRIPT_FILENAME); //$NON-NLS-1$
+			arguments.put("target", TARGET_BUILD_JARS); //$NON-NLS-1$
+			if (threadCount > 0) {
+				arguments.put("threadCount", String.valueOf(threadCount)); //$NON-NLS-1$
+			}
+			if (threadsPerProcessor > 0) {
+				arguments.put("threadsPerProcessor", String.valueOf(threadsPerProcessor)); //$NON-NLS-1$
+			}
+			arguments.put("timings", DEFAULT_COMPILE_NAME + '.' + featureId + ".timings"); //$NON-NLS-1$ //$NON-NLS-2$
+			script.printStartTag(TASK_PARALLEL_BUILD, arguments);
+			script.incrementIdent();
 		}
 
 		for (BundleDescription bundle : sortedPlugins) {
@@ -111,25 +132,36 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 				continue;
 			}
 
+			IPath location = Utils.makeRelative(IPath.fromOSString(getLocation(bundle)), basePath);
 			if (parallel) {
-				if (requiredInBucket(bundle, bucket)) {
-					script.printEndParallel();
-					script.printParallel(threadCount, threadsPerProcessor);
-					bucket.clear();
+				Map<String, String> arguments = new LinkedHashMap<>();
+				arguments.put("id", String.valueOf(bundle.getBundleId())); //$NON-NLS-1$
+				arguments.put("name", bundle.getSymbolicName()); //$NON-NLS-1$
+				arguments.put("version", bundle.getVersion().toString()); //$NON-NLS-1$
+				arguments.put("dir", location.toString()); //$NON-NLS-1$
+				String required = getRequiredInBuild(bundle, scheduled);
+				if (required.length() > 0) {
+					arguments.put("requires", required); //$NON-NLS-1$
 				}
-				bucket.add(Long.valueOf(bundle.getBundleId()));
+				script.printElement("bundle", arguments); //$NON-NLS-1$
+				scheduled.add(Long.valueOf(bundle.getBundleId()));
+			} else {
+				script.printAntTask(DEFAULT_BUILD_SCRIPT_FILENAME, location.toString(), TARGET_BUILD_JARS, null, null, null);
 			}
-
-			IPath location = Utils.makeRelative(IPath.fromOSString(getLocation(bundle)), basePath);
-			script.printAntTask(DEFAULT_BUILD_SCRIPT_FILENAME, location.toString(), TARGET_BUILD_JARS, null, null, null);
 		}
 
 		if (parallel) {
-			script.printEndParallel();
+			script.decrementIdent();
+			script.printEndTag(TASK_PARALLEL_BUILD);
 		}
 	}
 
-	private boolean requiredInBucket(BundleDescription bundle, Set<Long> bucket) {
+	/**
+	 * Returns the ids of the bundles required by the given bundle that are
+	 * compiled before it by this script, separated by ':'
+	 */
+	private String getRequiredInBuild(BundleDescription bundle, Set<Long> scheduled) {
+		StringBuilder result = new StringBuilder();
 		Properties properties = (Properties) bundle.getUserObject();
 		if (properties != null) {
 			String required = properties.getProperty(PROPERTY_REQUIRED_BUNDLE_IDS);
@@ -137,8 +169,11 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 				String[] ids = Utils.getArrayFromString(required, ":"); //$NON-NLS-1$
 				for (String id2 : ids) {
 					try {
-						if (bucket.contains(Long.valueOf(id2))) {
-							return true;
+						if (scheduled.contains(Long.valueOf(id2))) {
+							if (result.length() > 0) {
+								result.append(':');
+							}
+							result.append(id2);
 						}
 					} catch (NumberFormatException e) {
 						//ignore
@@ -146,6 +181,6 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 				}
 			}
 		}
-		return false;
+		return result.toString();
 	}
 }
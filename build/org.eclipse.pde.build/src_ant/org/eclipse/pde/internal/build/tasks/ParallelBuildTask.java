@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Task;
+import org.apache.tools.ant.taskdefs.Ant;
+
+/**
+ * Runs a target of the build scripts of a set of bundles in parallel, in
+ * dependency order. A bundle is started as soon as the bundles it requires
+ * are done rather than in waves, and among the bundles that are ready the one
+ * with the longest chain of work depending on it is started first.
+ * <p>
+ * The duration of each bundle is recorded in the <code>timings</code> file
+ * under its name and version and used to weigh the chains of the next build.
+ * Bundles without a recorded duration are weighed with the median of the
+ * known durations.
+ * </p>
+ *
+ * <pre>
+ * &lt;eclipse.parallelBuild antfile="build.xml" target="build.jars" threadsPerProcessor="3" timings="compile.timings"&gt;
+ *     &lt;bundle id="1" name="A" version="1.0.0" dir="plugins/A"/&gt;
+ *     &lt;bundle id="2" name="B" version="1.0.0" dir="plugins/B" requires="1"/&gt;
+ * &lt;/eclipse.parallelBuild&gt;
+ * </pre>
+ */
+public class ParallelBuildTask extends Task {
+	private static final String ANT_PREFIX = "${"; //$NON-NLS-1$
+
+	public static class Bundle {
+		String id;
+		String name;
+		String version;
+		String dir;
+		String requires;
+
+		// scheduling state
+		final List<Bundle> dependents = new ArrayList<>();
+		int order;
+		int pending;
+		long weight;
+		long priority = -1;
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public void setVersion(String version) {
+			this.version = version;
+		}
+
+		public void setDir(String dir) {
+			this.dir = dir;
+		}
+
+		public void setRequires(String requires) {
+			this.requires = requires;
+		}
+
+		/**
+		 * Returns the key of the recorded duration, several versions of a
+		 * bundle can be part of the same build
+		 */
+		String getTimingKey() {
+			if (name == null) {
+				return id;
+			}
+			return version != null ? name + '_' + version : name;
+		}
+	}
+
+	private final List<Bundle> bundles = new ArrayList<>();
+	private String antfile = null;
+	private String target = null;
+	private int threadCount = 0;
+	private int threadsPerProcessor = 0;
+	private String timingsFile = null;
+
+	@Override
+	public void execute() throws BuildException {
+		if (bundles.isEmpty()) {
+			return;
+		}
+		Properties timings = readTimings();
+		prepare(timings);
+
+		PriorityQueue<Bundle> ready = new PriorityQueue<>((b1, b2) -> b1.priority != b2.priority ? Long.compare(b2.priority, b1.priority) : Integer.compare(b1.order, b2.order));
+		for (Bundle bundle : bundles) {
+			if (bundle.pending == 0) {
+				ready.add(bundle);
+			}
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(getThreadCount());
+		ExecutorCompletionService<Bundle> completion = new ExecutorCompletionService<>(executor);
+		Throwable failure = null;
+		int running = 0;
+		try {
+			while (running > 0 || (!ready.isEmpty() && failure == null)) {
+				while (!ready.isEmpty() && running < getThreadCount() && failure == null) {
+					Bundle next = ready.poll();
+					completion.submit(() -> {
+						long start = System.currentTimeMillis();
+						build(next);
+						long duration = System.currentTimeMillis() - start;
+						String key = next.getTimingKey();
+						if (key != null) {
+							synchronized (timings) {
+								timings.setProperty(key, Long.toString(duration));
+							}
+						}
+						return next;
+					});
+					running++;
+				}
+				Bundle done;
+				try {
+					done = completion.take().get();
+				} catch (ExecutionException e) {
+					// like <parallel>, let the running bundles finish and fail afterwards
+					if (failure == null) {
+						failure = e.getCause();
+					}
+					running--;
+					continue;
+				}
+				running--;
+				for (Bundle dependent : done.dependents) {
+					if (--dependent.pending == 0) {
+						ready.add(dependent);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failure = e;
+		} finally {
+			executor.shutdownNow();
+			writeTimings(timings);
+		}
+
+		if (failure instanceof BuildException buildException) {
+			throw buildException;
+		}
+		if (failure != null) {
+			throw new BuildException(failure);
+		}
+	}
+
+	/**
+	 * Links the bundles to their dependents and computes the length of the
+	 * longest chain of work starting at each bundle
+	 */
+	private void prepare(Properties timings) {
+		Map<String, Bundle> byId = new HashMap<>();
+		for (int i = 0; i < bundles.size(); i++) {
+			Bundle bundle = bundles.get(i);
+			bundle.order = i;
+			byId.put(bundle.id != null ? bundle.id : bundle.name, bundle);
+		}
+
+		long defaultWeight = getDefaultWeight(timings);
+		for (Bundle bundle : bundles) {
+			bundle.weight = defaultWeight;
+			String key = bundle.getTimingKey();
+			String recorded = key != null ? timings.getProperty(key) : null;
+			if (recorded != null) {
+				try {
+					bundle.weight = Math.max(1, Long.parseLong(recorded));
+				} catch (NumberFormatException e) {
+					// use the default weight
+				}
+			}
+			if (bundle.requires != null) {
+				for (String required : bundle.requires.split(":")) { //$NON-NLS-1$
+					Bundle prerequisite = byId.get(required.trim());
+					// bundles are listed in dependency order, ignore anything else
+					if (prerequisite != null && prerequisite.order < bundle.order && !prerequisite.dependents.contains(bundle)) {
+						prerequisite.dependents.add(bundle);
+						bundle.pending++;
+					}
+				}
+			}
+		}
+
+		// dependents come later in the list, so walk it backwards
+		for (int i = bundles.size() - 1; i >= 0; i--) {
+			Bundle bundle = bundles.get(i);
+			long longest = 0;
+			for (Bundle dependent : bundle.dependents) {
+				longest = Math.max(longest, dependent.priority);
+			}
+			bundle.priority = bundle.weight + longest;
+		}
+	}
+
+	private long getDefaultWeight(Properties timings) {
+		long[] known = timings.values().stream().mapToLong(value -> {
+			try {
+				return Long.parseLong((String) value);
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+		}).filter(value -> value > 0).toArray();
+		if (known.length == 0) {
+			return 1;
+		}
+		Arrays.sort(known);
+		return known[known.length / 2];
+	}
+
+	private void build(Bundle bundle) {
+		Ant task = new Ant();
+		task.setLocation(getLocation());
+		task.setProject(getProject());
+		task.setOwningTarget(getOwningTarget());
+		task.setTaskName("ant"); //$NON-NLS-1$
+		task.init();
+		if (antfile != null) {
+			task.setAntfile(antfile);
+		}
+		task.setDir(getProject().resolveFile(bundle.dir));
+		if (target != null) {
+			task.setTarget(target);
+		}
+		task.perform();
+	}
+
+	private int getThreadCount() {
+		// same rules as <parallel>
+		int processors = Runtime.getRuntime().availableProcessors();
+		if (threadsPerProcessor > 0) {
+			return processors * threadsPerProcessor;
+		}
+		return threadCount > 0 ? threadCount : processors;
+	}
+
+	private Properties readTimings() {
+		Properties timings = new Properties();
+		File file = getTimingsFile();
+		if (file != null && file.isFile()) {
+			try (InputStream input = new FileInputStream(file)) {
+				timings.load(input);
+			} catch (IOException e) {
+				log("Could not read build timings from " + file, e, Project.MSG_WARN); //$NON-NLS-1$
+			}
+		}
+		return timings;
+	}
+
+	private void writeTimings(Properties timings) {
+		File file = getTimingsFile();
+		if (file == null) {
+			return;
+		}
+		file.getParentFile().mkdirs();
+		synchronized (timings) {
+			try (OutputStream output = new FileOutputStream(file)) {
+				timings.store(output, "Duration in milliseconds of the last build of each bundle"); //$NON-NLS-1$
+			} catch (IOException e) {
+				log("Could not write build timings to " + file, e, Project.MSG_WARN); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private File getTimingsFile() {
+		if (timingsFile == null || timingsFile.length() == 0 || timingsFile.startsWith(ANT_PREFIX)) {
+			return null;
+		}
+		return getProject().resolveFile(timingsFile);
+	}
+
+	public Bundle createBundle() {
+		Bundle bundle = new Bundle();
+		bundles.add(bundle);
+		return bundle;
+	}
+
+	public void setAntfile(String antfile) {
+		this.antfile = antfile;
+	}
+
+	public void setTarget(String target) {
+		this.target = target;
+	}
+
+	public void setThreadCount(int threadCount) {
+		this.threadCount = threadCount;
+	}
+
+	public void setThreadsPerProcessor(int threadsPerProcessor) {
+		this.threadsPerProcessor = threadsPerProcessor;
+	}
+
+	public void setTimings(String timingsFile) {
+		this.timingsFile = timingsFile;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2019 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -163,4 +163,25 @@ public interface ITargetLocation extends IAdaptable {
 	 *         <code>null</code>
 	 */
 	String serialize();
+
+	/**
+	 * Returns whether this location can be resolved concurrently with other
+	 * locations of the same target definition. Locations that return
+	 * <code>true</code> may have {@link #resolve(ITargetDefinition, IProgressMonitor)}
+	 * called on a background thread while other locations of the target are
+	 * resolved, so resolving them must not depend on shared state that is not
+	 * thread safe. The progress monitor passed to such a resolution only
+	 * reports cancellation.
+	 * <p>
+	 * The default implementation returns <code>false</code>, such locations are
+	 * resolved one after the other on the thread resolving the target.
+	 * </p>
+	 *
+	 * @return whether this location can be resolved concurrently with other
+	 *         locations
+	 * @since 3.21
+	 */
+	default boolean isConcurrentResolutionSupported() {
+		return false;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 
@@ -29,6 +31,7 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.core.target.ITargetPlatformService;
@@ -165,6 +168,21 @@ public class DependencyManager {
 			Options... options) {
 
 		Set<Options> optionSet = Set.of(options);
+		ClosureKey key = ClosureCache.createKey(bundles, optionSet);
+		if (key == null) {
+			return computeRequirementsClosure(bundles, optionSet);
+		}
+		Set<BundleDescription> closure = ClosureCache.get(key);
+		if (closure == null) {
+			closure = Collections.unmodifiableSet(computeRequirementsClosure(bundles, optionSet));
+			ClosureCache.put(key, closure);
+		}
+		// callers are free to modify the returned set
+		return new HashSet<>(closure);
+	}
+
+	private static Set<BundleDescription> computeRequirementsClosure(Collection<BundleDescription> bundles,
+			Set<Options> optionSet) {
 		boolean includeOptional = optionSet.contains(Options.INCLUDE_OPTIONAL_DEPENDENCIES);
 		boolean includeAllFragments = optionSet.contains(Options.INCLUDE_ALL_FRAGMENTS);
 		boolean includeNonTestFragments = optionSet.contains(Options.INCLUDE_NON_TEST_FRAGMENTS);
@@ -229,6 +247,109 @@ public class DependencyManager {
 		return closure;
 	}
 
+	/**
+	 * Key of a cached requirements closure. The time stamp of the state changes
+	 * whenever bundles are added, removed or resolved, so a closure of an
+	 * outdated state is never served even before the cache is flushed.
+	 */
+	private record ClosureKey(State state, long timeStamp, Set<BundleDescription> roots, Set<Options> options) {
+	}
+
+	/**
+	 * Cache of the most recently computed requirements closures. Launch
+	 * validation, export and classpath computation compute the same closures
+	 * repeatedly. The cache is flushed whenever the PDE state is resolved or
+	 * replaced.
+	 * <p>
+	 * The cache only holds closures of one state at a time, a closure of
+	 * another state replaces all cached closures. So at most the last state
+	 * closures were computed for is retained, which is usually the current
+	 * PDE state, and no state is retained once the PDE state is replaced.
+	 * </p>
+	 */
+	private static final class ClosureCache {
+
+		private static final int MAX_SIZE = 32;
+
+		private static final Map<ClosureKey, Set<BundleDescription>> CLOSURES = new LinkedHashMap<>(MAX_SIZE, 0.75f,
+				true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ClosureKey, Set<BundleDescription>> eldest) {
+				return size() > MAX_SIZE;
+			}
+		};
+
+		private static boolean fListening = false;
+
+		/** the state of all cached closures */
+		private static State fState;
+
+		private static final IStateDeltaListener FLUSH_LISTENER = new IStateDeltaListener() {
+			@Override
+			public void stateResolved(StateDelta delta) {
+				clear();
+			}
+
+			@Override
+			public void stateChanged(State newState) {
+				clear();
+			}
+		};
+
+		/**
+		 * Returns the cache key for the given closure request or
+		 * <code>null</code> if the closure must not be cached: when the bundles
+		 * don't belong to one state, or when test fragments have to be
+		 * excluded, as whether a fragment is a test fragment depends on the
+		 * classpath of its project and not on the state.
+		 */
+		static ClosureKey createKey(Collection<BundleDescription> bundles, Set<Options> options) {
+			if (options.contains(Options.INCLUDE_NON_TEST_FRAGMENTS)) {
+				return null;
+			}
+			State state = null;
+			Set<BundleDescription> roots = new HashSet<>(bundles.size() * 4 / 3 + 1);
+			for (BundleDescription bundle : bundles) {
+				if (bundle == null) {
+					continue;
+				}
+				State containingState = bundle.getContainingState();
+				if (containingState == null || (state != null && state != containingState)) {
+					return null;
+				}
+				state = containingState;
+				roots.add(bundle);
+			}
+			if (state == null) {
+				return null;
+			}
+			return new ClosureKey(state, state.getTimeStamp(), roots, options);
+		}
+
+		static synchronized Set<BundleDescription> get(ClosureKey key) {
+			return key.state() == fState ? CLOSURES.get(key) : null;
+		}
+
+		static synchronized void put(ClosureKey key, Set<BundleDescription> closure) {
+			if (!fListening && PDECore.getDefault() != null) {
+				PDECore.getDefault().getModelManager().addStateDeltaListener(FLUSH_LISTENER);
+				fListening = true;
+			}
+			if (key.state() != fState) {
+				CLOSURES.clear();
+				fState = key.state();
+			}
+			CLOSURES.put(key, closure);
+		}
+
+		static synchronized void clear() {
+			CLOSURES.clear();
+			fState = null;
+		}
+	}
+
 	private static boolean isExtensibleApi(BundleDescription bundleDescription) {
 		if (bundleDescription.getFragments().length == 0) {
 			return false;
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Persistent index of the extension points declared and extended by the
+ * bundles of the workspace and the target. The index is keyed by the location
+ * of the bundle and remembers the stamp of its <code>plugin.xml</code> or
+ * <code>fragment.xml</code>, so the descriptor of a bundle is only scanned
+ * again when it has changed.
+ * <p>
+ * The extension registry uses the index to add only the contributions of the
+ * bundles involved in a query instead of parsing every bundle up front.
+ * Extension point ids are kept as written in the descriptor, they may be
+ * simple or qualified, see {@link #matches(String, String)}.
+ * </p>
+ */
+public final class ExtensionPointIndex {
+
+	private static final int MAGIC = 0x50444558; // "PDEX"
+	private static final int VERSION = 1;
+	private static final String INDEX_FILE = "extension-points.bin"; //$NON-NLS-1$
+
+	private static final String[] NONE = new String[0];
+
+	/**
+	 * The extension points of one bundle location
+	 *
+	 * @param stamp the modification stamp of the descriptor
+	 * @param length the length of the descriptor
+	 * @param points ids of the extension points declared by the bundle
+	 * @param extended ids of the extension points extended by the bundle
+	 */
+	public record Entry(long stamp, long length, String[] points, String[] extended) {
+
+		/**
+		 * @return <code>true</code> if the bundle declares or extends the given
+		 *         extension point
+		 */
+		public boolean involves(String pointId) {
+			for (String point : points) {
+				if (matches(pointId, point)) {
+					return true;
+				}
+			}
+			for (String point : extended) {
+				if (matches(pointId, point)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private final Path fFile;
+	private final Map<String, Entry> fCached;
+	private final Map<String, Entry> fCurrent = new HashMap<>();
+	private boolean fChanged;
+
+	private ExtensionPointIndex(Path file, Map<String, Entry> cached) {
+		fFile = file;
+		fCached = cached;
+	}
+
+	/**
+	 * Loads the index from the state location of PDE.
+	 *
+	 * @return the index
+	 */
+	static ExtensionPointIndex load() {
+		return load(PDECore.getDefault().getStateLocation().toPath().resolve(INDEX_FILE));
+	}
+
+	/**
+	 * Loads the index from the given file.
+	 *
+	 * @param file the index file, it does not have to exist
+	 * @return the index
+	 */
+	public static ExtensionPointIndex load(Path file) {
+		return new ExtensionPointIndex(file, read(file));
+	}
+
+	/**
+	 * Returns whether a declared or extended extension point id as written in
+	 * a descriptor may refer to the given fully qualified extension point id.
+	 * Simple ids are qualified with the namespace of the contributing bundle,
+	 * which is not known here, so they match any qualified id ending with
+	 * them. This may include a few unrelated bundles but never misses one.
+	 *
+	 * @param pointId the fully qualified extension point id
+	 * @param id the id as written in the descriptor
+	 * @return <code>true</code> if the ids may refer to the same extension
+	 *         point
+	 */
+	public static boolean matches(String pointId, String id) {
+		return pointId.equals(id) || pointId.length() > id.length() && pointId.endsWith(id)
+				&& pointId.charAt(pointId.length() - id.length() - 1) == '.';
+	}
+
+	/**
+	 * Returns the extension points of the given model, scanning its descriptor
+	 * if it is not indexed or has changed since. Models of bundles that have
+	 * been checked before in this session are not checked again unless
+	 * <code>recheck</code> is set.
+	 *
+	 * @param model the model
+	 * @param recheck whether to check the stamp of a descriptor checked before
+	 * @return the extension points of the model, <code>null</code> if the
+	 *         model has no descriptor
+	 */
+	public Entry getEntry(IPluginModelBase model, boolean recheck) {
+		String location = model.getInstallLocation();
+		if (location == null) {
+			return null;
+		}
+		Entry entry;
+		synchronized (this) {
+			entry = fCurrent.get(location);
+			if (entry != null && !recheck) {
+				return entry;
+			}
+			if (entry == null) {
+				entry = fCached.get(location);
+			}
+		}
+		File descriptor = PDERegistryStrategy.getFile(model);
+		if (descriptor == null) {
+			return null;
+		}
+		long stamp = descriptor.lastModified();
+		long length = descriptor.length();
+		// descriptors are scanned without holding the lock, a descriptor
+		// scanned by two threads at once is simply scanned twice
+		boolean scanned = entry == null || entry.stamp() != stamp || entry.length() != length;
+		if (scanned) {
+			entry = scan(model, descriptor, stamp, length);
+		}
+		synchronized (this) {
+			fCurrent.put(location, entry);
+			fChanged |= scanned;
+		}
+		return entry;
+	}
+
+	/**
+	 * Drops the state of this session, all descriptors are checked again the
+	 * next time they are needed
+	 */
+	synchronized void reset() {
+		fCached.putAll(fCurrent);
+		fCurrent.clear();
+	}
+
+	/**
+	 * Writes the index if it has changed. Only the bundles checked in this
+	 * session are kept.
+	 */
+	public synchronized void save() {
+		if (!fChanged) {
+			return;
+		}
+		try {
+			Files.createDirectories(fFile.getParent());
+			Path tmp = Files.createTempFile(fFile.getParent(), "extension-points", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				write(out, fCurrent);
+			}
+			Files.move(tmp, fFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			fChanged = false;
+		} catch (IOException e) {
+			PDECore.log(Status.warning("Failed to save extension point index " + fFile, e)); //$NON-NLS-1$
+		}
+	}
+
+	private static Entry scan(IPluginModelBase model, File descriptor, long stamp, long length) {
+		DescriptorHandler handler = new DescriptorHandler();
+		try {
+			@SuppressWarnings("restriction")
+			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE();
+			if (!new File(model.getInstallLocation()).isDirectory()) {
+				try (ZipFile jar = new ZipFile(descriptor, ZipFile.OPEN_READ)) {
+					String name = model.isFragmentModel() ? ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR
+							: ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
+					ZipEntry zipEntry = jar.getEntry(name);
+					if (zipEntry != null) {
+						try (InputStream stream = new BufferedInputStream(jar.getInputStream(zipEntry))) {
+							parser.parse(stream, handler);
+						}
+					}
+				}
+			} else {
+				try (InputStream stream = new BufferedInputStream(new FileInputStream(descriptor))) {
+					parser.parse(stream, handler);
+				}
+			}
+		} catch (IOException | SAXException | ParserConfigurationException e) {
+			// a broken descriptor contributes whatever has been read, the
+			// registry reports the problem when the contribution is added
+		}
+		return new Entry(stamp, length, handler.fPoints.toArray(NONE), handler.fExtended.toArray(NONE));
+	}
+
+	/**
+	 * Collects the ids of the top level extension points and extensions of a
+	 * descriptor without building a model of it
+	 */
+	private static class DescriptorHandler extends DefaultHandler {
+		final List<String> fPoints = new ArrayList<>();
+		final List<String> fExtended = new ArrayList<>();
+		private int fDepth;
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			if (fDepth++ == 1) {
+				if ("extension-point".equals(qName)) { //$NON-NLS-1$
+					String id = attributes.getValue("id"); //$NON-NLS-1$
+					if (id != null) {
+						fPoints.add(id.trim());
+					}
+				} else if ("extension".equals(qName)) { //$NON-NLS-1$
+					String point = attributes.getValue("point"); //$NON-NLS-1$
+					if (point != null) {
+						fExtended.add(point.trim());
+					}
+				}
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			fDepth--;
+		}
+	}
+
+	private static Map<String, Entry> read(Path file) {
+		Map<String, Entry> entries = new HashMap<>();
+		if (!Files.isRegularFile(file)) {
+			return entries;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return entries;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String location = in.readUTF();
+				long stamp = in.readLong();
+				long length = in.readLong();
+				String[] points = readStrings(in);
+				String[] extended = readStrings(in);
+				entries.put(location, new Entry(stamp, length, points, extended));
+			}
+		} catch (IOException e) {
+			// a corrupt index is dropped, the descriptors are scanned again
+			if (PDECore.DEBUG_MODEL) {
+				PDECore.log(Status.warning("Failed to read extension point index " + file, e)); //$NON-NLS-1$
+			}
+			entries.clear();
+		}
+		return entries;
+	}
+
+	private static void write(DataOutputStream out, Map<String, Entry> entries) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(entries.size());
+		for (Map.Entry<String, Entry> e : entries.entrySet()) {
+			Entry entry = e.getValue();
+			out.writeUTF(e.getKey());
+			out.writeLong(entry.stamp());
+			out.writeLong(entry.length());
+			writeStrings(out, entry.points());
+			writeStrings(out, entry.extended());
+		}
+	}
+
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		String[] values = new String[in.readInt()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = in.readUTF();
+		}
+		return values;
+	}
+
+	private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+		out.writeInt(values.length);
+		for (String value : values) {
+			out.writeUTF(value);
+		}
+	}
+}
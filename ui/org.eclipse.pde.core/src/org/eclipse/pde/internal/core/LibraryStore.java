@@ -0,0 +1,482 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.service.datalocation.Location;
+import org.eclipse.pde.core.plugin.IPluginLibrary;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+
+/**
+ * Content addressed store of the libraries extracted from jarred bundles,
+ * shared by all workspaces using the same Eclipse configuration. A library is
+ * stored as <code>[store]/[xx]/[digest]/[library name]</code> where the
+ * digest is the SHA-256 of the extracted library, so a library is written only
+ * once no matter which bundle, target or workspace it comes from. The library
+ * is read to compute its digest the first time it is requested in a session,
+ * it is only written if the store does not contain it yet.
+ * <p>
+ * Libraries are extracted to a temporary file and published with an atomic
+ * move, so concurrent extractions of the same library, in this or another
+ * process, never expose a partial file. Each workspace records the libraries
+ * it uses in a reference file of the store; libraries not referenced by any
+ * workspace and not used within a grace period are deleted.
+ * </p>
+ * <p>
+ * The store is located in the configuration area, or in the PDE state
+ * location if the configuration area is read only. The location can be set
+ * with <code>-Dorg.eclipse.pde.core.libraryStore=[directory]</code>, for
+ * example to share it between the fresh workspaces of build agents.
+ * </p>
+ */
+public final class LibraryStore {
+
+	private static final String STORE_PROPERTY = "org.eclipse.pde.core.libraryStore"; //$NON-NLS-1$
+	private static final String STORE_DIR = ".library_store"; //$NON-NLS-1$
+	private static final String REFS_DIR = "refs"; //$NON-NLS-1$
+	private static final String REFS_EXTENSION = ".refs"; //$NON-NLS-1$
+	private static final String WORKSPACE_PREFIX = "# "; //$NON-NLS-1$
+
+	/**
+	 * Unreferenced libraries are kept for a while, another workspace may just
+	 * have extracted them and not yet recorded its reference
+	 */
+	private static final long GRACE_PERIOD = TimeUnit.DAYS.toMillis(1);
+
+	/**
+	 * Library entry of a jarred bundle, identified by the location and stamp
+	 * of the bundle
+	 */
+	private record Key(String jar, long stamp, long length, String name) {
+	}
+
+	/** Library of a jarred bundle to extract by a prefetch */
+	private record Library(File jar, String name) {
+	}
+
+	private final Path fRoot;
+	private final Path fRefsFile;
+	private final String fWorkspace;
+
+	private static ExecutorService fgExtractor;
+
+	private final Map<Key, CompletableFuture<Optional<Path>>> fLibraries = new ConcurrentHashMap<>();
+	private final Set<String> fReferences = ConcurrentHashMap.newKeySet();
+
+	/** digests of the libraries whose use has been recorded in this session */
+	private final Set<String> fUsed = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * References collected by the running prefetch, they replace the recorded
+	 * references once it is done
+	 */
+	private volatile Set<String> fCollecting;
+
+	private Job fPrefetchJob;
+
+	/**
+	 * Creates a store.
+	 *
+	 * @param root the directory of the store
+	 * @param workspace the directory of the workspace using the store, the
+	 *            references of the workspace are dropped once it is deleted
+	 */
+	public LibraryStore(Path root, Path workspace) {
+		fRoot = root;
+		fWorkspace = workspace.toAbsolutePath().toString();
+		String owner = HexFormat.of().formatHex(digest(fWorkspace.getBytes(StandardCharsets.UTF_8))).substring(0, 16);
+		fRefsFile = root.resolve(REFS_DIR).resolve(owner + REFS_EXTENSION);
+	}
+
+	/**
+	 * @return the store for this workspace
+	 */
+	static LibraryStore create() {
+		Path state = PDECore.getDefault().getStateLocation().toFile().toPath();
+		return new LibraryStore(getStoreLocation(state), state);
+	}
+
+	private static Path getStoreLocation(Path state) {
+		String location = System.getProperty(STORE_PROPERTY);
+		if (location != null && !location.isBlank()) {
+			return Path.of(location);
+		}
+		Location configuration = Platform.getConfigurationLocation();
+		if (configuration != null && !configuration.isReadOnly()) {
+			URL url = configuration.getURL();
+			if (url != null && "file".equals(url.getProtocol())) { //$NON-NLS-1$
+				return Path.of(url.getFile(), PDECore.PLUGIN_ID, STORE_DIR);
+			}
+		}
+		return state.resolve(STORE_DIR);
+	}
+
+	/**
+	 * Returns the extracted library of a jarred bundle, extracting it into the
+	 * store if it is not present yet. Concurrent requests for the same library
+	 * wait for a single extraction. A library that is missing or cannot be
+	 * extracted is not looked up again in this session.
+	 *
+	 * @param jar the jarred bundle
+	 * @param name the path of the library in the bundle
+	 * @return the extracted library or <code>null</code> if the bundle contains
+	 *         no such library
+	 * @throws IOException if the library cannot be extracted
+	 */
+	public File getLibrary(File jar, String name) throws IOException {
+		Key key = new Key(jar.getAbsolutePath(), jar.lastModified(), jar.length(), name);
+		CompletableFuture<Optional<Path>> future = new CompletableFuture<>();
+		CompletableFuture<Optional<Path>> existing = fLibraries.putIfAbsent(key, future);
+		if (existing == null) {
+			try {
+				future.complete(Optional.ofNullable(extract(jar, name)));
+			} catch (IOException | RuntimeException e) {
+				// remembered like a missing library, the bundle is not read
+				// again until it changes
+				future.completeExceptionally(e);
+			}
+		} else {
+			future = existing;
+		}
+		try {
+			Optional<Path> library = future.join();
+			if (library.isPresent() && !Files.isRegularFile(library.get())) {
+				// deleted from the store behind our back, extract it again
+				fLibraries.remove(key, future);
+				return getLibrary(jar, name);
+			}
+			if (library.isPresent()) {
+				String digest = library.get().getParent().getFileName().toString();
+				markUsed(library.get().getParent(), digest);
+				addReference(digest);
+			}
+			return library.map(Path::toFile).orElse(null);
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw e;
+		}
+	}
+
+	private Path extract(File jar, String name) throws IOException {
+		try (JarFile file = new JarFile(jar)) {
+			ZipEntry entry = file.getEntry(name);
+			if (entry == null || entry.isDirectory()) {
+				return null;
+			}
+			String fileName = IPath.fromPortableString(name).lastSegment();
+			MessageDigest contentDigest = newDigest();
+			long size;
+			try (InputStream in = new DigestInputStream(file.getInputStream(entry), contentDigest)) {
+				size = in.transferTo(OutputStream.nullOutputStream());
+			}
+			String digest = HexFormat.of().formatHex(contentDigest.digest());
+			Path target = getLocation(digest, fileName);
+			if (Files.isRegularFile(target) && Files.size(target) == size) {
+				return target;
+			}
+			return publish(copyToTemp(file, entry), digest, fileName);
+		}
+	}
+
+	private Path copyToTemp(JarFile file, ZipEntry entry) throws IOException {
+		Files.createDirectories(fRoot);
+		Path tmp = Files.createTempFile(fRoot, "lib", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+		try (InputStream in = file.getInputStream(entry);
+				OutputStream out = Files.newOutputStream(tmp)) {
+			in.transferTo(out);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(tmp);
+			throw e;
+		}
+		return tmp;
+	}
+
+	private Path publish(Path tmp, String digest, String fileName) throws IOException {
+		Path target = getLocation(digest, fileName);
+		try {
+			Files.createDirectories(target.getParent());
+			Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			// published concurrently, possibly in use (and locked) already
+			if (!Files.isRegularFile(target)) {
+				throw e;
+			}
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+		return target;
+	}
+
+	private Path getLocation(String digest, String fileName) {
+		return fRoot.resolve(digest.substring(0, 2)).resolve(digest).resolve(fileName);
+	}
+
+	/**
+	 * Updates the modification time of a library the first time it is used in
+	 * this session, so the cleanup of another workspace does not consider it
+	 * unused before it is recorded in a reference file
+	 */
+	private void markUsed(Path directory, String digest) {
+		if (fUsed.add(digest)) {
+			try {
+				Files.setLastModifiedTime(directory, FileTime.fromMillis(System.currentTimeMillis()));
+			} catch (IOException e) {
+				// the library is referenced by this workspace anyway
+			}
+		}
+	}
+
+	private void addReference(String digest) {
+		Set<String> collecting = fCollecting;
+		if (collecting != null) {
+			collecting.add(digest);
+		}
+		if (fReferences.contains(digest)) {
+			return;
+		}
+		synchronized (fRefsFile) {
+			if (fReferences.add(digest)) {
+				try {
+					Files.createDirectories(fRefsFile.getParent());
+					if (!Files.exists(fRefsFile)) {
+						Files.writeString(fRefsFile, WORKSPACE_PREFIX + fWorkspace + '\n', StandardCharsets.UTF_8);
+					}
+					Files.writeString(fRefsFile, digest + '\n', StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+				} catch (IOException e) {
+					// an unrecorded library survives the grace period only
+					PDECore.log(Status.warning("Failed to record library reference in " + fRefsFile, e)); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	/**
+	 * Extracts the libraries of the given models in the background, using
+	 * several threads. Once done, the references of this workspace are
+	 * replaced by the libraries of the models and libraries no longer
+	 * referenced by any workspace are deleted.
+	 *
+	 * @param models the enabled models of the target
+	 */
+	synchronized void prefetch(IPluginModelBase[] models) {
+		if (fPrefetchJob != null) {
+			fPrefetchJob.cancel();
+		}
+		List<Library> libraries = new ArrayList<>();
+		for (IPluginModelBase model : models) {
+			String location = model.getInstallLocation();
+			if (location == null || !model.isEnabled() || model.getPluginBase() == null) {
+				continue;
+			}
+			File jar = new File(location);
+			if (!jar.isFile()) {
+				continue;
+			}
+			for (IPluginLibrary library : model.getPluginBase().getLibraries()) {
+				if (!".".equals(library.getName())) { //$NON-NLS-1$
+					libraries.add(new Library(jar, ClasspathUtilCore.expandLibraryName(library.getName())));
+				}
+			}
+		}
+		Set<String> collecting = ConcurrentHashMap.newKeySet();
+		fCollecting = collecting;
+		fPrefetchJob = Job.create(PDECoreMessages.LibraryStore_extractingLibraries, monitor -> {
+			// the recorded references are kept until the libraries of the new
+			// target are known, so a cleanup meanwhile does not delete them
+			List<Future<?>> extractions = new ArrayList<>();
+			for (Library library : libraries) {
+				extractions.add(getExtractor().submit(() -> {
+					if (!monitor.isCanceled()) {
+						try {
+							getLibrary(library.jar(), library.name());
+						} catch (IOException e) {
+							PDECore.logException(e, "Could not extract library " + library.name() + " from jarred bundle " + library.jar()); //$NON-NLS-1$ //$NON-NLS-2$
+						}
+					}
+				}));
+			}
+			boolean complete = true;
+			for (Future<?> extraction : extractions) {
+				try {
+					extraction.get();
+				} catch (ExecutionException e) {
+					// the references of the library are unknown, keep the old ones
+					PDECore.logException(e.getCause());
+					complete = false;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					complete = false;
+					break;
+				}
+			}
+			synchronized (this) {
+				if (fCollecting != collecting) {
+					// replaced by a newer prefetch
+					return;
+				}
+				fCollecting = null;
+			}
+			if (complete && !monitor.isCanceled()) {
+				replaceReferences(collecting);
+				cleanup();
+			}
+		});
+		fPrefetchJob.setSystem(true);
+		fPrefetchJob.setPriority(Job.LONG);
+		fPrefetchJob.schedule();
+	}
+
+	/**
+	 * Replaces the references of this workspace by the given libraries. The
+	 * reference file is written to a temporary file first and then moved, so
+	 * other workspaces never see it incomplete.
+	 */
+	private void replaceReferences(Set<String> digests) {
+		synchronized (fRefsFile) {
+			try {
+				Files.createDirectories(fRefsFile.getParent());
+				Path tmp = Files.createTempFile(fRefsFile.getParent(), "refs", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+				try {
+					StringBuilder contents = new StringBuilder(WORKSPACE_PREFIX).append(fWorkspace).append('\n');
+					for (String digest : digests) {
+						contents.append(digest).append('\n');
+					}
+					Files.writeString(tmp, contents, StandardCharsets.UTF_8);
+					Files.move(tmp, fRefsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} finally {
+					Files.deleteIfExists(tmp);
+				}
+				fReferences.retainAll(digests);
+				fReferences.addAll(digests);
+			} catch (IOException e) {
+				// the previous references are kept a bit longer
+				PDECore.log(Status.warning("Failed to record library references in " + fRefsFile, e)); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * @return the executor shared by the prefetches of all stores, its threads
+	 *         are discarded when idle
+	 */
+	private static synchronized ExecutorService getExtractor() {
+		if (fgExtractor == null) {
+			int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+			AtomicInteger count = new AtomicInteger();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), r -> {
+						Thread thread = new Thread(r, "Library Extractor-" + count.incrementAndGet()); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			fgExtractor = executor;
+		}
+		return fgExtractor;
+	}
+
+	/**
+	 * Deletes the libraries that are not referenced by any workspace and have
+	 * not been used within the grace period. The references of workspaces
+	 * that no longer exist are dropped.
+	 */
+	public void cleanup() {
+		Set<String> referenced = new HashSet<>(fReferences);
+		Path refsDir = fRoot.resolve(REFS_DIR);
+		if (Files.isDirectory(refsDir)) {
+			try (DirectoryStream<Path> refsFiles = Files.newDirectoryStream(refsDir, "*" + REFS_EXTENSION)) { //$NON-NLS-1$
+				for (Path refsFile : refsFiles) {
+					List<String> lines = Files.readAllLines(refsFile, StandardCharsets.UTF_8);
+					if (!lines.isEmpty() && lines.get(0).startsWith(WORKSPACE_PREFIX)
+							&& !Files.isDirectory(Path.of(lines.get(0).substring(WORKSPACE_PREFIX.length())))) {
+						Files.deleteIfExists(refsFile);
+						continue;
+					}
+					referenced.addAll(lines);
+				}
+			} catch (IOException e) {
+				// do not delete anything we cannot account for
+				return;
+			}
+		}
+		long expired = System.currentTimeMillis() - GRACE_PERIOD;
+		try (DirectoryStream<Path> prefixes = Files.newDirectoryStream(fRoot, "??")) { //$NON-NLS-1$
+			for (Path prefix : prefixes) {
+				try (DirectoryStream<Path> libraries = Files.newDirectoryStream(prefix)) {
+					for (Path library : libraries) {
+						if (!referenced.contains(library.getFileName().toString())
+								&& Files.getLastModifiedTime(library).toMillis() < expired) {
+							CoreUtility.deleteContent(library.toFile());
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			PDECore.log(Status.warning("Failed to clean up library store " + fRoot, e)); //$NON-NLS-1$
+		}
+	}
+
+	private static byte[] digest(byte[] bytes) {
+		return newDigest().digest(bytes);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -321,6 +321,8 @@ public class PDECoreMessages extends NLS {
 
 	public static String PluginModelManager_TargetInitCancelledLog;
 
+	public static String LibraryStore_extractingLibraries;
+
 	public static String XMLTextChangeListener_editNames_addAttribute;
 	public static String XMLTextChangeListener_editNames_addContent;
 	public static String XMLTextChangeListener_editNames_insertNode;
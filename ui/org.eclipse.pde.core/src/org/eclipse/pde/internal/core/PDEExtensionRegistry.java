@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,14 +15,22 @@ package org.eclipse.pde.internal.core;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.ListIterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionDelta;
 import org.eclipse.core.runtime.IExtensionPoint;
 import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.IRegistryChangeEvent;
 import org.eclipse.core.runtime.IRegistryChangeListener;
+import org.eclipse.core.runtime.InvalidRegistryObjectException;
 import org.eclipse.core.runtime.RegistryFactory;
 import org.eclipse.core.runtime.spi.RegistryContributor;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -46,10 +54,27 @@ public class PDEExtensionRegistry {
 	private PDERegistryStrategy fStrategy = null;
 
 	private IPluginModelBase[] fModels = null;
-	private final ArrayList<IRegistryChangeListener> fListeners = new ArrayList<>();
+	/** the registered listeners and the listeners added to the registry */
+	private final Map<IRegistryChangeListener, IRegistryChangeListener> fListeners = new LinkedHashMap<>();
 
 	private static final String EXTENSION_DIR = ".extensions"; //$NON-NLS-1$
 
+	/**
+	 * System property to add the contributions of all bundles when the
+	 * registry is created instead of adding them on demand
+	 */
+	private static final boolean EAGER = Boolean.getBoolean("org.eclipse.pde.core.disableLazyExtensionRegistry"); //$NON-NLS-1$
+
+	private ExtensionPointIndex fIndex = null;
+	private final Set<String> fLoadedPoints = ConcurrentHashMap.newKeySet();
+	private boolean fWorkspaceLoaded = false;
+
+	/**
+	 * Ids of the contributors added on demand, the extensions they add are not
+	 * reported to the listeners as they did not change
+	 */
+	private final Set<String> fLazyContributors = ConcurrentHashMap.newKeySet();
+
 	public PDEExtensionRegistry() {
 		if (fStrategy == null) {
 			File extensionsDir = new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR);
@@ -93,8 +118,8 @@ public class PDEExtensionRegistry {
 	protected synchronized IExtensionRegistry getRegistry() {
 		if (fRegistry == null) {
 			fRegistry = createRegistry();
-			for (ListIterator<IRegistryChangeListener> li = fListeners.listIterator(); li.hasNext();) {
-				fRegistry.addRegistryChangeListener(li.next());
+			for (IRegistryChangeListener listener : fListeners.values()) {
+				fRegistry.addRegistryChangeListener(listener);
 			}
 		}
 		return fRegistry;
@@ -112,6 +137,163 @@ public class PDEExtensionRegistry {
 		}
 		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
 		fRegistry = null;
+		synchronized (this) {
+			fLoadedPoints.clear();
+			fLazyContributors.clear();
+			fWorkspaceLoaded = false;
+			if (fIndex != null) {
+				fIndex.reset();
+			}
+		}
+	}
+
+	/**
+	 * Returns whether contributions are added to the registry on demand. Only
+	 * the registry of the workspace and the target is lazy, registries for an
+	 * explicit set of models add all of them when they are created.
+	 *
+	 * @return <code>true</code> if contributions are added on demand
+	 */
+	boolean isLazy() {
+		return fModels == null && !EAGER;
+	}
+
+	/**
+	 * Makes sure the contributions of all bundles declaring or extending the
+	 * given extension point are added to the registry. The bundles are looked
+	 * up in the {@link ExtensionPointIndex}, so only their descriptors are
+	 * parsed by the registry. Workspace bundles are always added first so they
+	 * take precedence over target bundles with the same extension points.
+	 * <p>
+	 * Descriptors missing from the index are scanned before the registry is
+	 * locked, so queries that do not need new contributions are not blocked
+	 * by the scan.
+	 * </p>
+	 *
+	 * @param pointId the fully qualified id of the extension point
+	 * @return the registry
+	 */
+	private IExtensionRegistry ensureContributions(String pointId) {
+		IExtensionRegistry registry = getRegistry();
+		if (!isLazy() || pointId == null || fLoadedPoints.contains(pointId)) {
+			return registry;
+		}
+		ExtensionPointIndex index = getIndex();
+		long start = System.nanoTime();
+		List<IPluginModelBase> involved = new ArrayList<>();
+		for (IPluginModelBase model : PluginRegistry.getExternalModels()) {
+			ExtensionPointIndex.Entry entry = index.getEntry(model, false);
+			if (entry != null && entry.involves(pointId)) {
+				involved.add(model);
+			}
+		}
+		int added = 0;
+		synchronized (this) {
+			if (fLoadedPoints.contains(pointId)) {
+				return registry;
+			}
+			added += ensureWorkspaceContributions(registry);
+			for (IPluginModelBase model : involved) {
+				if (addLazily(registry, model)) {
+					added++;
+				}
+			}
+			fLoadedPoints.add(pointId);
+		}
+		index.save();
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Extension registry: " + added + " contributions for " + pointId + " added in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (System.nanoTime() - start) / 1_000_000 + " ms"); //$NON-NLS-1$
+		}
+		return registry;
+	}
+
+	private synchronized ExtensionPointIndex getIndex() {
+		if (fIndex == null) {
+			fIndex = ExtensionPointIndex.load();
+		}
+		return fIndex;
+	}
+
+	/**
+	 * Makes sure the contributions of the given bundle are added to the
+	 * registry
+	 *
+	 * @param base the bundle
+	 * @return the registry
+	 */
+	private synchronized IExtensionRegistry ensureContributions(IPluginModelBase base) {
+		IExtensionRegistry registry = getRegistry();
+		if (isLazy()) {
+			ensureWorkspaceContributions(registry);
+			addLazily(registry, base);
+		}
+		return registry;
+	}
+
+	private int ensureWorkspaceContributions(IExtensionRegistry registry) {
+		if (fWorkspaceLoaded) {
+			return 0;
+		}
+		// workspace bundles are few and change often, they are always added
+		IPluginModelBase[] workspaceModels = PluginRegistry.getWorkspaceModels();
+		for (IPluginModelBase model : workspaceModels) {
+			addLazily(registry, model);
+		}
+		fWorkspaceLoaded = true;
+		return workspaceModels.length;
+	}
+
+	/**
+	 * Adds the contribution of the given bundle on demand, its extensions are
+	 * not reported to the listeners of this registry
+	 *
+	 * @return <code>true</code> if the contribution was added
+	 */
+	private boolean addLazily(IExtensionRegistry registry, IPluginModelBase model) {
+		IContributor contributor = fStrategy.createContributor(model);
+		if (!(contributor instanceof RegistryContributor registryContributor)) {
+			return false;
+		}
+		String id = registryContributor.getActualId();
+		boolean lazy = fLazyContributors.add(id);
+		if (fStrategy.addBundle(registry, model)) {
+			return true;
+		}
+		if (lazy) {
+			fLazyContributors.remove(id);
+		}
+		return false;
+	}
+
+	/**
+	 * Called when the contribution of a bundle is removed from the registry,
+	 * the extensions of a contribution added again are reported to the
+	 * listeners
+	 *
+	 * @param contributor the contributor of the removed contribution
+	 */
+	void contributionRemoved(IContributor contributor) {
+		if (contributor instanceof RegistryContributor registryContributor) {
+			fLazyContributors.remove(registryContributor.getActualId());
+		}
+	}
+
+	/**
+	 * Returns whether the given delta reports an extension that was added on
+	 * demand
+	 */
+	private boolean isLazilyAdded(IExtensionDelta delta) {
+		if (delta.getKind() != IExtensionDelta.ADDED || fLazyContributors.isEmpty()) {
+			return false;
+		}
+		try {
+			return delta.getExtension().getContributor() instanceof RegistryContributor contributor
+					&& fLazyContributors.contains(contributor.getActualId());
+		} catch (InvalidRegistryObjectException e) {
+			// the extension has been removed since
+			return false;
+		}
 	}
 
 	// dispose of registry without writing contents.
@@ -152,7 +334,7 @@ public class PDEExtensionRegistry {
 	}
 
 	private IExtensionPoint getExtensionPoint(String pointId) {
-		return getRegistry().getExtensionPoint(pointId);
+		return ensureContributions(pointId).getExtensionPoint(pointId);
 	}
 
 	/*
@@ -189,7 +371,7 @@ public class PDEExtensionRegistry {
 		if (contributor == null) {
 			return new IPluginExtension[0];
 		}
-		IExtension[] extensions = getRegistry().getExtensions(fStrategy.createContributor(base));
+		IExtension[] extensions = ensureContributions(base).getExtensions(fStrategy.createContributor(base));
 		ArrayList<PluginExtension> list = new ArrayList<>();
 		for (IExtension ext : extensions) {
 			PluginExtension extension = new PluginExtension(ext);
@@ -205,7 +387,7 @@ public class PDEExtensionRegistry {
 		if (contributor == null) {
 			return new IPluginExtensionPoint[0];
 		}
-		IExtensionPoint[] extensions = getRegistry().getExtensionPoints(fStrategy.createContributor(base));
+		IExtensionPoint[] extensions = ensureContributions(base).getExtensionPoints(fStrategy.createContributor(base));
 		ArrayList<PluginExtensionPoint> list = new ArrayList<>();
 		for (IExtensionPoint extension : extensions) {
 			PluginExtensionPoint point = new PluginExtensionPoint(extension);
@@ -285,16 +467,69 @@ public class PDEExtensionRegistry {
 
 	// Methods to add/remove listeners
 
-	public void addListener(IRegistryChangeListener listener) {
-		fRegistry.addRegistryChangeListener(listener);
-		if (!fListeners.contains(listener)) {
-			fListeners.add(listener);
+	public synchronized void addListener(IRegistryChangeListener listener) {
+		if (fListeners.containsKey(listener)) {
+			return;
+		}
+		IRegistryChangeListener filtered = isLazy() ? new LazyContributionFilter(listener) : listener;
+		fListeners.put(listener, filtered);
+		if (fRegistry != null) {
+			fRegistry.addRegistryChangeListener(filtered);
+		}
+	}
+
+	public synchronized void removeListener(IRegistryChangeListener listener) {
+		IRegistryChangeListener filtered = fListeners.remove(listener);
+		if (filtered != null && fRegistry != null) {
+			fRegistry.removeRegistryChangeListener(filtered);
 		}
 	}
 
-	public void removeListener(IRegistryChangeListener listener) {
-		fRegistry.removeRegistryChangeListener(listener);
-		fListeners.remove(listener);
+	/**
+	 * Passes registry change events on to a listener without the extensions
+	 * added on demand, which are not changes of the workspace or the target
+	 */
+	private class LazyContributionFilter implements IRegistryChangeListener {
+
+		private final IRegistryChangeListener fListener;
+
+		LazyContributionFilter(IRegistryChangeListener listener) {
+			fListener = listener;
+		}
+
+		@Override
+		public void registryChanged(IRegistryChangeEvent event) {
+			IExtensionDelta[] deltas = event.getExtensionDeltas();
+			if (deltas.length > 0 && Arrays.stream(deltas).allMatch(PDEExtensionRegistry.this::isLazilyAdded)) {
+				return;
+			}
+			fListener.registryChanged(new IRegistryChangeEvent() {
+				@Override
+				public IExtensionDelta[] getExtensionDeltas() {
+					return filter(event.getExtensionDeltas());
+				}
+
+				@Override
+				public IExtensionDelta[] getExtensionDeltas(String namespace) {
+					return filter(event.getExtensionDeltas(namespace));
+				}
+
+				@Override
+				public IExtensionDelta[] getExtensionDeltas(String namespace, String extensionPoint) {
+					return filter(event.getExtensionDeltas(namespace, extensionPoint));
+				}
+
+				@Override
+				public IExtensionDelta getExtensionDelta(String namespace, String extensionPoint, String extension) {
+					IExtensionDelta delta = event.getExtensionDelta(namespace, extensionPoint, extension);
+					return delta == null || isLazilyAdded(delta) ? null : delta;
+				}
+			});
+		}
+
+		private IExtensionDelta[] filter(IExtensionDelta[] deltas) {
+			return Arrays.stream(deltas).filter(delta -> !isLazilyAdded(delta)).toArray(IExtensionDelta[]::new);
+		}
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -172,7 +172,9 @@ public class PDERegistryStrategy extends RegistryStrategy {
 	public void onStart(IExtensionRegistry registry, boolean loadedFromCache) {
 		super.onStart(registry, loadedFromCache);
 		setListenerRegistry(registry);
-		if (!loadedFromCache) {
+		// a lazy registry adds the contributions of the bundles involved in a
+		// query on demand, see PDEExtensionRegistry#ensureContributions
+		if (!loadedFromCache && !fPDERegistry.isLazy()) {
 			processBundles(registry);
 		}
 	}
@@ -202,24 +204,30 @@ public class PDERegistryStrategy extends RegistryStrategy {
 		}
 	}
 
-	private void addBundle(IExtensionRegistry registry, IPluginModelBase base) {
+	/**
+	 * Adds the contribution of the given bundle to the registry
+	 *
+	 * @return <code>true</code> if the contribution was added,
+	 *         <code>false</code> if it is already present or cannot be read
+	 */
+	boolean addBundle(IExtensionRegistry registry, IPluginModelBase base) {
 		IContributor contributor = createContributor(base);
 		if (contributor == null) {
-			return;
+			return false;
 		}
 		if (((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
-			return;
+			return false;
 		}
 
 		File input = getFile(base);
 		if (input == null) {
-			return;
+			return false;
 		}
 		try {
 			if (new File(base.getInstallLocation()).isDirectory()) {
 				// Directory bundle, access the extensions file directly
 				try (InputStream is = new BufferedInputStream(new FileInputStream(input))) {
-					registry.addContribution(is, contributor, true, input.getPath(), null, fKey);
+					return registry.addContribution(is, contributor, true, input.getPath(), null, fKey);
 				}
 			} else {
 				// Archived bundle, need to extract the file
@@ -230,7 +238,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 					if (entry != null) {
 						try (InputStream is = jfile.getInputStream(entry)) {
 							if (is != null) {
-								registry.addContribution(new BufferedInputStream(is), contributor, true,
+								return registry.addContribution(new BufferedInputStream(is), contributor, true,
 										input.getPath(), null, fKey);
 							}
 						}
@@ -239,6 +247,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			}
 		} catch (IOException ignored) {
 		}
+		return false;
 	}
 
 	private void removeBundle(IExtensionRegistry registry, IPluginModelBase base) {
@@ -246,6 +255,9 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			IContributor contributor = createContributor(base);
 			if (contributor != null && ((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
 				((IDynamicExtensionRegistry) registry).removeContributor(createContributor(base), fKey);
+				if (fPDERegistry != null) {
+					fPDERegistry.contributionRemoved(contributor);
+				}
 			}
 		}
 	}
@@ -263,7 +275,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 	//		}
 	//	}
 
-	private File getFile(IPluginModelBase base) {
+	static File getFile(IPluginModelBase base) {
 		String loc = base.getInstallLocation();
 		if (loc == null) {
 			return null;
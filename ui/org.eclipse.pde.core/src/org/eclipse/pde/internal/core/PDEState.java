@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2025 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,14 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -58,11 +65,32 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
+		this(target, null, addResolver, removeDuplicates, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs. The
+	 * manifests of the bundles are read through the {@link TargetStateCache}
+	 * of the given target, so only bundles that changed since the state was
+	 * last created for the target are read from disk. The state itself is
+	 * still created from all bundles and resolved as a whole.
+	 *
+	 * @param target urls of target bundles
+	 * @param targetKey key of the target the bundles belong to, like the
+	 *            memento of its handle, or <code>null</code> to read all
+	 *            manifests from disk
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, String targetKey, boolean addResolver, boolean removeDuplicates,
+			IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		// The OSGi state itself is not restored as it had no performance
+		// benefit, only the manifests of unchanged bundles are cached
+		createNewTargetState(addResolver, target, TargetStateCache.getCache(targetKey), monitor);
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -77,7 +105,7 @@ public class PDEState extends MinimalState {
 		}
 	}
 
-	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
+	private void createNewTargetState(boolean resolve, URI[] uris, TargetStateCache cache, IProgressMonitor monitor) {
 		fState = BundleHelper.getPlatformAdmin().getFactory().createState(resolve);
 		if (resolve) {
 			final String systemBSN = getSystemBundle();
@@ -87,15 +115,28 @@ public class PDEState extends MinimalState {
 			fState.getResolver().setSelectionPolicy(policy);
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
+				uris.length * 2);
+		List<File> files = new ArrayList<>(uris.length);
 		for (URI uri : uris) {
 			File file = toFile(uri);
-			if (file == null) {
+			if (file != null) {
+				files.add(file);
+			}
+		}
+		// The bundles are added to the state in the order of the given URIs,
+		// so their ids and the selection of duplicates are the same as for a
+		// sequential load.
+		LoadedManifest[] manifests = loadManifests(files, cache, subMonitor.split(uris.length));
+		for (LoadedManifest loaded : manifests) {
+			if (loaded == null) {
 				continue;
 			}
 			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
+				subMonitor.subTask(loaded.file().getName());
+				if (loaded.error() != null) {
+					throw loaded.error();
+				}
+				addBundle(loaded.file(), -1, loaded.manifest());
 			} catch (CoreException e) {
 				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
 					PDECore.log(e);
@@ -103,6 +144,85 @@ public class PDEState extends MinimalState {
 			}
 			subMonitor.split(1);
 		}
+		// a cancelled load has not read all manifests, saving would drop the
+		// cached manifests of the bundles that were skipped
+		if (cache != null && !subMonitor.isCanceled()) {
+			cache.save();
+		}
+	}
+
+	/**
+	 * The manifest of a target bundle or the error reading it
+	 */
+	private record LoadedManifest(File file, Map<String, String> manifest, CoreException error) {
+	}
+
+	/**
+	 * Reads the manifests of the given files. Reading the manifests is I/O
+	 * bound and independent for each bundle, so it is done by a bounded number
+	 * of threads while the calling thread reports the progress.
+	 *
+	 * @return the manifests in the order of the files, <code>null</code> for
+	 *         the files that were not read because the monitor was canceled
+	 */
+	private static LoadedManifest[] loadManifests(List<File> files, TargetStateCache cache,
+			IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, files.size());
+		LoadedManifest[] manifests = new LoadedManifest[files.size()];
+		int threads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+		if (threads <= 1) {
+			for (int i = 0; i < manifests.length && !subMonitor.isCanceled(); i++) {
+				subMonitor.subTask(files.get(i).getName());
+				manifests[i] = loadManifest(files.get(i), cache);
+				subMonitor.worked(1);
+			}
+			return manifests;
+		}
+		AtomicInteger count = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "Target Manifest Reader-" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			// only manifests taken from the completion service are returned, the
+			// others may still be written after a cancellation
+			LoadedManifest[] loaded = new LoadedManifest[manifests.length];
+			CompletionService<Integer> completion = new ExecutorCompletionService<>(executor);
+			for (int i = 0; i < manifests.length; i++) {
+				int index = i;
+				completion.submit(() -> {
+					loaded[index] = loadManifest(files.get(index), cache);
+					return Integer.valueOf(index);
+				});
+			}
+			for (int i = 0; i < manifests.length && !subMonitor.isCanceled(); i++) {
+				int index = completion.take().get().intValue();
+				manifests[index] = loaded[index];
+				subMonitor.subTask(files.get(index).getName());
+				subMonitor.worked(1);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// loadManifest() does not throw checked exceptions
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw (RuntimeException) e.getCause();
+		} finally {
+			executor.shutdownNow();
+		}
+		return manifests;
+	}
+
+	private static LoadedManifest loadManifest(File file, TargetStateCache cache) {
+		try {
+			Map<String, String> manifest = cache != null ? cache.loadManifest(file) : ManifestUtils.loadManifest(file);
+			return new LoadedManifest(file, manifest, null);
+		} catch (CoreException e) {
+			return new LoadedManifest(file, null, e);
+		}
 	}
 
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
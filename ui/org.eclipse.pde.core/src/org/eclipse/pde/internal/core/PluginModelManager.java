@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -31,6 +33,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -44,6 +47,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
@@ -60,6 +64,8 @@ import org.eclipse.pde.core.plugin.IPluginModel;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetHandle;
+import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.natures.PluginProject;
@@ -107,7 +113,27 @@ public class PluginModelManager implements IModelProviderListener {
 						fProjects.clear();
 						fContainers.clear();
 					}
-					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers, monitor);
+					// only set the containers whose entries differ from the current
+					// ones, an unchanged container would needlessly trigger a
+					// rebuild of the project. The containers are computed on this
+					// thread, computing them calls JDT and classpath contributors.
+					List<IJavaProject> changedProjects = new ArrayList<>(projects.length);
+					List<IClasspathContainer> changedContainers = new ArrayList<>(containers.length);
+					for (int i = 0; i < projects.length; i++) {
+						if (hasChanged(projects[i], containers[i])) {
+							changedProjects.add(projects[i]);
+							changedContainers.add(containers[i]);
+						}
+					}
+					if (PDECore.DEBUG_CLASSPATH) {
+						System.out.println("Updating classpath of " + changedProjects.size() + " of " + projects.length //$NON-NLS-1$ //$NON-NLS-2$
+								+ " projects"); //$NON-NLS-1$
+					}
+					if (!changedProjects.isEmpty()) {
+						JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH,
+								changedProjects.toArray(IJavaProject[]::new),
+								changedContainers.toArray(IClasspathContainer[]::new), monitor);
+					}
 					synchronized (fProjects) {
 						more = !fProjects.isEmpty();
 					}
@@ -119,6 +145,27 @@ public class PluginModelManager implements IModelProviderListener {
 			return Status.OK_STATUS;
 		}
 
+		/**
+		 * Returns whether the entries of the given container differ from the
+		 * ones of the container currently set for the project. The entries
+		 * contain the locations of the resolved dependencies and the access
+		 * rules for their exported packages, so equal entries mean the
+		 * effective classpath of the project did not change.
+		 */
+		private boolean hasChanged(IJavaProject project, IClasspathContainer container) {
+			try {
+				IClasspathEntry[] entries = container.getClasspathEntries();
+				IClasspathContainer current = JavaCore.getClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH,
+						project);
+				return current == null || !Arrays.equals(current.getClasspathEntries(), entries);
+			} catch (JavaModelException e) {
+				return true;
+			} catch (RuntimeException e) {
+				PDECore.log(e);
+				return true;
+			}
+		}
+
 		/**
 		 * Queues more projects/containers.
 		 */
@@ -155,6 +202,9 @@ public class PluginModelManager implements IModelProviderListener {
 			super(id);
 		}
 
+		// the last published copy of this entry
+		private ModelEntry fSnapshot;
+
 		/**
 		 * Adds a model to the entry.
 		 * An entry keeps two lists: one for workspace models
@@ -170,6 +220,7 @@ public class PluginModelManager implements IModelProviderListener {
 			} else {
 				fExternalEntries.add(model);
 			}
+			fSnapshot = null;
 		}
 
 		/**
@@ -184,6 +235,34 @@ public class PluginModelManager implements IModelProviderListener {
 			} else {
 				fExternalEntries.remove(model);
 			}
+			fSnapshot = null;
+		}
+
+		/**
+		 * Returns an immutable copy of this entry for readers that don't hold
+		 * fEntriesSynchronizer. Has to be called synchronized with
+		 * fEntriesSynchronizer.
+		 *
+		 * @return the copy, reused until the entry is modified
+		 */
+		ModelEntry getSnapshot() {
+			if (fSnapshot == null) {
+				fSnapshot = new ModelEntrySnapshot(this);
+			}
+			return fSnapshot;
+		}
+	}
+
+	/**
+	 * Copy of a model entry that is never modified once it has been created, so
+	 * it can be read without holding fEntriesSynchronizer
+	 */
+	private static class ModelEntrySnapshot extends ModelEntry {
+
+		ModelEntrySnapshot(ModelEntry entry) {
+			super(entry.getId());
+			fWorkspaceEntries.addAll(Arrays.asList(entry.getWorkspaceModels()));
+			fExternalEntries.addAll(Arrays.asList(entry.getExternalModels()));
 		}
 	}
 
@@ -199,10 +278,18 @@ public class PluginModelManager implements IModelProviderListener {
 	 * used to synchronize all public methods which (indirectly) use fEntries
 	 **/
 	private final Object fEntriesSynchronizer = new Object();
+	/**
+	 * immutable copy of fEntries and its entries for readers that don't hold
+	 * fEntriesSynchronizer, replaced as a whole whenever fEntries has been
+	 * modified. <code>null</code> until the table has been initialized.
+	 **/
+	private volatile Map<String, ModelEntry> fEntriesSnapshot;
 
 	private ArrayList<IPluginModelListener> fListeners; // a list of listeners interested in changes to the plug-in models
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
 	private boolean fCancelled = false;
+	// the manifest caches of deleted targets are cleaned up once per session
+	private final AtomicBoolean fStateCachesCleanedUp = new AtomicBoolean();
 
 	/**
 	 * Initialize the workspace and external (target) model manager
@@ -288,6 +375,7 @@ public class PluginModelManager implements IModelProviderListener {
 				handleChange((IPluginModelBase) element, delta);
 			}
 		}
+		publishEntries();
 
 		if (fState != null) {
 			// if the target location has not changed, incrementally re-resolve the state after processing all the add/remove/modify changes
@@ -476,9 +564,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 		<code>false</code> otherwise.
 	 */
 	public boolean isEmpty() {
-		synchronized (fEntriesSynchronizer) {
-			return getEntryTable().isEmpty();
-		}
+		return getEntryTableForRead().isEmpty();
 	}
 
 	/**
@@ -513,10 +599,48 @@ public class PluginModelManager implements IModelProviderListener {
 	public void targetReloaded(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
 			fEntries = null;
+			// readers wait for the new table instead of reading the old target
+			publishEntries();
 			initializeTable(monitor);
 		}
 	}
 
+	/**
+	 * Publishes a copy of the master table and of its entries for readers that
+	 * don't lock. Has to be called synchronized with fEntriesSynchronizer after
+	 * the table has been modified, so readers see all changes of an event at
+	 * once.
+	 */
+	private void publishEntries() {
+		if (fEntries == null) {
+			fEntriesSnapshot = null;
+			return;
+		}
+		Map<String, ModelEntry> snapshot = new TreeMap<>();
+		for (Entry<String, LocalModelEntry> entry : fEntries.entrySet()) {
+			snapshot.put(entry.getKey(), entry.getValue().getSnapshot());
+		}
+		fEntriesSnapshot = Collections.unmodifiableMap(snapshot);
+	}
+
+	/**
+	 * Returns the master table for read access. Once the table has been
+	 * initialized, this returns the last published snapshot without locking,
+	 * whose entries are immutable copies, unless the calling thread is
+	 * modifying the table, in which case the table itself is returned.
+	 *
+	 * @return the master table, must not be modified
+	 */
+	private Map<String, ? extends ModelEntry> getEntryTableForRead() {
+		Map<String, ModelEntry> snapshot = fEntriesSnapshot;
+		if (snapshot != null && !Thread.holdsLock(fEntriesSynchronizer)) {
+			return snapshot;
+		}
+		synchronized (fEntriesSynchronizer) {
+			return getEntryTable();
+		}
+	}
+
 	/**
 	 * Allow access to the table only through this getter.
 	 * It always calls initialize to make sure the table is initialized.
@@ -563,6 +687,7 @@ public class PluginModelManager implements IModelProviderListener {
 			fState = new PDEState(new URI[0], true, true, subMon);
 			fExternalManager.setModels(new IPluginModelBase[0]);
 			fEntries = entries;
+			publishEntries();
 			LoadTargetDefinitionJob.load(unresolvedRepoBasedtarget);
 			return;
 		}
@@ -580,7 +705,12 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		// don't let a cancelled resolution drop the cached manifests
+		String targetKey = fCancelled ? null : getTargetStateCacheKey();
+		fState = new PDEState(externalUris, targetKey, true, true, subMon.split(15));
+		if (targetKey != null && fStateCachesCleanedUp.compareAndSet(false, true)) {
+			TargetStateCache.cleanup(this::targetExists);
+		}
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -613,6 +743,7 @@ public class PluginModelManager implements IModelProviderListener {
 		subMon.split(5);
 
 		fEntries = entries;
+		publishEntries();
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
 		if (oldState != null) {
@@ -636,6 +767,40 @@ public class PluginModelManager implements IModelProviderListener {
 
 	}
 
+	/**
+	 * Returns the key of the manifest cache used to create the target state, the
+	 * memento of the workspace target handle or <code>null</code> if there is
+	 * none.
+	 */
+	private String getTargetStateCacheKey() {
+		ITargetPlatformService service = PDECore.getDefault().acquireService(ITargetPlatformService.class);
+		if (service == null) {
+			return null;
+		}
+		try {
+			ITargetHandle handle = service.getWorkspaceTargetHandle();
+			return handle != null ? handle.getMemento() : null;
+		} catch (CoreException e) {
+			PDECore.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Returns whether the target with the given handle memento still exists.
+	 */
+	private boolean targetExists(String memento) {
+		ITargetPlatformService service = PDECore.getDefault().acquireService(ITargetPlatformService.class);
+		if (service == null) {
+			return true;
+		}
+		try {
+			return service.getTarget(memento).exists();
+		} catch (CoreException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * Returns an array of URI plug-in locations for external bundles loaded from the
 	 * current target platform.
@@ -990,12 +1155,10 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return a model entry containing all workspace and target plug-ins by the given ID
 	 */
 	public ModelEntry findEntry(String id) {
-		synchronized (fEntriesSynchronizer) {
-			if ("system.bundle".equals(id)) { //$NON-NLS-1$
-				id = getSystemBundleId();
-			}
-			return id == null ? null : (ModelEntry) getEntryTable().get(id);
+		if ("system.bundle".equals(id)) { //$NON-NLS-1$
+			id = getSystemBundleId();
 		}
+		return id == null ? null : getEntryTableForRead().get(id);
 	}
 
 	/**
@@ -1090,21 +1253,17 @@ public class PluginModelManager implements IModelProviderListener {
 	 * (possibly) fragments that are checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getActiveModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.getActiveModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
+		Map<String, ? extends ModelEntry> entries = getEntryTableForRead();
+		ArrayList<IPluginModelBase> result = new ArrayList<>(entries.size());
+		for (ModelEntry entry : entries.values()) {
+			IPluginModelBase[] models = entry.getActiveModels();
+			for (IPluginModelBase model : models) {
+				if (model instanceof IPluginModel || includeFragments) {
+					result.add(model);
 				}
 			}
-			return result.toArray(new IPluginModelBase[result.size()]);
 		}
+		return result.toArray(new IPluginModelBase[result.size()]);
 	}
 
 	/**
@@ -1144,22 +1303,18 @@ public class PluginModelManager implements IModelProviderListener {
 	 * checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getAllModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
-						: entry.getExternalModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
+		Map<String, ? extends ModelEntry> entries = getEntryTableForRead();
+		ArrayList<IPluginModelBase> result = new ArrayList<>(entries.size());
+		for (ModelEntry entry : entries.values()) {
+			IPluginModelBase[] models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
+					: entry.getExternalModels();
+			for (IPluginModelBase model : models) {
+				if (model instanceof IPluginModel || includeFragments) {
+					result.add(model);
 				}
 			}
-			return result.toArray(new IPluginModelBase[result.size()]);
 		}
+		return result.toArray(new IPluginModelBase[result.size()]);
 	}
 
 	/**
@@ -0,0 +1,374 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.util.ManifestElement;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.eclipse.pde.internal.core.util.UtilMessages;
+import org.osgi.framework.BundleException;
+
+/**
+ * Persistent cache of the bundle manifests of a target platform. The cache is
+ * keyed by the target handle and stores for every bundle location the file
+ * stamps and the manifest headers read from it. When the target state is
+ * created again only the manifests of bundles that have been added or changed
+ * since are read from disk, bundles no longer part of the target are dropped
+ * from the cache.
+ * <p>
+ * Cached manifests are parsed again from their headers, so the state built from
+ * the cache is the same as the one built from the bundles themselves. For
+ * locations that are not bundles the original error message is replayed.
+ * </p>
+ * <p>
+ * Only reading the manifests is saved. The bundle descriptions are still
+ * created for all bundles and the new state is resolved from scratch, the
+ * state of the previous load is not updated incrementally.
+ * </p>
+ * <p>
+ * The cache files of targets that no longer exist are deleted by
+ * {@link #cleanup(Predicate)}.
+ * </p>
+ */
+public final class TargetStateCache {
+
+	private static final int MAGIC = 0x50444553; // "PDES"
+	private static final int VERSION = 2;
+	private static final String CACHE_DIR = "target-states"; //$NON-NLS-1$
+
+	/**
+	 * System property to disable the cache
+	 */
+	private static final boolean DISABLED = Boolean.getBoolean("org.eclipse.pde.core.disableTargetStateCache"); //$NON-NLS-1$
+
+	/**
+	 * A cached manifest of one bundle location
+	 *
+	 * @param stamp the modification stamp of the location
+	 * @param length the length of the location
+	 * @param headers the manifest headers or <code>null</code> if the location
+	 *            is not a bundle
+	 * @param error the message of the error reported for a location that is
+	 *            not a bundle, <code>null</code> if the location is a bundle
+	 * @param loadTime the time in nanoseconds it took to read the manifest
+	 */
+	private record Entry(long stamp, long length, Map<String, String> headers, String error, long loadTime) {
+	}
+
+	private final Path fFile;
+	private final String fTargetKey;
+	private final Map<String, Entry> fCached;
+	private final Map<String, Entry> fCurrent = new ConcurrentHashMap<>();
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+	private final AtomicLong fSavedTime = new AtomicLong();
+
+	private TargetStateCache(Path file, String targetKey, Map<String, Entry> cached) {
+		fFile = file;
+		fTargetKey = targetKey;
+		fCached = cached;
+	}
+
+	/**
+	 * Returns the manifest cache for the given target or <code>null</code> if
+	 * the cache is disabled.
+	 *
+	 * @param targetKey a key identifying the target, like the memento of its
+	 *            handle
+	 * @return the cache or <code>null</code>
+	 */
+	public static TargetStateCache getCache(String targetKey) {
+		if (DISABLED || targetKey == null || PDECore.getDefault() == null) {
+			return null;
+		}
+		Path file = getCacheDirectory().resolve(hash(targetKey) + ".bin"); //$NON-NLS-1$
+		return new TargetStateCache(file, targetKey, read(file, targetKey));
+	}
+
+	/**
+	 * Deletes the cache files of targets that no longer exist as well as files
+	 * that cannot be read.
+	 *
+	 * @param exists tests whether the target with the given key still exists
+	 */
+	public static void cleanup(Predicate<String> exists) {
+		if (DISABLED || PDECore.getDefault() == null) {
+			return;
+		}
+		Path dir = getCacheDirectory();
+		if (!Files.isDirectory(dir)) {
+			return;
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.bin")) { //$NON-NLS-1$
+			for (Path file : files) {
+				String targetKey = readTargetKey(file);
+				if (targetKey == null || !exists.test(targetKey)) {
+					if (PDECore.DEBUG_MODEL) {
+						System.out.println("Deleting target state cache of " + targetKey); //$NON-NLS-1$
+					}
+					Files.deleteIfExists(file);
+				}
+			}
+		} catch (IOException e) {
+			PDECore.log(Status.warning("Failed to clean up target state caches in " + dir, e)); //$NON-NLS-1$
+		}
+	}
+
+	private static Path getCacheDirectory() {
+		return PDECore.getDefault().getStateLocation().toPath().resolve(CACHE_DIR);
+	}
+
+	/**
+	 * Loads the manifest of the given bundle location, from the cache if the
+	 * location has not changed since it was cached. This method may be called
+	 * from several threads at once.
+	 *
+	 * @param bundleLocation the bundle location
+	 * @return the manifest headers
+	 * @throws CoreException if the location is not a bundle or the manifest
+	 *             cannot be read, see {@link ManifestUtils#loadManifest(File)}
+	 */
+	public Map<String, String> loadManifest(File bundleLocation) throws CoreException {
+		String key = bundleLocation.getAbsolutePath();
+		long stamp = getStamp(bundleLocation);
+		long length = bundleLocation.isFile() ? bundleLocation.length() : 0;
+		Entry entry = fCached.get(key);
+		if (entry != null && entry.stamp() == stamp && entry.length() == length) {
+			fCurrent.put(key, entry);
+			fHits.incrementAndGet();
+			fSavedTime.addAndGet(entry.loadTime());
+			if (entry.headers() == null) {
+				throw new CoreException(new Status(IStatus.ERROR, PDECore.PLUGIN_ID,
+						ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST, entry.error(), null));
+			}
+			return toManifest(entry.headers(), bundleLocation);
+		}
+		fMisses.incrementAndGet();
+		long start = System.nanoTime();
+		try {
+			Map<String, String> manifest = ManifestUtils.loadManifest(bundleLocation);
+			fCurrent.put(key,
+					new Entry(stamp, length, new LinkedHashMap<>(manifest), null, System.nanoTime() - start));
+			return manifest;
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() == ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				fCurrent.put(key,
+						new Entry(stamp, length, null, e.getStatus().getMessage(), System.nanoTime() - start));
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes the manifests of all locations loaded through this cache. Entries
+	 * of locations that were not loaded are dropped, so this must not be
+	 * called after a load that was cancelled.
+	 */
+	public void save() {
+		if (fMisses.get() == 0 && fCurrent.size() == fCached.size()) {
+			// nothing changed
+			traceStatistics();
+			return;
+		}
+		try {
+			Files.createDirectories(fFile.getParent());
+			Path tmp = Files.createTempFile(fFile.getParent(), "state", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				write(out, fTargetKey, fCurrent);
+			}
+			Files.move(tmp, fFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			PDECore.log(Status.warning("Failed to save target state cache " + fFile, e)); //$NON-NLS-1$
+		}
+		traceStatistics();
+	}
+
+	private void traceStatistics() {
+		if (PDECore.DEBUG_MODEL) {
+			long dropped = fCached.keySet().stream().filter(key -> !fCurrent.containsKey(key)).count();
+			System.out.println("Target state cache: " + fHits + " manifests reused, " + fMisses + " read, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ dropped + " dropped, saved ~" + (fSavedTime.get() / 1_000_000) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Creates the manifest map for cached headers. The headers are parsed again
+	 * the same way {@link ManifestUtils#loadManifest(File)} does for the kind
+	 * of location, so the map behaves the same as a freshly loaded one.
+	 */
+	private static Map<String, String> toManifest(Map<String, String> headers, File bundleLocation)
+			throws CoreException {
+		StringBuilder buffer = new StringBuilder();
+		for (Map.Entry<String, String> header : headers.entrySet()) {
+			buffer.append(header.getKey()).append(": ").append(header.getValue()).append('\n'); //$NON-NLS-1$
+		}
+		try (InputStream stream = new ByteArrayInputStream(buffer.toString().getBytes(StandardCharsets.UTF_8))) {
+			return ManifestElement.parseBundleManifest(stream, bundleLocation.isFile() ? null : new HashMap<>(10));
+		} catch (BundleException | IOException e) {
+			throw new CoreException(
+					Status.error(NLS.bind(UtilMessages.ErrorReadingManifest, bundleLocation.getAbsolutePath()), e));
+		}
+	}
+
+	/**
+	 * Returns the modification stamp of a bundle location. For directories the
+	 * stamps of the files describing the bundle are taken into account, as
+	 * changing them does not change the stamp of the directory.
+	 */
+	private static long getStamp(File bundleLocation) {
+		long stamp = bundleLocation.lastModified();
+		if (bundleLocation.isDirectory()) {
+			for (String name : new String[] { JarFile.MANIFEST_NAME, ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR,
+					ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR }) {
+				File file = new File(bundleLocation, name);
+				// mix in existence as well as time
+				stamp = 31 * stamp + (file.exists() ? file.lastModified() + 1 : 0);
+			}
+		}
+		return stamp;
+	}
+
+	/**
+	 * @return the key of the target the given cache file was written for or
+	 *         <code>null</code> if the file is not a valid cache file
+	 */
+	private static String readTargetKey(Path file) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+			return readString(in);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static Map<String, Entry> read(Path file, String targetKey) {
+		Map<String, Entry> entries = new HashMap<>();
+		if (!Files.isRegularFile(file)) {
+			return entries;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !targetKey.equals(readString(in))) {
+				return entries;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String location = readString(in);
+				long stamp = in.readLong();
+				long length = in.readLong();
+				long loadTime = in.readLong();
+				int headerCount = in.readInt();
+				Map<String, String> headers = null;
+				String error = null;
+				if (headerCount >= 0) {
+					headers = new LinkedHashMap<>(headerCount * 4 / 3 + 1);
+					for (int j = 0; j < headerCount; j++) {
+						headers.put(readString(in), readString(in));
+					}
+				} else {
+					error = readString(in);
+				}
+				entries.put(location, new Entry(stamp, length, headers, error, loadTime));
+			}
+		} catch (IOException e) {
+			// a corrupt cache is dropped, all manifests are read again
+			if (PDECore.DEBUG_MODEL) {
+				PDECore.log(Status.warning("Failed to read target state cache " + file, e)); //$NON-NLS-1$
+			}
+			entries.clear();
+		}
+		return entries;
+	}
+
+	private static void write(DataOutputStream out, String targetKey, Map<String, Entry> entries)
+			throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		writeString(out, targetKey);
+		out.writeInt(entries.size());
+		for (Map.Entry<String, Entry> e : entries.entrySet()) {
+			Entry entry = e.getValue();
+			writeString(out, e.getKey());
+			out.writeLong(entry.stamp());
+			out.writeLong(entry.length());
+			out.writeLong(entry.loadTime());
+			Map<String, String> headers = entry.headers();
+			if (headers == null) {
+				out.writeInt(-1);
+				writeString(out, entry.error());
+			} else {
+				out.writeInt(headers.size());
+				for (Map.Entry<String, String> header : headers.entrySet()) {
+					writeString(out, header.getKey());
+					writeString(out, header.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Manifest headers can exceed the 64k limit of
+	 * {@link DataOutputStream#writeUTF(String)}
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static String hash(String key) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(key.hashCode());
+		}
+	}
+}
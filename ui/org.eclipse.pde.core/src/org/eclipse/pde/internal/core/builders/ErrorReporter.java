@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2020 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -70,6 +70,13 @@ public abstract class ErrorReporter {
 		return fErrorReporter.getErrorCount();
 	}
 
+	/**
+	 * @return the reporter collecting the markers of the validated file
+	 */
+	IncrementalErrorReporter getIncrementalReporter() {
+		return fErrorReporter;
+	}
+
 	/**
 	 * Return a new marker with the provided attributes. May return
 	 * <code>null</code> if no marker should be created because of severity
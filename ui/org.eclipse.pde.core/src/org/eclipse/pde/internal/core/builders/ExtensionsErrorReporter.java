@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,7 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.regex.Pattern;
@@ -50,18 +49,15 @@ import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMa
 import org.eclipse.pde.internal.core.ischema.IMetaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
-import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
-import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
 import org.eclipse.pde.internal.core.ischema.ISchemaElement;
 import org.eclipse.pde.internal.core.ischema.ISchemaEnumeration;
-import org.eclipse.pde.internal.core.ischema.ISchemaObject;
-import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
 import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
 import org.eclipse.pde.internal.core.ischema.ISchemaRootElement;
 import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
-import org.eclipse.pde.internal.core.ischema.ISchemaType;
 import org.eclipse.pde.internal.core.project.PDEProject;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.pde.internal.core.schema.SchemaValidator;
+import org.eclipse.pde.internal.core.schema.SchemaValidator.ElementValidator;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.core.util.IdUtil;
 import org.eclipse.pde.internal.core.util.PDEJavaHelper;
@@ -81,6 +77,12 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	private final IPluginModelBase fModel;
 	private IBuild fBuildModel;
 
+	/**
+	 * Validators of the schemas of the extension points extended in the file,
+	 * by extension point id. <code>null</code> if the point has no schema.
+	 */
+	private final Map<String, SchemaValidator> fSchemaValidators = new HashMap<>();
+
 	public ExtensionsErrorReporter(IFile file) {
 		super(file);
 		fModel = PluginRegistry.findModel(file.getProject());
@@ -165,10 +167,15 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_UNRESOLVED_EX_POINTS);
 			}
 		} else {
-			SchemaRegistry reg = PDECore.getDefault().getSchemaRegistry();
-			ISchema schema = reg.getSchema(pointID);
-			if (schema != null) {
-				validateElement(element, schema, true);
+			SchemaValidator validator = fSchemaValidators.get(pointID);
+			if (validator == null && !fSchemaValidators.containsKey(pointID)) {
+				SchemaRegistry reg = PDECore.getDefault().getSchemaRegistry();
+				ISchema schema = reg.getSchema(pointID);
+				validator = schema == null ? null : reg.getValidator(schema);
+				fSchemaValidators.put(pointID, validator);
+			}
+			if (validator != null) {
+				validateElement(element, validator, true);
 			}
 		}
 	}
@@ -189,17 +196,17 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		addMarkerAttribute(marker, PDEMarkerFactory.compilerKey,  CompilerFlags.P_UNKNOWN_ELEMENT);
 	}
 
-	protected void validateElement(Element element, ISchema schema, boolean isTopLevel) {
+	protected void validateElement(Element element, SchemaValidator schema, boolean isTopLevel) {
 		String elementName = element.getNodeName();
-		ISchemaElement schemaElement = schema.findElement(elementName);
+		ElementValidator elementValidator = schema.findElement(elementName);
+		ISchemaElement schemaElement = elementValidator == null ? null : elementValidator.getSchemaElement();
 
 		// Validate element occurrence violations
-		if ((schemaElement != null) && (schemaElement.getType() instanceof ISchemaComplexType)) {
-			validateMaxElementMult(element, schemaElement);
-			validateMinElementMult(element, schemaElement);
+		if ((elementValidator != null) && elementValidator.isComplex()) {
+			validateElementMult(element, elementValidator);
 		}
 
-		ISchemaElement parentSchema = null;
+		ElementValidator parentSchema = null;
 		if (!"extension".equals(elementName)) { //$NON-NLS-1$
 			Node parent = element.getParentNode();
 			parentSchema = schema.findElement(parent.getNodeName());
@@ -218,9 +225,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		if (parentSchema != null) {
 			int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
 			if (severity != CompilerFlags.IGNORE) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(parentSchema.getType(), allowedElements);
-				if (!allowedElements.contains(elementName)) {
+				if (!parentSchema.isAllowedElement(elementName)) {
 					reportIllegalElement(element, severity);
 					return;
 				}
@@ -237,8 +242,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			}
 		} else {
 			if (schemaElement != null) {
-				validateRequiredExtensionAttributes(element, schemaElement);
-				validateExistingExtensionAttributes(element, element.getAttributes(), schemaElement);
+				validateRequiredExtensionAttributes(element, elementValidator);
+				validateExistingExtensionAttributes(element, element.getAttributes(), elementValidator);
 				validateInternalExtensionAttribute(element, schemaElement);
 				if (schemaElement.isDeprecated()) {
 					if (schemaElement instanceof ISchemaRootElement) {
@@ -251,7 +256,9 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 					validateTranslatableElementContent(element);
 				}
 				// Bug 213457 - look up elements based on the schema in which the parent is found
-				schema = schemaElement.getSchema();
+				if (schemaElement.getSchema() != schema.getSchema()) {
+					schema = PDECore.getDefault().getSchemaRegistry().getValidator(schemaElement.getSchema());
+				}
 			}
 			NodeList children = element.getChildNodes();
 			for (int i = 0; i < children.getLength(); i++) {
@@ -286,95 +293,49 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		}
 	}
 
-	private void validateMinElementMult(Element element, ISchemaElement schemaElement) {
-		// Validate min element occurence violations
-		int minSeverity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
-		if (minSeverity != CompilerFlags.IGNORE) {
-			HashSet<ElementOccurrenceResult> minElementSet = ElementOccurenceChecker.findMinOccurenceViolations(schemaElement, element);
-			Iterator<ElementOccurrenceResult> minIterator = minElementSet.iterator();
-
-			while (minIterator.hasNext()) {
-				reportMinOccurenceViolation(element, minIterator.next(), minSeverity);
-			}
-		}
-	}
-
-	private void validateMaxElementMult(Element element, ISchemaElement schemaElement) {
-		// Validate max element occurence violations
-		int maxSeverity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
-		if (maxSeverity != CompilerFlags.IGNORE) {
-			HashSet<ElementOccurrenceResult> maxElementSet = ElementOccurenceChecker.findMaxOccurenceViolations(schemaElement, element);
-			Iterator<ElementOccurrenceResult> maxIterator = maxElementSet.iterator();
-			while (maxIterator.hasNext()) {
-				reportMaxOccurenceViolation(maxIterator.next(), maxSeverity);
-			}
-		}
-	}
-
-	private void computeAllowedElements(ISchemaType type, HashSet<String> elementSet) {
-		if (type instanceof ISchemaComplexType complexType) {
-			ISchemaCompositor compositor = complexType.getCompositor();
-			if (compositor != null) {
-				computeAllowedElements(compositor, elementSet);
-			}
-
-			ISchemaAttribute[] attrs = complexType.getAttributes();
-			for (ISchemaAttribute attr : attrs) {
-				if (attr.getKind() == IMetaAttribute.JAVA) {
-					elementSet.add(attr.getName());
-				}
+	private void validateElementMult(Element element, ElementValidator elementValidator) {
+		// Validate max and min element occurence violations
+		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
+		if (severity != CompilerFlags.IGNORE) {
+			Map<String, Integer> siblings = ElementValidator.countChildren(element);
+			for (ElementOccurrenceResult result : elementValidator.findMaxOccurrenceViolations(element, siblings)) {
+				reportMaxOccurenceViolation(result, severity);
 			}
-		}
-	}
-
-	private void computeAllowedElements(ISchemaCompositor compositor, HashSet<String> elementSet) {
-		ISchemaObject[] children = compositor.getChildren();
-		for (ISchemaObject child : children) {
-			if (child instanceof ISchemaObjectReference ref) {
-				ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
-				if (refElement != null) {
-					elementSet.add(refElement.getName());
-				}
-			} else if (child instanceof ISchemaCompositor) {
-				computeAllowedElements((ISchemaCompositor) child, elementSet);
+			for (ElementOccurrenceResult result : elementValidator.findMinOccurrenceViolations(element, siblings)) {
+				reportMinOccurenceViolation(element, result, severity);
 			}
 		}
 	}
 
-	private void validateRequiredExtensionAttributes(Element element, ISchemaElement schemaElement) {
+	private void validateRequiredExtensionAttributes(Element element, ElementValidator elementValidator) {
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_NO_REQUIRED_ATT);
 		if (severity == CompilerFlags.IGNORE) {
 			return;
 		}
 
-		ISchemaAttribute[] attInfos = schemaElement.getAttributes();
-		for (ISchemaAttribute attInfo : attInfos) {
-			if (attInfo.getUse() == ISchemaAttribute.REQUIRED) {
-				boolean found = element.getAttributeNode(attInfo.getName()) != null;
-				if (!found && attInfo.getKind() == IMetaAttribute.JAVA) {
-					NodeList children = element.getChildNodes();
-					for (int j = 0; j < children.getLength(); j++) {
-						if (attInfo.getName().equals(children.item(j).getNodeName())) {
-							found = true;
-							break;
-						}
+		for (ISchemaAttribute attInfo : elementValidator.getRequiredAttributes()) {
+			boolean found = element.getAttributeNode(attInfo.getName()) != null;
+			if (!found && attInfo.getKind() == IMetaAttribute.JAVA) {
+				NodeList children = element.getChildNodes();
+				for (int j = 0; j < children.getLength(); j++) {
+					if (attInfo.getName().equals(children.item(j).getNodeName())) {
+						found = true;
+						break;
 					}
 				}
-				if (!found) {
-					reportMissingRequiredAttribute(element, attInfo.getName(), severity);
-				}
+			}
+			if (!found) {
+				reportMissingRequiredAttribute(element, attInfo.getName(), severity);
 			}
 		}
 	}
 
-	private void validateExistingExtensionAttributes(Element element, NamedNodeMap attrs, ISchemaElement schemaElement) {
+	private void validateExistingExtensionAttributes(Element element, NamedNodeMap attrs, ElementValidator elementValidator) {
 		for (int i = 0; i < attrs.getLength(); i++) {
 			Attr attr = (Attr) attrs.item(i);
-			ISchemaAttribute attInfo = schemaElement.getAttribute(attr.getName());
+			ISchemaAttribute attInfo = elementValidator.getAttribute(attr.getName());
 			if (attInfo == null) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(schemaElement.getType(), allowedElements);
-				if (allowedElements.contains(attr.getName())) {
+				if (elementValidator.isAllowedElement(attr.getName())) {
 					validateJavaAttribute(element, attr);
 				} else {
 					int flag = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ATTRIBUTE);
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
@@ -62,6 +63,28 @@ public class IncrementalErrorReporter {
 		return marker;
 	}
 
+	/**
+	 * @return a copy of the markers reported since the markers were last
+	 *         applied
+	 */
+	List<VirtualMarker> getReportedMarkers() {
+		return new ArrayList<>(fReportedMarkers);
+	}
+
+	/**
+	 * Reports markers computed by an earlier validation of the same content
+	 *
+	 * @param markers the markers to report
+	 */
+	void addMarkers(Collection<VirtualMarker> markers) {
+		for (VirtualMarker marker : markers) {
+			if (Integer.valueOf(IMarker.SEVERITY_ERROR).equals(marker.getAttributes().get(IMarker.SEVERITY))) {
+				fErrorCount++;
+			}
+			fReportedMarkers.add(marker);
+		}
+	}
+
 	public void applyMarkers() {
 		IMarker[] existingMarkers;
 		try {
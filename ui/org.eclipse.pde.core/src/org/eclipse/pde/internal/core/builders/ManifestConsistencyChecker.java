@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,9 +18,20 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -34,6 +45,8 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.MultiRule;
@@ -64,6 +77,25 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 	 */
 	private static final boolean DISABLE_AUTO_BUILDING_ON_SETTINGS_CHANGE = Boolean.getBoolean("org.eclipse.disableAutoBuildOnSettingsChange"); //$NON-NLS-1$
 
+	/*
+	 * The plugin.xml or fragment.xml of a project is parsed while the other
+	 * files are validated. To parse it on the build thread, specify VM
+	 * property: {@code -Dorg.eclipse.pde.core.sequentialValidation=true}
+	 */
+	private static final boolean SEQUENTIAL_VALIDATION = Boolean.getBoolean("org.eclipse.pde.core.sequentialValidation"); //$NON-NLS-1$
+
+	/**
+	 * Validation of one file: the reporter collecting its markers, the parsing
+	 * of the file if it is an XML descriptor and the validation itself. Only
+	 * the parsing may run on another thread, the validation uses JDT and the
+	 * models of PDE and runs on the build thread.
+	 */
+	private record Validation(IFile file, IncrementalErrorReporter reporter, Runnable parser,
+			Consumer<IProgressMonitor> validator) {
+	}
+
+	private static ExecutorService fgParser;
+
 	private final ClassChangeVisitor fClassFileVisitor = new ClassChangeVisitor();
 
 	static class ClassChangeVisitor implements IResourceDeltaVisitor {
@@ -150,6 +182,9 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 						}
 					} else if (name.endsWith(".exsd") || file.equals(PDEProject.getPluginXml(project)) || file.equals(PDEProject.getFragmentXml(project))) { //$NON-NLS-1$
 						type |= EXTENSIONS | BUILD;
+						if (name.endsWith(".exsd")) { //$NON-NLS-1$
+							ValidationCache.schemaChanged();
+						}
 						if (PDECore.DEBUG_VALIDATION) {
 							System.out.print("Needs to rebuild project [" + getProject().getName() + "]: "); //$NON-NLS-1$ //$NON-NLS-2$
 							System.out.print(delta.getResource().getProjectRelativePath().toString());
@@ -257,24 +292,33 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			validateProjectStructure(type, subMonitor.split(1));
 		}
 
+		// the validation of each file is created lazily, it is not needed if
+		// the markers of the file can be restored from the cache
+		Map<IFile, Supplier<Validation>> validations = new LinkedHashMap<>();
+		IProject project = getProject();
 		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
-			IProject project = getProject();
 			IFile file = PDEProject.getPluginXml(project);
 			if (!file.exists()) {
 				file = PDEProject.getFragmentXml(project);
 			}
 
 			if (file.exists()) {
-				validateFiles(file, type, monitor);
+				addFileValidations(file, type, validations);
 			} else if ((type & MANIFEST) != 0) {
 				IFile manifestFile = PDEProject.getManifest(project);
 				if (manifestFile.exists()) {
-					validateManifestFile(manifestFile, subMonitor.split(1));
+					validations.put(manifestFile, () -> createValidation(new BundleErrorReporter(manifestFile)));
 				}
 			}
 		}
 		if ((type & BUILD) != 0) {
-			validateBuildProperties(subMonitor.split(1));
+			IFile file = PDEProject.getBuildProperties(project);
+			if (file.exists()) {
+				validations.put(file, () -> createValidation(new BuildErrorReporter(file)));
+			}
+		}
+		if (!validations.isEmpty()) {
+			validateFiles(validations, subMonitor.split(getWorkAmount(type) - 1));
 		}
 	}
 
@@ -307,65 +351,135 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		validateManifestCasing(project);
 	}
 
-	private void validateManifestFile(IFile file, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
-		monitor.subTask(message);
-
-		BundleErrorReporter reporter = new BundleErrorReporter(file);
-		reporter.validateContent(monitor);
-		monitor.subTask(PDECoreMessages.Builders_updating);
-		monitor.done();
-	}
-
-	private void validateFiles(IFile file, int type, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
-		monitor.subTask(message);
-
+	private void addFileValidations(IFile file, int type, Map<IFile, Supplier<Validation>> validations) {
 		IFile bundleManifest = PDEProject.getManifest(getProject());
-		XMLErrorReporter reporter = null;
-		BundleErrorReporter bundleReporter = null;
 		if (bundleManifest.exists()) {
 			if ((type & EXTENSIONS) != 0) {
-				reporter = new ExtensionsErrorReporter(file);
+				validations.put(file, () -> createValidation(new ExtensionsErrorReporter(file)));
 			}
 			if ((type & MANIFEST) != 0) {
-				bundleReporter = new BundleErrorReporter(bundleManifest);
+				validations.put(bundleManifest, () -> createValidation(new BundleErrorReporter(bundleManifest)));
 			}
 		} else if ((type & MANIFEST) != 0 || (type & EXTENSIONS) != 0) {
 			if (file.equals(PDEProject.getPluginXml(getProject()))) {
-				reporter = new PluginErrorReporter(file);
+				validations.put(file, () -> createValidation(new PluginErrorReporter(file)));
 			} else if (file.equals(PDEProject.getFragmentXml(getProject()))) {
-				reporter = new FragmentErrorReporter(file);
+				validations.put(file, () -> createValidation(new FragmentErrorReporter(file)));
 			}
 		}
-		if (reporter != null) {
-			DefaultSAXParser.parse(file, reporter);
-			reporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
-		}
-		if (bundleReporter != null) {
-			bundleReporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+	}
+
+	private static Validation createValidation(ErrorReporter reporter) {
+		return new Validation(reporter.fFile, reporter.getIncrementalReporter(), null, reporter::validate);
+	}
+
+	private static Validation createValidation(XMLErrorReporter reporter) {
+		IFile file = reporter.getFile();
+		return new Validation(file, reporter.getIncrementalReporter(), () -> DefaultSAXParser.parse(file, reporter),
+				reporter::validate);
+	}
+
+	/**
+	 * @return the executor parsing XML descriptors, it never runs anything
+	 *         else so it cannot block on JDT or the workspace. Its thread is
+	 *         discarded when idle.
+	 */
+	private static synchronized ExecutorService getParser() {
+		if (fgParser == null) {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), r -> {
+						Thread thread = new Thread(r, "PDE Descriptor Parser"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			fgParser = executor;
 		}
-		monitor.done();
+		return fgParser;
 	}
 
-	private void validateBuildProperties(IProgressMonitor monitor) {
+	/**
+	 * Validates the given files. Files whose inputs have not changed since
+	 * their last validation get the markers of that validation, the others
+	 * are validated on the calling thread while XML descriptors are parsed
+	 * in the background. The markers are applied on the calling thread,
+	 * which holds the workspace lock during the build.
+	 */
+	private void validateFiles(Map<IFile, Supplier<Validation>> validations, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
 		}
-		IProject project = getProject();
-		IFile file = PDEProject.getBuildProperties(project);
-		if (file.exists()) {
-			monitor.subTask(PDECoreMessages.ManifestConsistencyChecker_buildPropertiesSubtask);
-			BuildErrorReporter ber = new BuildErrorReporter(file);
-			ber.validateContent(monitor);
+		byte[] inputs = ValidationCache.computeInputs(getProject());
+		List<IncrementalErrorReporter> restored = new ArrayList<>();
+		List<Validation> pending = new ArrayList<>();
+		for (Map.Entry<IFile, Supplier<Validation>> entry : validations.entrySet()) {
+			IncrementalErrorReporter reporter = ValidationCache.restore(entry.getKey(), inputs);
+			if (reporter != null) {
+				restored.add(reporter);
+			} else {
+				monitor.subTask(NLS.bind(PDECoreMessages.Builders_verifying, entry.getKey().getFullPath().toString()));
+				pending.add(entry.getValue().get());
+			}
+		}
+
+		// reporters only check for cancellation, progress is reported here
+		IProgressMonitor cancellation = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		boolean background = !SEQUENTIAL_VALIDATION && pending.size() > 1;
+		Map<Validation, Future<?>> parsed = new HashMap<>();
+		for (Validation validation : pending) {
+			if (validation.parser() != null && background) {
+				parsed.put(validation, getParser().submit(validation.parser()));
+			}
+		}
+		// validate the files without parsing first, the descriptors are
+		// parsed meanwhile
+		for (Validation validation : pending) {
+			if (validation.parser() == null) {
+				validation.validator().accept(cancellation);
+			}
+		}
+		for (Validation validation : pending) {
+			if (validation.parser() != null) {
+				Future<?> future = parsed.get(validation);
+				if (future != null) {
+					await(future);
+				} else {
+					validation.parser().run();
+				}
+				validation.validator().accept(cancellation);
+			}
+		}
+
+		monitor.subTask(PDECoreMessages.Builders_updating);
+		for (Validation validation : pending) {
+			if (!monitor.isCanceled()) {
+				// markers of a canceled validation may be incomplete
+				ValidationCache.store(validation.file(), inputs, validation.reporter());
+			}
+			validation.reporter().applyMarkers();
+		}
+		for (IncrementalErrorReporter reporter : restored) {
+			reporter.applyMarkers();
+		}
+		monitor.done();
+	}
+
+	private static void await(Future<?> future) {
+		try {
+			future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
 		}
 	}
 
@@ -0,0 +1,326 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMarker;
+import org.eclipse.pde.internal.core.natures.BaseProject;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.osgi.service.prefs.BackingStoreException;
+
+/**
+ * Session cache of the markers reported for the manifest, the extensions and
+ * the build.properties of plug-in projects. The markers of a file are reused
+ * when the project is validated again and none of the inputs of the
+ * validation have changed since. The inputs are digested into one key:
+ * <ul>
+ * <li>a generation of the project, incremented whenever a resource of the
+ * project that is not derived is added, removed or changed, so changed
+ * descriptors, classes and resources are seen</li>
+ * <li>the PDE and JDT preferences of the workspace</li>
+ * <li>the bundles of the resolved state, the locations they come from, their
+ * exported packages with the <code>x-internal</code> and
+ * <code>x-friends</code> directives and their deprecation</li>
+ * <li>a generation of the workspace, incremented whenever a descriptor of a
+ * workspace plug-in changes or a project is added, removed, opened or
+ * closed, and a generation of the extension point schemas</li>
+ * </ul>
+ * The generations are maintained by a resource change listener, so the key of
+ * a project is computed without visiting other projects or the resources of
+ * the project. This makes a rebuild after a target reload or a clean build cheap for the
+ * projects whose inputs did not change. The results of a project are dropped
+ * when it is closed or deleted. The cache can be disabled with
+ * <code>-Dorg.eclipse.pde.core.disableValidationCache=true</code>.
+ */
+public final class ValidationCache {
+
+	private static final boolean DISABLED = Boolean.getBoolean("org.eclipse.pde.core.disableValidationCache"); //$NON-NLS-1$
+
+	private static final String DEPRECATED_DIRECTIVE = "deprecated"; //$NON-NLS-1$
+
+	private record Result(byte[] inputs, List<VirtualMarker> markers) {
+	}
+
+	private static final Map<IPath, Result> fResults = new ConcurrentHashMap<>();
+
+	private static boolean fListening;
+
+	/**
+	 * Incremented whenever an extension point schema changes in the workspace
+	 */
+	private static final AtomicLong fSchemaGeneration = new AtomicLong();
+
+	/**
+	 * Incremented whenever a descriptor of a workspace plug-in changes or a
+	 * project is added, removed, opened or closed
+	 */
+	private static final AtomicLong fWorkspaceGeneration = new AtomicLong();
+
+	/**
+	 * Incremented whenever a resource of the project that is not derived
+	 * changes
+	 */
+	private static final Map<IProject, AtomicLong> fProjectGenerations = new ConcurrentHashMap<>();
+
+	private static State fState;
+	private static long fStateTimeStamp;
+	private static byte[] fStateDigest;
+
+	private static final LongAdder fHits = new LongAdder();
+	private static final LongAdder fMisses = new LongAdder();
+
+	private ValidationCache() {
+	}
+
+	/**
+	 * Notes that an extension point schema has changed, which invalidates the
+	 * cached markers of all extensions
+	 */
+	static void schemaChanged() {
+		fSchemaGeneration.incrementAndGet();
+	}
+
+	/**
+	 * Computes the digest of the inputs of the validation of the given
+	 * project.
+	 *
+	 * @param project the project
+	 * @return the digest or <code>null</code> if the cache is disabled or the
+	 *         inputs cannot be read
+	 */
+	public static byte[] computeInputs(IProject project) {
+		if (DISABLED) {
+			return null;
+		}
+		// changes are only seen while listening, results are stored after this
+		listen();
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			update(digest, project.getName());
+			digest.update(getStateDigest());
+			update(digest, Long.toString(fSchemaGeneration.get()));
+			update(digest, Long.toString(fWorkspaceGeneration.get()));
+			update(digest, Long.toString(getGeneration(project).get()));
+			updatePreferences(digest, InstanceScope.INSTANCE.getNode(BaseProject.PDE_PLUGIN_ID));
+			updatePreferences(digest, InstanceScope.INSTANCE.getNode(JavaCore.PLUGIN_ID));
+			return digest.digest();
+		} catch (NoSuchAlgorithmException | BackingStoreException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Restores the markers reported by the last validation of the given file if
+	 * its inputs have not changed since.
+	 *
+	 * @param file the validated file
+	 * @param inputs the digest of the inputs, may be <code>null</code>
+	 * @return a reporter holding the restored markers or <code>null</code> if
+	 *         the file has to be validated
+	 */
+	public static IncrementalErrorReporter restore(IFile file, byte[] inputs) {
+		Result result = inputs == null ? null : fResults.get(file.getFullPath());
+		if (result == null || !Arrays.equals(result.inputs(), inputs)) {
+			fMisses.increment();
+			return null;
+		}
+		fHits.increment();
+		IncrementalErrorReporter reporter = new IncrementalErrorReporter(file);
+		reporter.addMarkers(result.markers());
+		if (PDECore.DEBUG_VALIDATION) {
+			System.out.println("Reused markers of " + file.getFullPath() + " (" + fHits + " reused, " + fMisses //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ " validated)"); //$NON-NLS-1$
+		}
+		return reporter;
+	}
+
+	/**
+	 * Remembers the markers reported by the validation of the given file. Must
+	 * be called before the markers are applied.
+	 *
+	 * @param file the validated file
+	 * @param inputs the digest of the inputs, may be <code>null</code>
+	 * @param reporter the reporter of the validation
+	 */
+	static void store(IFile file, byte[] inputs, IncrementalErrorReporter reporter) {
+		if (inputs != null) {
+			fResults.put(file.getFullPath(), new Result(inputs, reporter.getReportedMarkers()));
+		}
+	}
+
+	/**
+	 * Drops the results of the given project
+	 *
+	 * @param project the closed or deleted project
+	 */
+	static void forget(IProject project) {
+		IPath path = project.getFullPath();
+		fResults.keySet().removeIf(path::isPrefixOf);
+		fProjectGenerations.remove(project);
+	}
+
+	private static synchronized void listen() {
+		if (!fListening) {
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(event -> {
+				if (event.getResource() instanceof IProject project) {
+					forget(project);
+					fWorkspaceGeneration.incrementAndGet();
+				} else if (event.getDelta() != null) {
+					resourcesChanged(event.getDelta());
+				}
+			}, IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_DELETE | IResourceChangeEvent.PRE_BUILD
+					| IResourceChangeEvent.POST_CHANGE);
+			fListening = true;
+		}
+	}
+
+	private static AtomicLong getGeneration(IProject project) {
+		return fProjectGenerations.computeIfAbsent(project, p -> new AtomicLong());
+	}
+
+	/**
+	 * Increments the generations of the projects with changed resources and,
+	 * if a descriptor of a plug-in changed or a project was added, removed,
+	 * opened or closed, the generation of the workspace. Marker changes, like
+	 * the ones of a validation, are ignored.
+	 */
+	private static void resourcesChanged(IResourceDelta delta) {
+		for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			IProject project = (IProject) projectDelta.getResource();
+			if (projectDelta.getKind() != IResourceDelta.CHANGED
+					|| (projectDelta.getFlags() & IResourceDelta.OPEN) != 0) {
+				getGeneration(project).incrementAndGet();
+				fWorkspaceGeneration.incrementAndGet();
+				continue;
+			}
+			boolean[] changed = new boolean[2];
+			try {
+				projectDelta.accept(child -> {
+					IResource resource = child.getResource();
+					if (resource.isDerived()) {
+						return false;
+					}
+					if (resource.getType() == IResource.FILE && (child.getKind() != IResourceDelta.CHANGED
+							|| (child.getFlags() & ~(IResourceDelta.MARKERS | IResourceDelta.SYNC)) != 0)) {
+						changed[0] = true;
+						changed[1] |= isPluginDescriptor((IFile) resource);
+					}
+					return true;
+				});
+			} catch (CoreException e) {
+				changed[0] = changed[1] = true;
+			}
+			if (changed[0]) {
+				getGeneration(project).incrementAndGet();
+			}
+			if (changed[1]) {
+				fWorkspaceGeneration.incrementAndGet();
+			}
+		}
+	}
+
+	private static boolean isPluginDescriptor(IFile file) {
+		IProject project = file.getProject();
+		return file.equals(PDEProject.getManifest(project)) || file.equals(PDEProject.getPluginXml(project))
+				|| file.equals(PDEProject.getFragmentXml(project));
+	}
+
+	/**
+	 * Returns a digest of the bundles of the resolved state. It is computed
+	 * once per state and changes of the state, so reloading an unchanged
+	 * target results in the same digest.
+	 */
+	private static synchronized byte[] getStateDigest() throws NoSuchAlgorithmException {
+		State state = PDECore.getDefault().getModelManager().getState().getState();
+		if (state == fState && state.getTimeStamp() == fStateTimeStamp) {
+			return fStateDigest;
+		}
+		MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+		BundleDescription[] bundles = state.getBundles();
+		Arrays.sort(bundles, (b1, b2) -> Long.compare(b1.getBundleId(), b2.getBundleId()));
+		for (BundleDescription bundle : bundles) {
+			update(digest, bundle.getSymbolicName() + '_' + bundle.getVersion() + '@' + bundle.getLocation());
+			update(digest, Boolean.toString(bundle.isResolved()));
+			if (bundle.getCapability() != null) {
+				update(digest, String.valueOf(bundle.getCapability().getDirectives().get(DEPRECATED_DIRECTIVE)));
+			}
+			for (ExportPackageDescription export : bundle.getExportPackages()) {
+				update(digest, export.getName() + '_' + export.getVersion());
+				update(digest, String.valueOf(export.getDirective(ICoreConstants.INTERNAL_DIRECTIVE)));
+				Object friends = export.getDirective(ICoreConstants.FRIENDS_DIRECTIVE);
+				update(digest, friends instanceof String[] names ? String.join(",", names) : String.valueOf(friends)); //$NON-NLS-1$
+			}
+			if (bundle.getLocation() != null) {
+				update(digest, Long.toString(getLastModified(new File(bundle.getLocation()))));
+			}
+		}
+		fState = state;
+		fStateTimeStamp = state.getTimeStamp();
+		fStateDigest = digest.digest();
+		return fStateDigest;
+	}
+
+	/**
+	 * @return the modification time of a bundle, for a directory bundle the
+	 *         latest one of its descriptors
+	 */
+	private static long getLastModified(File location) {
+		if (!location.isDirectory()) {
+			return location.lastModified();
+		}
+		long lastModified = new File(location, ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR).lastModified();
+		lastModified = Math.max(lastModified, new File(location, ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR).lastModified());
+		return Math.max(lastModified, new File(location, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR).lastModified());
+	}
+
+	private static void updatePreferences(MessageDigest digest, IEclipsePreferences preferences)
+			throws BackingStoreException {
+		String[] keys = preferences.keys();
+		Arrays.sort(keys);
+		for (String key : keys) {
+			update(digest, key + '=' + preferences.get(key, null));
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+}
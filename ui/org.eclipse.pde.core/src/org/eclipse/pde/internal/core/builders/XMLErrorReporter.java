@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2021 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -141,6 +141,13 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		return fErrorReporter.getErrorCount();
 	}
 
+	/**
+	 * @return the reporter collecting the markers of the validated file
+	 */
+	IncrementalErrorReporter getIncrementalReporter() {
+		return fErrorReporter;
+	}
+
 	public VirtualMarker report(String message, int line, int severity, int fixId, Element element, String attrName,
 			String category) {
 		VirtualMarker marker = report(message, line, severity, fixId, category);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -124,6 +124,17 @@ public class FeatureExportOperation extends Job {
 	protected static final String FEATURE_POST_PROCESSING = "features.postProcessingSteps.properties"; //$NON-NLS-1$
 	protected static final String PLUGIN_POST_PROCESSING = "plugins.postProcessingSteps.properties"; //$NON-NLS-1$
 
+	/**
+	 * Name of the project of the script running the phases of an export
+	 */
+	public static final String EXPORT_SCRIPT_NAME = "pde.export"; //$NON-NLS-1$
+
+	/**
+	 * Assemble and package the exported configurations one after the other
+	 * instead of side by side
+	 */
+	private static final boolean SEQUENTIAL_EXPORT = Boolean.getBoolean("org.eclipse.pde.core.sequentialExport"); //$NON-NLS-1$
+
 	private static final String[] GENERIC_CONFIG = new String[] {"*", "*", "*", ""}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 	protected FeatureExportInfo fInfo;
 	private boolean isPreviewFeatureEnabled;
@@ -311,38 +322,143 @@ public class FeatureExportOperation extends Job {
 		generator.generate();
 		subMonitor.split(1);
 		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningBuildScript);
-		// compile the classes
-		runScript(featureLocation + IPath.SEPARATOR + "compile." + featureID + ".xml", new String[] {"main"}, properties, subMonitor.split(1)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-		// grab the source if needed
-		if (fInfo.exportSource && !fInfo.exportSourceBundle) {
-			runScript(getBuildScriptName(featureLocation), new String[] {"build.sources"}, properties, subMonitor.split(1)); //$NON-NLS-1$
-		}
 
-		if (publishingP2Metadata()) {
-			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_publishingMetadata);
-			runScript(getAssembleP2ScriptName(featureID, featureLocation), new String[] {"main"}, properties, subMonitor.split(2)); //$NON-NLS-1$
+		// the per configuration locations are passed to each script, user
+		// properties cannot be overridden
+		properties.remove(IXMLConstants.PROPERTY_ARCHIVE_FULLPATH);
+		properties.remove(IXMLConstants.PROPERTY_ASSEMBLY_TMP);
+
+		File scriptFile = null;
+		try {
+			scriptFile = createScriptFile("export.xml"); //$NON-NLS-1$
+			@SuppressWarnings("restriction")
+			Document doc = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
+
+			Element root = doc.createElement("project"); //$NON-NLS-1$
+			root.setAttribute("name", EXPORT_SCRIPT_NAME); //$NON-NLS-1$
+			root.setAttribute("basedir", "."); //$NON-NLS-1$ //$NON-NLS-2$
+			doc.appendChild(root);
+
+			// each phase is a target, its description is shown as progress
+			// by the ExportBuildListener
+			List<String> targets = new ArrayList<>();
+			Element compile = createPhase(doc, "compile", PDECoreMessages.FeatureExportOperation_runningBuildScript, targets); //$NON-NLS-1$
+			// compile the classes
+			compile.appendChild(createAntCall(doc, featureLocation + IPath.SEPARATOR + "compile." + featureID + ".xml", "main", null)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			// grab the source if needed
+			if (fInfo.exportSource && !fInfo.exportSourceBundle) {
+				compile.appendChild(createAntCall(doc, getBuildScriptName(featureLocation), "build.sources", null)); //$NON-NLS-1$
+			}
+
+			if (publishingP2Metadata()) {
+				Element publish = createPhase(doc, "publish", PDECoreMessages.FeatureExportOperation_publishingMetadata, targets); //$NON-NLS-1$
+				publish.appendChild(createAntCall(doc, getAssembleP2ScriptName(featureID, featureLocation), "main", null)); //$NON-NLS-1$
+
+				//metadata implies groups if we aren't exporting products
+				if (groupedConfigurations()) {
+					configs = new String[][] {{"group", "group", "group"}}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				}
+			}
 
-			//metadata implies groups if we aren't exporting products
-			if (groupedConfigurations()) {
-				configs = new String[][] {{"group", "group", "group"}}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			// the configurations are processed side by side unless they
+			// publish into the shared p2.build.repo with the shared p2 agent
+			boolean parallel = configs.length > 1 && !SEQUENTIAL_EXPORT && !publishingP2Metadata();
+			Element assemble = createConfigurations(doc, createPhase(doc, "assemble", PDECoreMessages.FeatureExportOperation_runningAssemblyScript, targets), configs.length, parallel); //$NON-NLS-1$
+			Element packager = createPhase(doc, "package", PDECoreMessages.FeatureExportOperation_runningPackagerScript, targets); //$NON-NLS-1$
+			Element packageConfigurations = createConfigurations(doc, packager, configs.length, parallel);
+			for (String[] config : configs) {
+				Map<String, String> configProperties = new LinkedHashMap<>();
+				setArchiveLocation(configProperties, config[0], config[1], config[2]);
+				if (!configProperties.containsKey(IXMLConstants.PROPERTY_ASSEMBLY_TMP)) {
+					// configurations assembled at the same time need their own scratch area
+					configProperties.put(IXMLConstants.PROPERTY_ASSEMBLY_TMP, fBuildTempLocation + "/assembly." + config[0] + '.' + config[1] + '.' + config[2]); //$NON-NLS-1$
+				}
+				assemble.appendChild(createAntCall(doc, getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), "main", configProperties)); //$NON-NLS-1$
+				packageConfigurations.appendChild(createAntCall(doc, getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, configProperties));
 			}
 
+			packager.appendChild(createAntCall(doc, getBuildScriptName(featureLocation), "gather.logs", //$NON-NLS-1$
+					Map.of("destination.temp.folder", fBuildTempLocation + "/pde.logs"))); //$NON-NLS-1$ //$NON-NLS-2$
+
+			XMLPrintHandler.writeFile(doc, scriptFile);
+			runScript(scriptFile.getAbsolutePath(), targets.toArray(String[]::new), properties, subMonitor.split(subTaskLength - 1));
+		} catch (FactoryConfigurationError | ParserConfigurationException | IOException e) {
+			throw new CoreException(Status.error(PDECoreMessages.FeatureBasedExportOperation_ProblemDuringExport, e));
+		} finally {
+			if (scriptFile != null && scriptFile.exists()) {
+				scriptFile.delete();
+			}
 		}
+	}
+
+	/**
+	 * Creates the target of a phase of the export and adds it to the targets
+	 * to run
+	 *
+	 * @param doc the driver script
+	 * @param name the name of the target
+	 * @param description the progress message of the phase
+	 * @param targets the targets to run
+	 * @return the target
+	 */
+	private Element createPhase(Document doc, String name, String description, List<String> targets) {
+		Element target = doc.createElement("target"); //$NON-NLS-1$
+		target.setAttribute("name", name); //$NON-NLS-1$
+		target.setAttribute("description", description); //$NON-NLS-1$
+		doc.getDocumentElement().appendChild(target);
+		targets.add(name);
+		return target;
+	}
 
-		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningAssemblyScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
-					properties, subMonitor.split(2));
+	/**
+	 * Creates the container of the tasks processing each configuration
+	 *
+	 * @param doc the driver script
+	 * @param target the target of the phase
+	 * @param count the number of configurations
+	 * @param parallel whether the configurations are processed side by side
+	 * @return the container
+	 */
+	private Element createConfigurations(Document doc, Element target, int count, boolean parallel) {
+		Element configurations;
+		if (parallel) {
+			configurations = doc.createElement("parallel"); //$NON-NLS-1$
+			configurations.setAttribute("threadCount", Integer.toString(Math.min(count, Runtime.getRuntime().availableProcessors()))); //$NON-NLS-1$
+			configurations.setAttribute("failonany", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+		} else {
+			configurations = doc.createElement("sequential"); //$NON-NLS-1$
 		}
+		target.appendChild(configurations);
+		return configurations;
+	}
 
-		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+	/**
+	 * Creates an <code>ant</code> task running a generated script with its own
+	 * base directory, as if it was run on its own
+	 *
+	 * @param doc the driver script
+	 * @param location the script to run
+	 * @param target the target to run, <code>null</code> for the default target
+	 * @param properties additional properties for the script, may be <code>null</code>
+	 * @return the task
+	 */
+	private Element createAntCall(Document doc, String location, String target, Map<String, String> properties) {
+		Element ant = doc.createElement("ant"); //$NON-NLS-1$
+		ant.setAttribute("antfile", location); //$NON-NLS-1$
+		if (target != null) {
+			ant.setAttribute("target", target); //$NON-NLS-1$
+		}
+		ant.setAttribute("inheritAll", "false"); //$NON-NLS-1$ //$NON-NLS-2$
+		ant.setAttribute("useNativeBasedir", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (properties != null) {
+			for (Map.Entry<String, String> entry : properties.entrySet()) {
+				Element property = doc.createElement("property"); //$NON-NLS-1$
+				property.setAttribute("name", entry.getKey()); //$NON-NLS-1$
+				property.setAttribute("value", entry.getValue()); //$NON-NLS-1$
+				ant.appendChild(property);
+			}
 		}
-		properties.put("destination.temp.folder", fBuildTempLocation + "/pde.logs"); //$NON-NLS-1$ //$NON-NLS-2$
-		runScript(getBuildScriptName(featureLocation), new String[] {"gather.logs"}, properties, subMonitor.split(2)); //$NON-NLS-1$
+		return ant;
 	}
 
 	protected boolean groupedConfigurations() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -37,12 +38,25 @@ public class SchemaRegistry {
 
 	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
 
+	/**
+	 * A compiled validator and the modification stamp of the schema it was
+	 * compiled from
+	 */
+	private record CachedValidator(long stamp, SchemaValidator validator) {
+	}
+
+	/**
+	 * Compiled validators by schema URL. A validator is replaced when its
+	 * schema is reloaded and dropped when the schema is released.
+	 */
+	private final Map<String, CachedValidator> fValidators = new HashMap<>();
+
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
 			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
+				release(fRegistry.remove(extPointID));
 			}
 			return null;
 		}
@@ -61,6 +75,41 @@ public class SchemaRegistry {
 		return desc.getSchema(true);
 	}
 
+	/**
+	 * Returns the compiled validator of the given schema, the validator is
+	 * created once per schema and shared.
+	 *
+	 * @param schema a schema returned by this registry
+	 * @return the validator of the schema
+	 */
+	public SchemaValidator getValidator(ISchema schema) {
+		URL url = schema.getURL();
+		if (url == null) {
+			return new SchemaValidator(schema);
+		}
+		ISchemaDescriptor descriptor = schema.getSchemaDescriptor();
+		long stamp = descriptor == null ? 0 : descriptor.getLastModified();
+		synchronized (fValidators) {
+			CachedValidator cached = fValidators.get(url.toExternalForm());
+			if (cached == null || cached.validator().getSchema() != schema || cached.stamp() != stamp) {
+				cached = new CachedValidator(stamp, new SchemaValidator(schema));
+				fValidators.put(url.toExternalForm(), cached);
+			}
+			return cached.validator();
+		}
+	}
+
+	/**
+	 * Drops the validator of a schema that is no longer used
+	 */
+	private void release(ISchemaDescriptor descriptor) {
+		if (descriptor != null && descriptor.getSchemaURL() != null) {
+			synchronized (fValidators) {
+				fValidators.remove(descriptor.getSchemaURL().toExternalForm());
+			}
+		}
+	}
+
 	public ISchema getIncludedSchema(ISchemaDescriptor parent, String schemaLocation) {
 		try {
 			URL url = IncludedSchemaDescriptor.computeURL(parent, schemaLocation, null);
@@ -84,6 +133,7 @@ public class SchemaRegistry {
 		if (fRegistry.containsKey(key)) {
 			desc = fRegistry.get(key);
 			if (hasSchemaChanged(desc, url)) {
+				release(desc);
 				desc = null;
 			}
 		}
@@ -184,6 +234,9 @@ public class SchemaRegistry {
 
 	public void shutdown() {
 		fRegistry.clear();
+		synchronized (fValidators) {
+			fValidators.clear();
+		}
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
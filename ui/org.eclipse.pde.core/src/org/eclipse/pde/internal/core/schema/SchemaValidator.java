@@ -0,0 +1,372 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.pde.internal.core.builders.ElementOccurrenceResult;
+import org.eclipse.pde.internal.core.ischema.IMetaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Immutable form of an extension point schema used to validate extensions.
+ * Everything the validation of an element needs from the schema is computed
+ * once: the allowed child elements, the attributes by name, the required
+ * attributes and the occurrence bounds of the child elements. Validators are
+ * created and cached by {@link SchemaRegistry#getValidator(ISchema)}; they
+ * are replaced when the schema is reloaded.
+ */
+public final class SchemaValidator {
+
+	private final ISchema fSchema;
+	private final Map<String, ElementValidator> fElements = new ConcurrentHashMap<>();
+
+	SchemaValidator(ISchema schema) {
+		fSchema = schema;
+		ISchemaElement[] elements = schema.getResolvedElements();
+		for (ISchemaElement element : elements) {
+			fElements.putIfAbsent(element.getName(), new ElementValidator(element));
+		}
+	}
+
+	/**
+	 * @return the compiled schema
+	 */
+	public ISchema getSchema() {
+		return fSchema;
+	}
+
+	/**
+	 * Returns the validator of the element with the given name, like
+	 * {@link ISchema#findElement(String)}
+	 *
+	 * @param name the name of the element
+	 * @return the validator or <code>null</code> if the schema has no such
+	 *         element
+	 */
+	public ElementValidator findElement(String name) {
+		ElementValidator validator = fElements.get(name);
+		if (validator == null) {
+			// elements of nested includes are not compiled up front
+			ISchemaElement element = fSchema.findElement(name);
+			if (element != null) {
+				validator = new ElementValidator(element);
+				ElementValidator previous = fElements.putIfAbsent(name, validator);
+				if (previous != null) {
+					validator = previous;
+				}
+			}
+		}
+		return validator;
+	}
+
+	/**
+	 * The compiled form of one element of a schema
+	 */
+	public static final class ElementValidator {
+
+		private static final ISchemaAttribute[] NO_ATTRIBUTES = new ISchemaAttribute[0];
+
+		private final ISchemaElement fElement;
+		private final boolean fComplex;
+		private final Set<String> fAllowedElements = new HashSet<>();
+		private final Map<String, ISchemaAttribute> fAttributes = new HashMap<>();
+		private final ISchemaAttribute[] fRequiredAttributes;
+		private final List<OccurrenceCheck> fMaxChecks = new ArrayList<>();
+		private final List<OccurrenceCheck> fMinChecks = new ArrayList<>();
+
+		ElementValidator(ISchemaElement element) {
+			fElement = element;
+			fComplex = element.getType() instanceof ISchemaComplexType;
+			List<ISchemaAttribute> required = new ArrayList<>();
+			if (element.getType() instanceof ISchemaComplexType complexType) {
+				ISchemaCompositor compositor = complexType.getCompositor();
+				if (compositor != null) {
+					addAllowedElements(compositor);
+					compileMax(compositor, 1);
+					compileMin(compositor, 1);
+				}
+				for (ISchemaAttribute attribute : complexType.getAttributes()) {
+					fAttributes.putIfAbsent(attribute.getName(), attribute);
+					if (attribute.getKind() == IMetaAttribute.JAVA) {
+						fAllowedElements.add(attribute.getName());
+					}
+					if (attribute.getUse() == ISchemaAttribute.REQUIRED) {
+						required.add(attribute);
+					}
+				}
+			}
+			fRequiredAttributes = required.isEmpty() ? NO_ATTRIBUTES : required.toArray(NO_ATTRIBUTES);
+		}
+
+		/**
+		 * @return the schema element
+		 */
+		public ISchemaElement getSchemaElement() {
+			return fElement;
+		}
+
+		/**
+		 * @return <code>true</code> if the element has a complex type
+		 */
+		public boolean isComplex() {
+			return fComplex;
+		}
+
+		/**
+		 * Returns whether the given name is allowed as the name of a child
+		 * element: the name of a referenced element or of a java attribute
+		 *
+		 * @param name the name of the child element
+		 * @return <code>true</code> if the child is allowed
+		 */
+		public boolean isAllowedElement(String name) {
+			return fAllowedElements.contains(name);
+		}
+
+		/**
+		 * @param name the name of the attribute
+		 * @return the attribute or <code>null</code> if the element has no
+		 *         such attribute
+		 */
+		public ISchemaAttribute getAttribute(String name) {
+			return fAttributes.get(name);
+		}
+
+		/**
+		 * @return the required attributes of the element
+		 */
+		public ISchemaAttribute[] getRequiredAttributes() {
+			return fRequiredAttributes;
+		}
+
+		/**
+		 * Returns the child elements of the given element that occur more often
+		 * than allowed by the compositors of its schema element
+		 *
+		 * @param element an element described by this validator
+		 * @param siblings the number of children of the element by name, see
+		 *            {@link #countChildren(Element)}
+		 * @return the violations
+		 */
+		public List<ElementOccurrenceResult> findMaxOccurrenceViolations(Element element, Map<String, Integer> siblings) {
+			return findViolations(element, siblings, fMaxChecks, true);
+		}
+
+		/**
+		 * Returns the child elements of the given element that occur less often
+		 * than required by the compositors of its schema element
+		 *
+		 * @param element an element described by this validator
+		 * @param siblings the number of children of the element by name, see
+		 *            {@link #countChildren(Element)}
+		 * @return the violations
+		 */
+		public List<ElementOccurrenceResult> findMinOccurrenceViolations(Element element, Map<String, Integer> siblings) {
+			return findViolations(element, siblings, fMinChecks, false);
+		}
+
+		/**
+		 * Counts the child elements of the given element by name
+		 *
+		 * @param element the element
+		 * @return the number of children by name
+		 */
+		public static Map<String, Integer> countChildren(Element element) {
+			Map<String, Integer> counts = new HashMap<>();
+			NodeList children = element.getChildNodes();
+			for (int i = 0; i < children.getLength(); i++) {
+				Node child = children.item(i);
+				if (child.getNodeType() == Node.ELEMENT_NODE) {
+					counts.merge(child.getNodeName(), 1, Integer::sum);
+				}
+			}
+			return counts;
+		}
+
+		private List<ElementOccurrenceResult> findViolations(Element element, Map<String, Integer> counts,
+				List<OccurrenceCheck> checks, boolean max) {
+			List<ElementOccurrenceResult> results = new ArrayList<>(0);
+			if (checks.isEmpty()) {
+				return results;
+			}
+			// choices adjust the counts of their children, work on a copy
+			Map<String, Integer> siblings = new HashMap<>(counts);
+			for (OccurrenceCheck check : checks) {
+				if (check.choice() != null) {
+					adjustChoice(check, siblings);
+					continue;
+				}
+				String name = check.element().getName();
+				int occurrences = siblings.getOrDefault(name, 0);
+				if (max) {
+					if (occurrences > check.bound()) {
+						Element child = findLastChild(element, name);
+						if (child != null) {
+							results.add(new ElementOccurrenceResult(child, check.element(), occurrences, check.bound()));
+						}
+					}
+				} else if (occurrences < check.bound()) {
+					results.add(new ElementOccurrenceResult(null, check.element(), occurrences, check.bound()));
+				}
+			}
+			return results;
+		}
+
+		private static void adjustChoice(OccurrenceCheck check, Map<String, Integer> siblings) {
+			int count = check.bound();
+			if (check.simple()) {
+				// each occurrence of a simple choice counts for all its elements
+				count = 0;
+				for (String name : check.choice()) {
+					Integer occurrences = siblings.get(name);
+					if (occurrences != null && count < Integer.MAX_VALUE) {
+						count = count + occurrences.intValue();
+					}
+				}
+			}
+			for (String name : check.choice()) {
+				siblings.put(name, Integer.valueOf(count));
+			}
+		}
+
+		private static Element findLastChild(Element element, String name) {
+			NodeList children = element.getChildNodes();
+			for (int i = children.getLength() - 1; i >= 0; i--) {
+				Node child = children.item(i);
+				if (child.getNodeType() == Node.ELEMENT_NODE && child.getNodeName().equals(name)) {
+					return (Element) child;
+				}
+			}
+			return null;
+		}
+
+		private void addAllowedElements(ISchemaCompositor compositor) {
+			for (ISchemaObject child : compositor.getChildren()) {
+				if (child instanceof ISchemaObjectReference ref) {
+					ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
+					if (refElement != null) {
+						fAllowedElements.add(refElement.getName());
+					}
+				} else if (child instanceof ISchemaCompositor childCompositor) {
+					addAllowedElements(childCompositor);
+				}
+			}
+		}
+
+		// The occurrence checks are flattened in the order of a depth first
+		// walk of the compositors, the occurrences allowed for an element are
+		// multiplied by those of its enclosing compositors
+
+		private void compileMax(ISchemaCompositor compositor, int multiplicity) {
+			if (compositor.getKind() != ISchemaCompositor.CHOICE && compositor.getKind() != ISchemaCompositor.SEQUENCE) {
+				return;
+			}
+			if (multiplicity < Integer.MAX_VALUE) {
+				multiplicity = compositor.getMaxOccurs() * multiplicity;
+			}
+			if (compositor.getKind() == ISchemaCompositor.CHOICE) {
+				fMaxChecks.add(compileChoice(compositor, Integer.MIN_VALUE));
+			}
+			ISchemaObject[] children = compositor.getChildren();
+			for (int i = 0; i < compositor.getChildCount(); i++) {
+				if (children[i] instanceof ISchemaElement element) {
+					int bound = multiplicity;
+					if (bound < Integer.MAX_VALUE) {
+						bound = element.getMaxOccurs() * bound;
+					}
+					fMaxChecks.add(new OccurrenceCheck(element, bound, null, false));
+				} else if (children[i] instanceof ISchemaCompositor child) {
+					compileMax(child, multiplicity);
+				}
+			}
+		}
+
+		private void compileMin(ISchemaCompositor compositor, int multiplicity) {
+			if (compositor.getKind() != ISchemaCompositor.CHOICE && compositor.getKind() != ISchemaCompositor.SEQUENCE) {
+				return;
+			}
+			if (multiplicity < Integer.MAX_VALUE) {
+				multiplicity = compositor.getMinOccurs() * multiplicity;
+			}
+			if (compositor.getKind() == ISchemaCompositor.CHOICE) {
+				fMinChecks.add(compileChoice(compositor, Integer.MAX_VALUE));
+			}
+			ISchemaObject[] children = compositor.getChildren();
+			for (int i = 0; i < compositor.getChildCount(); i++) {
+				if (children[i] instanceof ISchemaElement element) {
+					int bound = multiplicity;
+					if (bound < Integer.MAX_VALUE) {
+						bound = element.getMinOccurs() * bound;
+					}
+					fMinChecks.add(new OccurrenceCheck(element, bound, null, false));
+				} else if (children[i] instanceof ISchemaCompositor child) {
+					compileMin(child, multiplicity);
+				}
+			}
+		}
+
+		/**
+		 * A choice adjusts the counts of its elements before they are checked:
+		 * a simple choice (elements only) sets them to their sum, a complex
+		 * choice excludes its elements from the checks with the given count.
+		 */
+		private static OccurrenceCheck compileChoice(ISchemaCompositor compositor, int excluded) {
+			List<String> names = new ArrayList<>();
+			boolean simple = true;
+			ISchemaObject[] children = compositor.getChildren();
+			for (int i = 0; i < compositor.getChildCount(); i++) {
+				if (children[i] instanceof ISchemaCompositor) {
+					simple = false;
+				}
+			}
+			collectChoiceElements(compositor, names);
+			return new OccurrenceCheck(null, excluded, names.toArray(String[]::new), simple);
+		}
+
+		private static void collectChoiceElements(ISchemaCompositor compositor, List<String> names) {
+			ISchemaObject[] children = compositor.getChildren();
+			for (int i = 0; i < compositor.getChildCount(); i++) {
+				if (children[i] instanceof ISchemaElement) {
+					names.add(children[i].getName());
+				} else if (children[i] instanceof ISchemaCompositor child) {
+					collectChoiceElements(child, names);
+				}
+			}
+		}
+	}
+
+	/**
+	 * One step of an occurrence check: either the check of the occurrences of
+	 * an element against a bound, or the adjustment of the counts of the
+	 * elements of a choice.
+	 */
+	private record OccurrenceCheck(ISchemaElement element, int bound, String[] choice, boolean simple) {
+	}
+}
@@ -0,0 +1,350 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPlugin;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.FeatureModelManager;
+import org.eclipse.pde.internal.core.IExtensionDeltaEvent;
+import org.eclipse.pde.internal.core.IExtensionDeltaListener;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+import org.eclipse.pde.internal.core.util.PatternConstructor;
+
+/**
+ * Inverted index of the ids declared and referenced by the plug-in and feature
+ * models, used by {@link PluginSearchOperation} to visit only the models that
+ * may match a search instead of every model of the workspace and the target.
+ * <p>
+ * The index is built on first use and kept up to date from the deltas of the
+ * plug-in and feature model managers and the extension deltas of workspace
+ * plug-ins, which are not part of the plug-in model deltas when only the
+ * <code>plugin.xml</code> changes. Deltas are only recorded when they are
+ * fired, the affected models are indexed again by the next search. Ids are
+ * sorted ignoring case, so the literal prefix of a search pattern selects a
+ * range of ids and only the ids in that range are matched against the
+ * pattern. The returned models are candidates, the search still matches the
+ * elements of each candidate.
+ * </p>
+ */
+final class PluginSearchIndex implements IPluginModelListener, IExtensionDeltaListener, IFeatureModelListener {
+
+	private enum Kind {
+		/** ids of plug-ins */
+		PLUGIN,
+		/** ids of fragments */
+		FRAGMENT,
+		/** ids of host plug-ins and of required plug-ins */
+		PLUGIN_REFERENCE,
+		/** full ids of extension points */
+		EXTENSION_POINT,
+		/** ids of extended extension points */
+		EXTENSION,
+		/** ids of plug-ins included by features */
+		FEATURE_PLUGIN
+	}
+
+	/** Id a model is indexed with */
+	private record Key(Kind kind, String id) {
+	}
+
+	private static PluginSearchIndex fDefault;
+
+	private final PluginModelManager fPluginManager;
+	private final FeatureModelManager fFeatureManager;
+
+	private final Map<Kind, NavigableMap<String, Set<Object>>> fIndex = new EnumMap<>(Kind.class);
+	/** the keys each model is indexed with, to remove them again */
+	private final Map<Object, List<Key>> fKeys = new IdentityHashMap<>();
+	/** the models indexed per model entry id */
+	private final Map<String, List<IPluginModelBase>> fEntries = new HashMap<>();
+
+	private boolean fInitialized;
+	// recorded without locking the index, listeners are notified while the
+	// model managers are locked
+	private final Set<String> fChangedEntries = ConcurrentHashMap.newKeySet();
+	/** changed feature models, mapped to whether they still exist */
+	private final Map<IFeatureModel, Boolean> fChangedFeatures = new ConcurrentHashMap<>();
+
+	private PluginSearchIndex(PluginModelManager pluginManager, FeatureModelManager featureManager) {
+		fPluginManager = pluginManager;
+		fFeatureManager = featureManager;
+		for (Kind kind : Kind.values()) {
+			fIndex.put(kind, new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+		}
+	}
+
+	/**
+	 * @return the index of the current model managers
+	 */
+	static synchronized PluginSearchIndex getDefault() {
+		PluginModelManager pluginManager = PDECore.getDefault().getModelManager();
+		FeatureModelManager featureManager = PDECore.getDefault().getFeatureModelManager();
+		if (fDefault == null || fDefault.fPluginManager != pluginManager
+				|| fDefault.fFeatureManager != featureManager) {
+			if (fDefault != null) {
+				fDefault.fPluginManager.removePluginModelListener(fDefault);
+				fDefault.fPluginManager.removeExtensionDeltaListener(fDefault);
+				fDefault.fFeatureManager.removeFeatureModelListener(fDefault);
+			}
+			fDefault = new PluginSearchIndex(pluginManager, featureManager);
+			pluginManager.addPluginModelListener(fDefault);
+			pluginManager.addExtensionDeltaListener(fDefault);
+			featureManager.addFeatureModelListener(fDefault);
+		}
+		return fDefault;
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		for (ModelEntry entry : delta.getAddedEntries()) {
+			fChangedEntries.add(entry.getId());
+		}
+		for (ModelEntry entry : delta.getRemovedEntries()) {
+			fChangedEntries.add(entry.getId());
+		}
+		for (ModelEntry entry : delta.getChangedEntries()) {
+			fChangedEntries.add(entry.getId());
+		}
+	}
+
+	@Override
+	public void extensionsChanged(IExtensionDeltaEvent event) {
+		addChangedModels(event.getAddedModels());
+		addChangedModels(event.getChangedModels());
+		addChangedModels(event.getRemovedModels());
+	}
+
+	private void addChangedModels(IPluginModelBase[] models) {
+		for (IPluginModelBase model : models) {
+			IPluginBase pluginBase = model.getPluginBase();
+			if (pluginBase != null && pluginBase.getId() != null) {
+				fChangedEntries.add(pluginBase.getId());
+			}
+		}
+	}
+
+	@Override
+	public void modelsChanged(IFeatureModelDelta delta) {
+		for (IFeatureModel model : delta.getRemoved()) {
+			fChangedFeatures.put(model, Boolean.FALSE);
+		}
+		for (IFeatureModel model : delta.getAdded()) {
+			fChangedFeatures.put(model, Boolean.TRUE);
+		}
+		for (IFeatureModel model : delta.getChanged()) {
+			fChangedFeatures.put(model, Boolean.TRUE);
+		}
+	}
+
+	/**
+	 * Returns the plug-in and feature models that may contain a match of the
+	 * given search.
+	 *
+	 * @param input the search
+	 * @return the candidate models, compared by identity and in no particular
+	 *         order
+	 */
+	synchronized Set<Object> findCandidates(PluginSearchInput input) {
+		update();
+		Set<Object> result = Collections.newSetFromMap(new IdentityHashMap<>());
+		String searchString = input.getSearchString();
+		if (searchString == null) {
+			return result;
+		}
+		// case insensitive, the index does not distinguish ids differing in case
+		Pattern pattern = PatternConstructor.createPattern(searchString, false);
+		boolean declarations = input.getSearchLimit() != PluginSearchInput.LIMIT_REFERENCES;
+		boolean references = input.getSearchLimit() != PluginSearchInput.LIMIT_DECLARATIONS;
+		switch (input.getSearchElement()) {
+			case PluginSearchInput.ELEMENT_PLUGIN :
+				if (declarations) {
+					find(Kind.PLUGIN, searchString, pattern, result);
+				}
+				if (references) {
+					find(Kind.PLUGIN_REFERENCE, searchString, pattern, result);
+					find(Kind.FEATURE_PLUGIN, searchString, pattern, result);
+				}
+				break;
+			case PluginSearchInput.ELEMENT_FRAGMENT :
+				find(Kind.FRAGMENT, searchString, pattern, result);
+				break;
+			case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+				if (declarations) {
+					find(Kind.EXTENSION_POINT, searchString, pattern, result);
+				}
+				if (references) {
+					find(Kind.EXTENSION, searchString, pattern, result);
+				}
+				break;
+		}
+		return result;
+	}
+
+	private void find(Kind kind, String searchString, Pattern pattern, Set<Object> result) {
+		String prefix = getLiteralPrefix(searchString);
+		NavigableMap<String, Set<Object>> ids = fIndex.get(kind);
+		NavigableMap<String, Set<Object>> range = prefix.isEmpty() ? ids : ids.tailMap(prefix, true);
+		for (Map.Entry<String, Set<Object>> entry : range.entrySet()) {
+			String id = entry.getKey();
+			if (!id.regionMatches(true, 0, prefix, 0, prefix.length())) {
+				break;
+			}
+			if (pattern.matcher(id).matches()) {
+				result.addAll(entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Returns the part of a search string before its first wildcard
+	 */
+	private static String getLiteralPrefix(String searchString) {
+		for (int i = 0; i < searchString.length(); i++) {
+			char c = searchString.charAt(i);
+			if (c == '*' || c == '?' || c == '\\') {
+				return searchString.substring(0, i);
+			}
+		}
+		return searchString;
+	}
+
+	private void update() {
+		if (!fInitialized) {
+			// changes recorded from now on are applied by the next search
+			fChangedEntries.clear();
+			fChangedFeatures.clear();
+			for (IPluginModelBase model : PluginRegistry.getAllModels()) {
+				String id = model.getPluginBase().getId();
+				if (id != null) {
+					fEntries.computeIfAbsent(id, i -> new ArrayList<>()).add(model);
+				}
+				add(model);
+			}
+			for (IFeatureModel model : fFeatureManager.getModels()) {
+				add(model);
+			}
+			fInitialized = true;
+			return;
+		}
+		for (Iterator<String> it = fChangedEntries.iterator(); it.hasNext();) {
+			String id = it.next();
+			it.remove();
+			List<IPluginModelBase> previous = fEntries.remove(id);
+			if (previous != null) {
+				previous.forEach(this::remove);
+			}
+			ModelEntry entry = fPluginManager.findEntry(id);
+			if (entry != null) {
+				List<IPluginModelBase> models = new ArrayList<>();
+				Collections.addAll(models, entry.getWorkspaceModels());
+				Collections.addAll(models, entry.getExternalModels());
+				models.forEach(this::add);
+				fEntries.put(id, models);
+			}
+		}
+		for (Iterator<Map.Entry<IFeatureModel, Boolean>> it = fChangedFeatures.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<IFeatureModel, Boolean> change = it.next();
+			it.remove();
+			remove(change.getKey());
+			if (change.getValue()) {
+				add(change.getKey());
+			}
+		}
+	}
+
+	private void add(IPluginModelBase model) {
+		IPluginBase pluginBase = model.getPluginBase();
+		if (pluginBase instanceof IPlugin) {
+			add(model, Kind.PLUGIN, pluginBase.getId());
+		} else if (pluginBase instanceof IFragment fragment) {
+			add(model, Kind.FRAGMENT, fragment.getId());
+			add(model, Kind.PLUGIN_REFERENCE, fragment.getPluginId());
+		}
+		for (IPluginImport pluginImport : pluginBase.getImports()) {
+			add(model, Kind.PLUGIN_REFERENCE, pluginImport.getId());
+		}
+		for (IPluginExtensionPoint extensionPoint : pluginBase.getExtensionPoints()) {
+			add(model, Kind.EXTENSION_POINT, extensionPoint.getFullId());
+		}
+		for (IPluginExtension extension : pluginBase.getExtensions()) {
+			add(model, Kind.EXTENSION, extension.getPoint());
+		}
+	}
+
+	private void add(IFeatureModel model) {
+		IFeature feature = model.getFeature();
+		if (feature != null) {
+			for (IFeaturePlugin plugin : feature.getPlugins()) {
+				add(model, Kind.FEATURE_PLUGIN, plugin.getId());
+			}
+		}
+	}
+
+	private void add(Object model, Kind kind, String id) {
+		if (id == null) {
+			return;
+		}
+		Set<Object> models = fIndex.get(kind).computeIfAbsent(id,
+				i -> Collections.newSetFromMap(new IdentityHashMap<>()));
+		if (models.add(model)) {
+			fKeys.computeIfAbsent(model, m -> new ArrayList<>()).add(new Key(kind, id));
+		}
+	}
+
+	private void remove(Object model) {
+		List<Key> keys = fKeys.remove(model);
+		if (keys == null) {
+			return;
+		}
+		for (Key key : keys) {
+			NavigableMap<String, Set<Object>> ids = fIndex.get(key.kind());
+			Set<Object> models = ids.get(key.id());
+			if (models != null) {
+				models.remove(model);
+				if (models.isEmpty()) {
+					ids.remove(key.id());
+				}
+			}
+		}
+	}
+}
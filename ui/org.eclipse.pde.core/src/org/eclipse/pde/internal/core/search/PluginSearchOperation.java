@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@
 package org.eclipse.pde.internal.core.search;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -44,8 +46,13 @@ public class PluginSearchOperation {
 	}
 
 	public void execute(IProgressMonitor monitor) {
-		IPluginModelBase[] plugins = fInput.getSearchScope().getMatchingModels();
-		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
+		// only the models of the scope that may match are visited, in the
+		// order of the scope
+		Set<Object> candidates = PluginSearchIndex.getDefault().findCandidates(fInput);
+		IPluginModelBase[] plugins = Arrays.stream(fInput.getSearchScope().getMatchingModels())
+				.filter(candidates::contains).toArray(IPluginModelBase[]::new);
+		IFeatureModel[] features = Arrays.stream(fInput.getSearchScope().getMatchingFeatureModels())
+				.filter(candidates::contains).toArray(IFeatureModel[]::new);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
 
 		for (IPluginModelBase candidate : plugins) {
@@ -0,0 +1,406 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.equinox.p2.core.ProvisionException;
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.repository.ICompositeRepository;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRepositoryManager;
+import org.eclipse.equinox.p2.repository.artifact.IFileArtifactRepository;
+import org.eclipse.equinox.p2.repository.artifact.spi.ArtifactDescriptor;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Places the artifacts of the units about to be installed into the bundle
+ * pool before the engine runs, when they are available as plain files in a
+ * local artifact repository. The collect phase of the engine then finds them
+ * in the pool and only fetches the remaining artifacts.
+ * <p>
+ * Artifacts are placed by a bounded number of shared workers. Artifacts of
+ * local repositories on the same file store as the pool are hard linked into
+ * the pool, all others are copied. Artifacts of a p2 repository are not
+ * modified in place, so the linked files do not change. Copies can be enforced
+ * with <code>-Dorg.eclipse.pde.core.copyBundlePoolArtifacts=true</code>. Each
+ * artifact is verified against the
+ * checksum of its descriptor and moved into place atomically before the
+ * descriptors are added to the pool, so a failed run never leaves partial
+ * artifacts behind. On cancellation the artifacts not started yet are skipped,
+ * the ones already placed are still added to the pool. This can be disabled
+ * with <code>-Dorg.eclipse.pde.core.disableParallelMaterialization=true</code>.
+ * </p>
+ */
+public final class BundlePoolMaterializer {
+
+	private static final boolean DISABLED = Boolean.getBoolean("org.eclipse.pde.core.disableParallelMaterialization"); //$NON-NLS-1$
+
+	private static final boolean COPY = Boolean.getBoolean("org.eclipse.pde.core.copyBundlePoolArtifacts"); //$NON-NLS-1$
+
+	private static final String PROP_ARTIFACT_REFERENCE = "artifact.reference"; //$NON-NLS-1$
+	private static final String PROP_ARTIFACT_FOLDER = "artifact.folder"; //$NON-NLS-1$
+	private static final String PROP_FORMAT = "format"; //$NON-NLS-1$
+	private static final String PROP_CHECKSUM_PREFIX = "download.checksum."; //$NON-NLS-1$
+	private static final String PROP_LEGACY_MD5 = "download.md5"; //$NON-NLS-1$
+	/** the checksums verified, strongest first */
+	private static final String[] CHECKSUMS = { "sha-512", "sha-256", "md5" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	/** the folders of the default mapping rules of the bundle pool */
+	private static final Map<String, String> FOLDERS = Map.of( //
+			"osgi.bundle", "plugins", //$NON-NLS-1$ //$NON-NLS-2$
+			"org.eclipse.update.feature", "features", //$NON-NLS-1$ //$NON-NLS-2$
+			"binary", "binary"); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final int MAX_WORKERS = 4;
+
+	private static ExecutorService fgWorkers;
+
+	private record Artifact(IArtifactDescriptor descriptor, File source, Path target) {
+	}
+
+	private BundlePoolMaterializer() {
+	}
+
+	/**
+	 * Places the artifacts of the given units that are missing from the bundle
+	 * pool and available in one of the given local artifact repositories into
+	 * the pool. Artifacts that can not be placed are left to the engine.
+	 *
+	 * @param units the units to be installed
+	 * @param repositories the artifact repositories of the target
+	 * @param monitor the progress monitor
+	 * @throws OperationCanceledException if the monitor was cancelled
+	 */
+	public static void materialize(Collection<IInstallableUnit> units, Collection<URI> repositories,
+			IProgressMonitor monitor) {
+		if (DISABLED || units.isEmpty()) {
+			return;
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.BundlePoolMaterializer_materializingArtifacts, 100);
+		IFileArtifactRepository pool;
+		try {
+			pool = P2TargetUtils.getBundlePool();
+		} catch (CoreException e) {
+			// the engine reports it
+			return;
+		}
+		Set<IArtifactKey> missing = new LinkedHashSet<>();
+		for (IInstallableUnit unit : units) {
+			for (IArtifactKey key : unit.getArtifacts()) {
+				if (!pool.contains(key)) {
+					missing.add(key);
+				}
+			}
+		}
+		if (missing.isEmpty()) {
+			return;
+		}
+		List<IFileArtifactRepository> sources = loadLocalRepositories(repositories, subMonitor.split(10));
+		if (sources.isEmpty()) {
+			return;
+		}
+		File poolLocation = P2TargetUtils.BUNDLE_POOL.toFile();
+		List<Artifact> artifacts = new ArrayList<>();
+		for (IArtifactKey key : missing) {
+			Artifact artifact = findArtifact(key, sources, poolLocation);
+			if (artifact != null) {
+				artifacts.add(artifact);
+			}
+		}
+		if (artifacts.isEmpty()) {
+			return;
+		}
+
+		SubMonitor copyMonitor = subMonitor.split(85).setWorkRemaining(artifacts.size());
+		ExecutorService workers = getWorkers();
+		Map<Artifact, Future<Boolean>> tasks = new LinkedHashMap<>();
+		for (Artifact artifact : artifacts) {
+			tasks.put(artifact, workers.submit(() -> place(artifact, copyMonitor)));
+		}
+		Map<IArtifactDescriptor, Path> placed = new LinkedHashMap<>();
+		OperationCanceledException cancelled = null;
+		// every artifact placed is added to the pool, also after a cancellation
+		for (Map.Entry<Artifact, Future<Boolean>> task : tasks.entrySet()) {
+			if (isPlaced(task.getValue())) {
+				ArtifactDescriptor descriptor = new ArtifactDescriptor(task.getKey().descriptor());
+				descriptor.setProperty(PROP_ARTIFACT_REFERENCE, null);
+				placed.put(descriptor, task.getKey().target());
+			}
+			if (cancelled == null) {
+				try {
+					copyMonitor.split(1);
+				} catch (OperationCanceledException e) {
+					cancelled = e;
+					// the artifacts not started yet are left to the engine
+					tasks.values().forEach(t -> t.cancel(false));
+				}
+			}
+		}
+		if (placed.isEmpty()) {
+			if (cancelled != null) {
+				throw cancelled;
+			}
+			return;
+		}
+		pool.addDescriptors(placed.keySet().toArray(IArtifactDescriptor[]::new), cancelled == null ? subMonitor.split(5) : null);
+		// the pool must find the artifacts where they were placed
+		placed.forEach((descriptor, target) -> {
+			File file = pool.getArtifactFile(descriptor.getArtifactKey());
+			if (file == null || !file.toPath().toAbsolutePath().normalize().equals(target.toAbsolutePath().normalize())) {
+				pool.removeDescriptor(descriptor.getArtifactKey(), null);
+				try {
+					Files.deleteIfExists(target);
+				} catch (IOException e) {
+					// left for the garbage collector of the pool
+				}
+			}
+		});
+		if (PDECore.DEBUG_TARGET_PROFILE) {
+			System.out.println("Placed " + placed.size() + " of " + missing.size() + " artifacts into the bundle pool"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		if (cancelled != null) {
+			throw cancelled;
+		}
+	}
+
+	/**
+	 * Waits for the given task, a cancelled task has not placed its artifact
+	 *
+	 * @return whether the artifact was placed
+	 */
+	private static boolean isPlaced(Future<Boolean> task) {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					return task.get();
+				} catch (InterruptedException e) {
+					// the artifact may be moved into place even so
+					interrupted = true;
+				}
+			}
+		} catch (CancellationException | ExecutionException e) {
+			return false;
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * @return the executor shared by all materializations, its threads are
+	 *         discarded when idle
+	 */
+	private static synchronized ExecutorService getWorkers() {
+		if (fgWorkers == null) {
+			int workers = Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors());
+			AtomicInteger count = new AtomicInteger();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(workers, workers, 10, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), r -> {
+						Thread thread = new Thread(r, "Bundle Pool Materializer-" + count.incrementAndGet()); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			fgWorkers = executor;
+		}
+		return fgWorkers;
+	}
+
+	private static List<IFileArtifactRepository> loadLocalRepositories(Collection<URI> repositories,
+			IProgressMonitor monitor) {
+		IArtifactRepositoryManager manager;
+		try {
+			manager = P2TargetUtils.getArtifactRepositoryManager();
+		} catch (CoreException e) {
+			return List.of();
+		}
+		List<IFileArtifactRepository> result = new ArrayList<>();
+		Set<URI> seen = new LinkedHashSet<>();
+		List<URI> pending = new ArrayList<>(repositories);
+		SubMonitor subMonitor = SubMonitor.convert(monitor);
+		while (!pending.isEmpty()) {
+			URI location = pending.remove(0);
+			if (!"file".equals(location.getScheme()) || !seen.add(location)) { //$NON-NLS-1$
+				continue;
+			}
+			subMonitor.setWorkRemaining(pending.size() + 1);
+			try {
+				IArtifactRepository repository = manager.loadRepository(location, subMonitor.split(1));
+				if (repository instanceof IFileArtifactRepository fileRepository) {
+					result.add(fileRepository);
+				} else if (repository instanceof ICompositeRepository<?> composite) {
+					pending.addAll(composite.getChildren());
+				}
+			} catch (ProvisionException e) {
+				// the engine reports it
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the canonical file of the artifact in one of the repositories or
+	 *         <code>null</code> if it is not available as a plain file
+	 */
+	private static Artifact findArtifact(IArtifactKey key, List<IFileArtifactRepository> repositories,
+			File poolLocation) {
+		String folder = FOLDERS.get(key.getClassifier());
+		if (folder == null) {
+			return null;
+		}
+		String name = key.getId() + '_' + key.getVersion() + ("binary".equals(folder) ? "" : ".jar"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		Path target = new File(new File(poolLocation, folder), name).toPath();
+		for (IFileArtifactRepository repository : repositories) {
+			for (IArtifactDescriptor descriptor : repository.getArtifactDescriptors(key)) {
+				if (descriptor.getProcessingSteps().length > 0 || descriptor.getProperty(PROP_FORMAT) != null
+						|| Boolean.parseBoolean(descriptor.getProperty(PROP_ARTIFACT_FOLDER))) {
+					continue;
+				}
+				File file = repository.getArtifactFile(descriptor);
+				if (file != null && file.isFile()) {
+					return new Artifact(descriptor, file, target);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Links or copies the artifact next to its place in the pool, verifies it
+	 * and moves it into place.
+	 *
+	 * @return whether the artifact was placed
+	 */
+	private static boolean place(Artifact artifact, IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			return false;
+		}
+		Path tmp = null;
+		try {
+			Path directory = artifact.target().getParent();
+			Files.createDirectories(directory);
+			tmp = Files.createTempFile(directory, artifact.descriptor().getArtifactKey().getId(), ".tmp"); //$NON-NLS-1$
+			Files.delete(tmp);
+			Path source = artifact.source().toPath();
+			if (COPY || !isSameFileStore(source, directory) || !link(tmp, source)) {
+				Files.copy(source, tmp);
+			}
+			if (!verify(artifact.descriptor(), tmp)) {
+				// the engine collects it and reports the mismatch
+				if (PDECore.DEBUG_TARGET_PROFILE) {
+					System.out.println("Checksum mismatch for " + artifact.source()); //$NON-NLS-1$
+				}
+				return false;
+			}
+			Files.move(tmp, artifact.target(), StandardCopyOption.ATOMIC_MOVE);
+			tmp = null;
+			return true;
+		} catch (IOException e) {
+			if (PDECore.DEBUG_TARGET_PROFILE) {
+				System.out.println("Could not place " + artifact.source() + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return false;
+		} finally {
+			if (tmp != null) {
+				try {
+					Files.deleteIfExists(tmp);
+				} catch (IOException e) {
+					// left for the garbage collector of the pool
+				}
+			}
+		}
+	}
+
+	private static boolean isSameFileStore(Path source, Path directory) {
+		try {
+			return Files.getFileStore(source).equals(Files.getFileStore(directory));
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static boolean link(Path link, Path source) {
+		try {
+			Files.createLink(link, source);
+			return true;
+		} catch (IOException | UnsupportedOperationException e) {
+			// another file system or no support for links
+			return false;
+		}
+	}
+
+	/**
+	 * @return whether the file matches the strongest checksum of the
+	 *         descriptor, or the descriptor has no known checksum
+	 */
+	private static boolean verify(IArtifactDescriptor descriptor, Path file) throws IOException {
+		for (String algorithm : CHECKSUMS) {
+			String expected = descriptor.getProperty(PROP_CHECKSUM_PREFIX + algorithm);
+			if (expected == null && "md5".equals(algorithm)) { //$NON-NLS-1$
+				expected = descriptor.getProperty(PROP_LEGACY_MD5);
+			}
+			if (expected == null) {
+				continue;
+			}
+			MessageDigest digest;
+			try {
+				digest = MessageDigest.getInstance(algorithm.toUpperCase(Locale.ROOT));
+			} catch (NoSuchAlgorithmException e) {
+				continue;
+			}
+			try (InputStream input = Files.newInputStream(file)) {
+				byte[] buffer = new byte[64 * 1024];
+				for (int read; (read = input.read(buffer)) != -1;) {
+					digest.update(buffer, 0, read);
+				}
+			}
+			return HexFormat.of().formatHex(digest.digest()).equalsIgnoreCase(expected.trim());
+		}
+		return true;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -69,6 +69,12 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 		return TYPE;
 	}
 
+	@Override
+	public boolean isConcurrentResolutionSupported() {
+		// the bundles of a directory are read independently of other locations
+		return true;
+	}
+
 	@Override
 	protected TargetBundle[] resolveBundles(ITargetDefinition definition, IProgressMonitor monitor) throws CoreException {
 		File dir = getDirectory();
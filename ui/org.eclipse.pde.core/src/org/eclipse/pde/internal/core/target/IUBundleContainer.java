@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2024 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -511,7 +511,8 @@ public class IUBundleContainer extends AbstractBundleContainer {
 				}
 			}
 			if (file != null) {
-				TargetBundle bundle = new TargetBundle(file);
+				// the synchronizer reuses the bundles read by former resolutions
+				TargetBundle bundle = fSynchronizer != null ? fSynchronizer.getTargetBundle(file) : new TargetBundle(file);
 				bundles.put(bundle.getBundleInfo(), bundle);
 			}
 		}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.File;
+import java.lang.ref.SoftReference;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.equinox.internal.p2.director.QueryableArray;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.query.IQueryable;
+import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.ICompositeRepository;
+import org.eclipse.equinox.p2.repository.IRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Indexes the installable units of the metadata repositories of IU locations,
+ * so the queries of the slicer, the planner and the lookup of the root units
+ * of the locations are answered from id and capability indexes instead of
+ * scanning every unit of every repository for each query.
+ * <p>
+ * An index is built once for a set of repositories and reused by every
+ * resolution using the same repositories until one of them changes. The
+ * repositories of a local file system location are considered changed when
+ * the stamp of their <code>content</code>, <code>compositeContent</code> or
+ * <code>p2.index</code> files changes, which also makes the repository manager
+ * reload them. Other repositories are considered changed when the repository
+ * manager loads them again or their timestamp property changes. The indexes
+ * are held softly and can be disabled with
+ * <code>-Dorg.eclipse.pde.core.disableMetadataIndex=true</code>.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+public final class MetadataIndex {
+
+	private static final boolean DISABLED = Boolean.getBoolean("org.eclipse.pde.core.disableMetadataIndex"); //$NON-NLS-1$
+
+	private static final String[] REPOSITORY_FILES = { "content.jar", "content.xml", "content.xml.xz", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"compositeContent.jar", "compositeContent.xml", "p2.index" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static final int MAX_INDEXES = 8;
+
+	/**
+	 * The state of one repository the index was built from
+	 */
+	private record Key(URI location, String stamp) {
+	}
+
+	private record Index(List<IMetadataRepository> repositories, IQueryable<IInstallableUnit> queryable) {
+	}
+
+	private static final Map<List<Key>, SoftReference<Index>> fIndexes = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Key>, SoftReference<Index>> eldest) {
+			return size() > MAX_INDEXES;
+		}
+	};
+
+	/**
+	 * the stamp of the files of local repositories when they were first seen,
+	 * held as long as the repository manager holds the repository
+	 */
+	private static final Map<IMetadataRepository, String> fFileStamps = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private MetadataIndex() {
+	}
+
+	/**
+	 * Returns whether the files of the given local repository have changed
+	 * since this method was first called for it, in which case the repository
+	 * loaded by the repository manager is out of date.
+	 *
+	 * @param repository the loaded repository
+	 * @return <code>true</code> if the repository has to be reloaded
+	 */
+	public static boolean hasChanged(IMetadataRepository repository) {
+		if (DISABLED) {
+			return false;
+		}
+		String stamp = getFileStamp(repository.getLocation());
+		if (stamp == null) {
+			return false;
+		}
+		String previous = fFileStamps.putIfAbsent(repository, stamp);
+		return previous != null && !previous.equals(stamp);
+	}
+
+	/**
+	 * Returns an indexed queryable on all units of the given repositories.
+	 *
+	 * @param repositories the loaded repositories, at least one
+	 * @param monitor the progress monitor
+	 * @return the indexed units
+	 */
+	public static IQueryable<IInstallableUnit> getQueryable(Collection<IMetadataRepository> repositories,
+			IProgressMonitor monitor) {
+		if (DISABLED) {
+			return repositories.size() == 1 ? repositories.iterator().next()
+					: QueryUtil.compoundQueryable(repositories);
+		}
+		List<IMetadataRepository> list = new ArrayList<>(repositories);
+		List<Key> key = new ArrayList<>(list.size());
+		for (IMetadataRepository repository : list) {
+			key.add(new Key(repository.getLocation(), getStamp(repository)));
+		}
+		synchronized (fIndexes) {
+			SoftReference<Index> reference = fIndexes.get(key);
+			Index index = reference == null ? null : reference.get();
+			if (index != null && isSame(index.repositories(), list)) {
+				return index.queryable();
+			}
+			if (reference != null && index == null) {
+				fIndexes.remove(key);
+			}
+		}
+
+		SubMonitor subMonitor = SubMonitor.convert(monitor, list.size());
+		Set<IInstallableUnit> units = new LinkedHashSet<>();
+		for (IMetadataRepository repository : list) {
+			units.addAll(repository.query(QueryUtil.createIUAnyQuery(), subMonitor.split(1)).toUnmodifiableSet());
+		}
+		IQueryable<IInstallableUnit> queryable = new QueryableArray(units.toArray(IInstallableUnit[]::new));
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Indexed " + units.size() + " installable units of " + key); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		synchronized (fIndexes) {
+			// drop the indexes collected since, they would count against the limit
+			fIndexes.values().removeIf(reference -> reference.get() == null);
+			fIndexes.put(key, new SoftReference<>(new Index(list, queryable)));
+		}
+		return queryable;
+	}
+
+	/**
+	 * An index is only valid for the repository instances it was built from, the
+	 * repository manager creates new instances when it reloads a repository
+	 */
+	private static boolean isSame(List<IMetadataRepository> indexed, List<IMetadataRepository> repositories) {
+		for (int i = 0; i < indexed.size(); i++) {
+			if (indexed.get(i) != repositories.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String getStamp(IMetadataRepository repository) {
+		StringBuilder stamp = new StringBuilder();
+		String fileStamp = getFileStamp(repository.getLocation());
+		if (fileStamp != null) {
+			stamp.append(fileStamp);
+		}
+		String timestamp = repository.getProperty(IRepository.PROP_TIMESTAMP);
+		if (timestamp != null) {
+			stamp.append('@').append(timestamp);
+		}
+		if (repository instanceof ICompositeRepository<?> composite) {
+			for (URI child : composite.getChildren()) {
+				String childStamp = getFileStamp(child);
+				if (childStamp != null) {
+					stamp.append('|').append(childStamp);
+				}
+			}
+		}
+		return stamp.toString();
+	}
+
+	/**
+	 * @return the stamp of the files of a local repository, <code>null</code>
+	 *         if the repository is not local
+	 */
+	private static String getFileStamp(URI location) {
+		if (!"file".equals(location.getScheme())) { //$NON-NLS-1$
+			return null;
+		}
+		File directory = URIUtil.toFile(location);
+		if (directory == null || !directory.isDirectory()) {
+			return null;
+		}
+		StringBuilder stamp = new StringBuilder();
+		for (String name : REPOSITORY_FILES) {
+			File file = new File(directory, name);
+			if (file.isFile()) {
+				stamp.append(name).append(':').append(file.lastModified()).append(':').append(file.length()).append(';');
+			}
+		}
+		return stamp.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2024 EclipseSource Inc. and others.
+ * Copyright (c) 2010, 2026 EclipseSource Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -97,6 +97,7 @@ import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.ITargetHandle;
 import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.ITargetPlatformService;
+import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.target.IUBundleContainer.UnitDeclaration;
@@ -191,6 +192,13 @@ public class P2TargetUtils {
 	 */
 	private static final Map<ITargetDefinition, P2TargetUtils> SYNCHRONIZERS = new WeakHashMap<>();
 
+	/**
+	 * Whether a profile whose root units no longer match its target is always
+	 * recreated instead of being updated with the changed units
+	 */
+	private static final boolean INCREMENTAL_DISABLED = Boolean
+			.getBoolean("org.eclipse.pde.core.disableIncrementalTargetUpdate"); //$NON-NLS-1$
+
 	/**
 	 * Table mapping of  ITargetDefinition and IFileArtifactRepository
 	 */
@@ -206,6 +214,18 @@ public class P2TargetUtils {
 	 */
 	private IProfile fProfile;
 
+	private record CachedBundle(long lastModified, long length, TargetBundle bundle) {
+	}
+
+	/**
+	 * The bundles read from the artifacts of the bundle pool for the target of
+	 * this synchronizer. The bundles not used since the profile last changed
+	 * are dropped when it changes again.
+	 */
+	private Map<File, CachedBundle> fBundles = new HashMap<>();
+	private Map<File, CachedBundle> fPreviousBundles = Map.of();
+	private final Object fBundlesLock = new Object();
+
 	/**
 	 * Whether this container must have all required IUs of the selected IUs available and included
 	 * in the target to resolve successfully.  If this option is true, the planner will be used to resolve
@@ -501,6 +521,17 @@ public class P2TargetUtils {
 	 * @return whether or not the profile and target definitions match
 	 */
 	private boolean checkProfile(ITargetDefinition target, final IProfile profile) {
+		return checkProfileSettings(target, profile) && checkProfileContents(target, profile);
+	}
+
+	/**
+	 * Returns whether the profile was created with the settings of the target
+	 * definition. A profile with other settings can not be updated and has to
+	 * be recreated.
+	 *
+	 * @return whether or not the profile and target definition settings match
+	 */
+	private boolean checkProfileSettings(ITargetDefinition target, final IProfile profile) {
 		// make sure we have a profile to validate
 		if (profile == null) {
 			return false;
@@ -536,7 +567,16 @@ public class P2TargetUtils {
 				.parseBoolean((profile.getProperty(PROP_FOLLOW_REPOSITORY_REFERENCES)))) {
 			return false;
 		}
+		return true;
+	}
 
+	/**
+	 * Returns whether the profile contains the root units declared by the
+	 * target definition and was resolved against its repositories.
+	 *
+	 * @return whether or not the profile and target definition contents match
+	 */
+	private boolean checkProfileContents(ITargetDefinition target, final IProfile profile) {
 		List<IUBundleContainer> iuContainers = iuBundleContainersOf(target).toList();
 
 		// ensure list of repositories is still the same. If empty versions or
@@ -805,6 +845,17 @@ public class P2TargetUtils {
 			notify(target, progress.split(25));
 			return;
 		}
+		if (profile != null && !INCREMENTAL_DISABLED && checkProfileSettings(target, profile)) {
+			// only the root units changed, patch the profile instead of recreating it
+			IProfile updated = updateProfile(target, profile, progress.split(75));
+			if (updated != null) {
+				fProfile = updated;
+				profileChanged();
+				notify(target, progress.split(25));
+				return;
+			}
+			progress.setWorkRemaining(100);
+		}
 
 		// Either no profile was found or it was stale.  Delete the current profile and recreate.
 		// This keeps the internal agent data clean and does not cost us much.
@@ -824,6 +875,7 @@ public class P2TargetUtils {
 				resolveWithSlicer(target, profile, progress.split(60));
 			}
 			fProfile = profile;
+			profileChanged();
 			// If we are updating a profile then delete the old snapshot on success.
 			notify(target, progress.split(15));
 		} catch (CoreException e) {
@@ -839,6 +891,81 @@ public class P2TargetUtils {
 		}
 	}
 
+	/**
+	 * Returns the bundle of an artifact of the bundle pool. The bundles are
+	 * reused across resolutions of the target, so updating a target with a few
+	 * changed units does not read the manifests of all other bundles again.
+	 *
+	 * @param file the artifact
+	 * @return the bundle
+	 * @throws CoreException if the bundle could not be read
+	 */
+	TargetBundle getTargetBundle(File file) throws CoreException {
+		long lastModified = file.lastModified();
+		long length = file.length();
+		CachedBundle cached;
+		synchronized (fBundlesLock) {
+			cached = fBundles.get(file);
+			if (cached == null) {
+				cached = fPreviousBundles.get(file);
+			}
+		}
+		if (cached == null || cached.lastModified() != lastModified || cached.length() != length) {
+			cached = new CachedBundle(lastModified, length, new TargetBundle(file));
+		}
+		synchronized (fBundlesLock) {
+			fBundles.put(file, cached);
+		}
+		return cached.bundle();
+	}
+
+	/**
+	 * Drops the bundles that were not used since the profile last changed
+	 */
+	private void profileChanged() {
+		synchronized (fBundlesLock) {
+			fPreviousBundles = fBundles;
+			fBundles = new HashMap<>();
+		}
+	}
+
+	/**
+	 * Resolves the root units of the target again and applies only the
+	 * difference to the given profile, which must have the settings of the
+	 * target. The units already in the profile are kept as they are, so the
+	 * engine only installs the added units and uninstalls the units that are no
+	 * longer needed.
+	 *
+	 * @return the updated profile or <code>null</code> if the profile could not
+	 *         be brought in sync with the target and has to be recreated
+	 */
+	private IProfile updateProfile(ITargetDefinition target, IProfile profile, IProgressMonitor monitor) {
+		long timestamp = profile.getTimestamp();
+		try {
+			if (getIncludeAllRequired()) {
+				resolveWithPlanner(target, profile, monitor);
+			} else {
+				resolveWithSlicer(target, profile, monitor);
+			}
+			IProfile updated = getProfileRegistry().getProfile(profile.getProfileId());
+			// e.g. a former root unit that is still required keeps being
+			// marked as root
+			if (updated == null || !checkProfile(target, updated)) {
+				return null;
+			}
+			if (updated.getTimestamp() != timestamp) {
+				getProfileRegistry().removeProfile(profile.getProfileId(), timestamp);
+			}
+			return updated;
+		} catch (CoreException e) {
+			// recreating the profile reports the problem
+			if (PDECore.DEBUG_TARGET_PROFILE) {
+				System.out.println("Profile could not be updated: " + e.getMessage()); //$NON-NLS-1$
+			}
+			return null;
+		}
+	}
+
 	private IProfile createProfile(ITargetDefinition target) throws CoreException {
 		// create a new profile
 		IProfileRegistry registry = getProfileRegistry();
@@ -1017,6 +1144,10 @@ public class P2TargetUtils {
 		for (URI location : repos) {
 			try {
 				IMetadataRepository repository = metadataRepositoryManager.loadRepository(location, subMonitor.split(1));
+				if (!forceReload && MetadataIndex.hasChanged(repository)) {
+					// the manager keeps the repository loaded before the change
+					repository = metadataRepositoryManager.refreshRepository(location, null);
+				}
 				result.add(repository);
 				if (followRepositoryReferences) {
 					addReferences(repository, additional, seen, metadataRepositoryManager, subMonitor.split(1));
@@ -1067,10 +1198,7 @@ public class P2TargetUtils {
 			}
 			unique = refreshed;
 		}
-		if (unique.size() == 1) {
-			return unique.iterator().next();
-		}
-		return QueryUtil.compoundQueryable(unique);
+		return MetadataIndex.getQueryable(unique, subMonitor.split(1));
 	}
 
 	private static void addReferences(IMetadataRepository repository, List<IMetadataRepository> result,
@@ -1123,6 +1251,7 @@ public class P2TargetUtils {
 		List<IArtifactRepository> extraArtifactRepositories = new ArrayList<>();
 		List<IMetadataRepository> extraMetadataRepositories = new ArrayList<>();
 		addAdditionalProvisionIUs(target, extraArtifactRepositories, extraMetadataRepositories);
+		Collection<URI> metadataRepositories = getMetadataRepositories(target);
 		ProvisioningContext context = new ProvisioningContext(getAgent()) {
 			@Override
 			public IQueryable<IArtifactRepository> getArtifactRepositories(IProgressMonitor monitor) {
@@ -1131,13 +1260,27 @@ public class P2TargetUtils {
 			}
 			@Override
 			public IQueryable<IInstallableUnit> getMetadata(IProgressMonitor monitor) {
-				return QueryUtil.compoundQueryable(super.getMetadata(monitor),
+				return QueryUtil.compoundQueryable(getIndexedMetadata(monitor),
 						QueryUtil.compoundQueryable(extraMetadataRepositories));
 			}
+
+			private IQueryable<IInstallableUnit> getIndexedMetadata(IProgressMonitor monitor) {
+				if (!metadataRepositories.isEmpty()) {
+					// the planner queries the same units many times, use the
+					// index shared with the root units of the locations
+					try {
+						return getQueryableMetadata(metadataRepositories, isFollowRepositoryReferences(), false,
+								monitor);
+					} catch (CoreException e) {
+						// let the context load and report the repositories
+					}
+				}
+				return super.getMetadata(monitor);
+			}
 		};
 		context.setProperty(ProvisioningContext.FOLLOW_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
 		context.setProperty(ProvisioningContext.FOLLOW_ARTIFACT_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
-		context.setMetadataRepositories(getMetadataRepositories(target).toArray(URI[]::new));
+		context.setMetadataRepositories(metadataRepositories.toArray(URI[]::new));
 		context.setArtifactRepositories(getArtifactRepositories(target).toArray(URI[]::new));
 
 		IProvisioningPlan plan = planner.getProvisioningPlan(request, context, subMonitor.split(20));
@@ -1152,7 +1295,9 @@ public class P2TargetUtils {
 			// to continue, we don't want to update the running SDK while provisioning a target
 			PDECore.log(Status.info(Messages.IUBundleContainer_6));
 		}
-		subMonitor.split(10);
+		BundlePoolMaterializer.materialize(
+				plan.getAdditions().query(QueryUtil.createIUAnyQuery(), null).toUnmodifiableSet(),
+				getArtifactRepositories(target), subMonitor.split(10));
 
 		// execute the provisioning plan
 		IPhaseSet phases = createPhaseSet();
@@ -1376,8 +1521,14 @@ public class P2TargetUtils {
 		setProperties(plan::setProfileProperty, target, TargetDefinitionPersistenceHelper.MODE_SLICER);
 
 		Set<IInstallableUnit> newSet = queryResult.toUnmodifiableSet();
+		// when updating a profile only the units not installed yet are added
+		Set<IInstallableUnit> installed = profile.query(QueryUtil.ALL_UNITS, null).toSet();
+		List<IInstallableUnit> added = new ArrayList<>();
 		for (IInstallableUnit unit : newSet) {
-			plan.addInstallableUnit(unit);
+			if (!installed.contains(unit)) {
+				plan.addInstallableUnit(unit);
+				added.add(unit);
+			}
 		}
 		units.forEach((unit, versionDeclarations) -> {
 			plan.setInstallableUnitProfileProperty(unit, PROP_INSTALLED_IU, Boolean.toString(true));
@@ -1385,13 +1536,13 @@ public class P2TargetUtils {
 		});
 
 		// remove all units that are in the current profile but not in the new slice
-		Set<IInstallableUnit> toRemove = profile.query(QueryUtil.ALL_UNITS, null).toSet();
+		Set<IInstallableUnit> toRemove = installed;
 		toRemove.removeAll(newSet);
 		for (IInstallableUnit name : toRemove) {
 			plan.removeInstallableUnit(name);
 		}
 
-		subMonitor.split(5);
+		BundlePoolMaterializer.materialize(added, getArtifactRepositories(target), subMonitor.split(5));
 
 		// execute the provisioning plan
 		IPhaseSet phases = createPhaseSet();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -43,6 +51,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -118,7 +127,10 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	private static Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
+
+	// executor resolving the independent built-in locations of all targets
+	private static ExecutorService fgResolver;
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -370,21 +382,19 @@ public class TargetDefinition implements ITargetDefinition {
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
+			List<ITargetLocation> usualLocations = new ArrayList<>(targetLocations.length);
 			for (ITargetLocation location : targetLocations) {
-				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
 					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+					usualLocations.add(location);
 				} else {
 					// has to be performed later on in a separate batch
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
 				}
 			}
+			subMonitor.subTask(Messages.TargetDefinition_4);
+			resolveLocations(usualLocations, status, subMonitor);
 			if (!synchronizers.isEmpty()) {
 				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
 						.toList();
@@ -421,6 +431,115 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 	}
 
+	/**
+	 * Resolves the given locations that do not need to be synchronized with p2.
+	 * Locations that support it, like directory, installation and feature
+	 * locations or locations contributed by third parties that opt in through
+	 * {@link ITargetLocation#isConcurrentResolutionSupported()}, are resolved
+	 * concurrently on a shared bounded executor, all other locations are
+	 * resolved one after the other on the calling thread. Their statuses are
+	 * added in the order of the locations.
+	 *
+	 * @param locations the locations to resolve
+	 * @param status the status to add problems to
+	 * @param subMonitor the monitor, 100 ticks are consumed for each location
+	 * @throws OperationCanceledException if the monitor was canceled
+	 */
+	private void resolveLocations(List<ITargetLocation> locations, MultiStatus status, SubMonitor subMonitor) {
+		// SubMonitor is not thread safe, the locations only see the cancellation
+		IProgressMonitor cancellationMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return subMonitor.isCanceled();
+			}
+		};
+		List<Future<IStatus>> results = new ArrayList<>(locations.size());
+		try {
+			if (locations.stream().filter(TargetDefinition::isConcurrent).count() > 1) {
+				for (ITargetLocation location : locations) {
+					results.add(isConcurrent(location) ? getResolver().submit(() -> {
+						if (cancellationMonitor.isCanceled()) {
+							return Status.CANCEL_STATUS;
+						}
+						return location.resolve(this, cancellationMonitor);
+					}) : null);
+				}
+			}
+			for (int i = 0; i < locations.size(); i++) {
+				subMonitor.checkCanceled();
+				Future<IStatus> result = results.isEmpty() ? null : results.get(i);
+				IStatus s;
+				if (result == null) {
+					s = locations.get(i).resolve(this, subMonitor.split(100));
+				} else {
+					s = getResult(result);
+					subMonitor.checkCanceled();
+					subMonitor.worked(100);
+				}
+				if (!s.isOK()) {
+					status.add(s);
+				}
+			}
+		} finally {
+			// tasks that have not started yet are not needed after a cancellation or failure
+			for (Future<IStatus> result : results) {
+				if (result != null) {
+					result.cancel(false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return whether the location declares that it can be resolved
+	 *         concurrently with other locations
+	 */
+	private static boolean isConcurrent(ITargetLocation location) {
+		try {
+			return location.isConcurrentResolutionSupported();
+		} catch (RuntimeException e) {
+			PDECore.log(e);
+			return false;
+		}
+	}
+
+	private static IStatus getResult(Future<IStatus> result) {
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * @return the executor shared by all target resolutions, its threads are
+	 *         discarded when idle
+	 */
+	private static synchronized ExecutorService getResolver() {
+		if (fgResolver == null) {
+			int processors = Runtime.getRuntime().availableProcessors();
+			AtomicInteger count = new AtomicInteger();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(processors, processors, 10, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), r -> {
+						Thread thread = new Thread(r, "Target Location Resolver-" + count.incrementAndGet()); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			fgResolver = executor;
+		}
+		return fgResolver;
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
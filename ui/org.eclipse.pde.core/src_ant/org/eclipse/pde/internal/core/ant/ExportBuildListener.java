@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,9 @@ package org.eclipse.pde.internal.core.ant;
 import org.apache.tools.ant.BuildEvent;
 import org.apache.tools.ant.BuildListener;
 import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Target;
+import org.eclipse.ant.core.AntCorePlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.pde.internal.core.exports.FeatureExportOperation;
 import org.eclipse.pde.internal.core.exports.ProductExportOperation;
 
@@ -31,6 +34,15 @@ public class ExportBuildListener implements BuildListener {
 
 	@Override
 	public void targetStarted(BuildEvent event) {
+		// the targets of the export script are the phases of the export
+		Project project = event.getProject();
+		Target target = event.getTarget();
+		if (project == null || target == null || target.getDescription() == null || !FeatureExportOperation.EXPORT_SCRIPT_NAME.equals(project.getName())) {
+			return;
+		}
+		if (project.getReference(AntCorePlugin.ECLIPSE_PROGRESS_MONITOR) instanceof IProgressMonitor monitor) {
+			monitor.setTaskName(target.getDescription());
+		}
 	}
 
 	@Override
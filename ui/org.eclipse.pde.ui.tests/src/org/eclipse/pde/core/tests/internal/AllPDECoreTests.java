@@ -9,6 +9,13 @@ import org.junit.runners.Suite.SuiteClasses;
 	DependencyManagerTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
+	TargetStateCacheTest.class, //
+	PDEStateTest.class, //
+	ModelEntryTest.class, //
+	ExtensionPointIndexTest.class, //
+	SchemaValidatorTest.class, //
+	LibraryStoreTest.class, //
+	PluginSearchOperationTest.class, //
 })
 public class AllPDECoreTests {
 }
@@ -368,6 +368,37 @@ public class DependencyManagerTest {
 		assertThat(optionalClosure).isEqualTo(Set.of(bundleOptional, bundleA1, bundleA2, bundleProvider));
 	}
 
+	@Test
+	public void testFindRequirementsClosure_cachedClosure() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+
+		// callers may modify the returned closure without affecting the cache
+		findRequirementsClosure(Set.of(bundleB)).clear();
+		assertThat(findRequirementsClosure(Set.of(bundleB))).isEqualTo(Set.of(bundleA, bundleB));
+
+		// the closures of a replaced state must not be served
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.c", "1.0.0"),
+
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a,bundle.c")));
+
+		BundleDescription newBundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription newBundleB = bundleDescription("bundle.b", "1.0.0");
+		BundleDescription newBundleC = bundleDescription("bundle.c", "1.0.0");
+		assertThat(findRequirementsClosure(Set.of(newBundleB))).isEqualTo(Set.of(newBundleA, newBundleB, newBundleC));
+	}
+
 	// --- utility methods ---
 
 	@SafeVarargs
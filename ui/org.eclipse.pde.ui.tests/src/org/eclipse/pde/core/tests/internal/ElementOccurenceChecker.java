@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2006, 2016 IBM Corporation and others.
+ *  Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -12,11 +12,12 @@
  *     IBM Corporation - initial API and implementation
  *******************************************************************************/
 
-package org.eclipse.pde.internal.core.builders;
+package org.eclipse.pde.core.tests.internal;
 
 import java.util.HashMap;
 import java.util.HashSet;
 
+import org.eclipse.pde.internal.core.builders.ElementOccurrenceResult;
 import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
 import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
 import org.eclipse.pde.internal.core.ischema.ISchemaElement;
@@ -26,7 +27,10 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 /**
- * XMLElementProposalComputer
+ * Finds the occurrence violations of an element by walking the compositors of
+ * its schema element, as the extension validation did before it used the
+ * compiled {@link org.eclipse.pde.internal.core.schema.SchemaValidator}. Kept
+ * as the reference the validators are tested against.
  */
 public class ElementOccurenceChecker {
 
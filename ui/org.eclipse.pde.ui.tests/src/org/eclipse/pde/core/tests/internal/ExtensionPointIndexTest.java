@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.eclipse.pde.internal.core.ExtensionPointIndex;
+import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the matching of extension point ids and the persistence of the
+ * {@link ExtensionPointIndex} used by the lazy extension registry.
+ */
+public class ExtensionPointIndexTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testMatches() {
+		assertThat(ExtensionPointIndex.matches("org.x.y", "org.x.y")).isTrue();
+		// simple ids are qualified with the unknown namespace of the bundle
+		assertThat(ExtensionPointIndex.matches("org.x.y", "y")).isTrue();
+		assertThat(ExtensionPointIndex.matches("org.x.y", "x.y")).isTrue();
+		assertThat(ExtensionPointIndex.matches("org.x.yy", "y")).isFalse();
+		assertThat(ExtensionPointIndex.matches("org.x.y", "ox.y")).isFalse();
+		assertThat(ExtensionPointIndex.matches("org.x.y", "org.x.y.z")).isFalse();
+		assertThat(ExtensionPointIndex.matches("y", "org.x.y")).isFalse();
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		ExternalPluginModel model = createModel("p", "org.x.y");
+		Path file = folder.getRoot().toPath().resolve("index.bin");
+
+		ExtensionPointIndex index = ExtensionPointIndex.load(file);
+		ExtensionPointIndex.Entry entry = index.getEntry(model, false);
+		assertThat(entry.points()).containsExactly("p");
+		assertThat(entry.extended()).containsExactly("org.x.y");
+		assertThat(entry.involves("org.x.y")).isTrue();
+		assertThat(entry.involves("a.b.p")).isTrue();
+		assertThat(entry.involves("org.x.z")).isFalse();
+		index.save();
+		assertThat(file).isRegularFile();
+
+		ExtensionPointIndex.Entry loaded = ExtensionPointIndex.load(file).getEntry(model, false);
+		assertThat(loaded.stamp()).isEqualTo(entry.stamp());
+		assertThat(loaded.length()).isEqualTo(entry.length());
+		assertThat(loaded.points()).containsExactly("p");
+		assertThat(loaded.extended()).containsExactly("org.x.y");
+	}
+
+	@Test
+	public void testChangedDescriptor() throws IOException {
+		ExternalPluginModel model = createModel("p", "org.x.y");
+		Path descriptor = Path.of(model.getInstallLocation(), "plugin.xml");
+		FileTime modified = Files.getLastModifiedTime(descriptor);
+		Path file = folder.getRoot().toPath().resolve("index.bin");
+		ExtensionPointIndex index = ExtensionPointIndex.load(file);
+		index.getEntry(model, false);
+		index.save();
+
+		// an unchanged stamp and length keep the indexed ids
+		writeDescriptor(descriptor, "q", "org.x.z");
+		Files.setLastModifiedTime(descriptor, modified);
+		ExtensionPointIndex.Entry entry = ExtensionPointIndex.load(file).getEntry(model, false);
+		assertThat(entry.points()).containsExactly("p");
+		assertThat(entry.extended()).containsExactly("org.x.y");
+
+		// a changed stamp makes the descriptor scanned again
+		Files.setLastModifiedTime(descriptor, FileTime.fromMillis(modified.toMillis() + 10000));
+		ExtensionPointIndex reloaded = ExtensionPointIndex.load(file);
+		entry = reloaded.getEntry(model, false);
+		assertThat(entry.points()).containsExactly("q");
+		assertThat(entry.extended()).containsExactly("org.x.z");
+		// and is checked again when asked to
+		writeDescriptor(descriptor, "r", "org.x.r");
+		Files.setLastModifiedTime(descriptor, FileTime.fromMillis(modified.toMillis() + 20000));
+		assertThat(reloaded.getEntry(model, false).points()).containsExactly("q");
+		assertThat(reloaded.getEntry(model, true).points()).containsExactly("r");
+	}
+
+	private ExternalPluginModel createModel(String point, String extended) throws IOException {
+		Path bundle = folder.newFolder("bundle").toPath();
+		writeDescriptor(bundle.resolve("plugin.xml"), point, extended);
+		ExternalPluginModel model = new ExternalPluginModel();
+		model.setInstallLocation(bundle.toString());
+		return model;
+	}
+
+	private static void writeDescriptor(Path descriptor, String point, String extended) throws IOException {
+		Files.writeString(descriptor, """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<plugin>
+				   <extension-point id="%s" name="Point"/>
+				   <extension point="%s">
+				      <element/>
+				   </extension>
+				</plugin>
+				""".formatted(point, extended));
+	}
+}
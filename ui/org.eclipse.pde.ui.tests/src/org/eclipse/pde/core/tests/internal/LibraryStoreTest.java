@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.pde.internal.core.LibraryStore;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the sharing of extracted libraries between workspaces and the
+ * cleanup of the {@link LibraryStore}.
+ */
+public class LibraryStoreTest {
+
+	private static final String LIBRARY = "lib/nested.jar";
+	private static final byte[] CONTENTS = "nested library".getBytes(StandardCharsets.UTF_8);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path fRoot;
+	private File fJar;
+
+	@Before
+	public void setUp() throws IOException {
+		fRoot = folder.newFolder("store").toPath();
+		fJar = writeBundle(folder.newFolder("target1").toPath(), "bundle_1.0.0.jar");
+	}
+
+	@Test
+	public void testLibraryIsExtractedOnce() throws IOException {
+		LibraryStore store = new LibraryStore(fRoot, folder.newFolder("workspace1").toPath());
+		File library = store.getLibrary(fJar, LIBRARY);
+		assertThat(library).isFile().hasBinaryContent(CONTENTS);
+		assertThat(store.getLibrary(fJar, LIBRARY)).isEqualTo(library);
+		assertThat(store.getLibrary(fJar, "lib/missing.jar")).isNull();
+
+		// the same bundle of another target in another workspace
+		File copy = writeBundle(folder.newFolder("target2").toPath(), "bundle_1.0.0.jar");
+		LibraryStore other = new LibraryStore(fRoot, folder.newFolder("workspace2").toPath());
+		assertThat(other.getLibrary(copy, LIBRARY)).isEqualTo(library);
+
+		// another bundle containing the same library
+		File renamed = writeBundle(folder.newFolder("target3").toPath(), "other_2.0.0.jar");
+		assertThat(other.getLibrary(renamed, LIBRARY)).isEqualTo(library);
+	}
+
+	@Test
+	public void testCleanup() throws IOException {
+		Path workspace = folder.newFolder("workspace1").toPath();
+		File library = new LibraryStore(fRoot, workspace).getLibrary(fJar, LIBRARY);
+		Path entry = library.getParentFile().toPath();
+		expire(entry);
+
+		LibraryStore other = new LibraryStore(fRoot, folder.newFolder("workspace2").toPath());
+		other.cleanup();
+		assertThat(library).as("referenced by an existing workspace").isFile();
+
+		try (Stream<Path> files = Files.walk(workspace)) {
+			files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		other.cleanup();
+		assertThat(entry).as("referenced by a deleted workspace only").doesNotExist();
+	}
+
+	@Test
+	public void testServedLibraryIsTouched() throws IOException {
+		File library = new LibraryStore(fRoot, folder.newFolder("workspace1").toPath()).getLibrary(fJar, LIBRARY);
+		Path entry = library.getParentFile().toPath();
+		long expired = expire(entry);
+
+		new LibraryStore(fRoot, folder.newFolder("workspace2").toPath()).getLibrary(fJar, LIBRARY);
+		assertThat(Files.getLastModifiedTime(entry).toMillis()).isGreaterThan(expired);
+	}
+
+	private static long expire(Path entry) throws IOException {
+		long expired = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2);
+		Files.setLastModifiedTime(entry, FileTime.fromMillis(expired));
+		return expired;
+	}
+
+	private static File writeBundle(Path directory, String name) throws IOException {
+		Path jar = directory.resolve(name);
+		ZipEntry entry = new ZipEntry(LIBRARY);
+		entry.setTime(0);
+		try (OutputStream out = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(out)) {
+			zip.putNextEntry(entry);
+			zip.write(CONTENTS);
+			zip.closeEntry();
+		}
+		return jar.toFile();
+	}
+}
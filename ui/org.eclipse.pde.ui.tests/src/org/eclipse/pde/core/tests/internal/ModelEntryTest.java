@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the model entries the plug-in model manager serves without
+ * locking are not modified by later changes, and that all changes of an event
+ * are published at once.
+ */
+public class ModelEntryTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testPublishedEntryIsNotModified() throws CoreException {
+		IProject project = ProjectUtils.createPluginProject("entry.a", "entry.a", "1.0.0");
+		waitForJobs();
+		ModelEntry entry = PluginRegistry.findEntry("entry.a");
+		assertThat(entry).isNotNull();
+		assertThat(entry.getWorkspaceModels()).hasSize(1);
+
+		project.delete(true, true, null);
+		waitForJobs();
+		assertThat(PluginRegistry.findEntry("entry.a")).isNull();
+		// the entry read before the removal still shows the removed model
+		assertThat(entry.getWorkspaceModels()).hasSize(1);
+		assertThat(entry.getActiveModels()).hasSize(1);
+	}
+
+	@Test
+	public void testRenameIsPublishedAtOnce() throws CoreException {
+		IProject project = ProjectUtils.createPluginProject("entry.a", "entry.a", "1.0.0");
+		waitForJobs();
+		assertThat(PluginRegistry.findEntry("entry.a")).isNotNull();
+
+		IBundleProjectDescription description = ProjectCreationTests.getBundleProjectService()
+				.getDescription(project);
+		description.setSymbolicName("entry.b");
+		description.apply(null);
+		waitForJobs();
+
+		assertThat(PluginRegistry.findEntry("entry.a")).isNull();
+		ModelEntry renamed = PluginRegistry.findEntry("entry.b");
+		assertThat(renamed).isNotNull();
+		assertThat(renamed.getWorkspaceModels()).hasSize(1)
+				.allSatisfy(model -> assertThat(model.getPluginBase().getId()).isEqualTo("entry.b"));
+	}
+
+	private void waitForJobs() {
+		TestUtils.waitForJobs(getClass().getName(), 100, 10000);
+	}
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.PDEState;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the creation of a target {@link PDEState} from bundle locations.
+ */
+public class PDEStateTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Monitor recording the threads reporting progress and the amount of work
+	 */
+	private static class RecordingMonitor extends NullProgressMonitor {
+		final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		final List<String> subTasks = new ArrayList<>();
+
+		@Override
+		public void subTask(String name) {
+			threads.add(Thread.currentThread());
+			subTasks.add(name);
+		}
+
+		@Override
+		public void worked(int work) {
+			threads.add(Thread.currentThread());
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			threads.add(Thread.currentThread());
+		}
+	}
+
+	private URI[] writeBundles(int count) throws IOException {
+		Path plugins = folder.newFolder("plugins").toPath();
+		URI[] uris = new URI[count];
+		for (int i = 0; i < count; i++) {
+			uris[i] = TargetStateCacheTest.writeBundle(plugins, "bundle" + i, "1.0.0", null).toUri();
+		}
+		return uris;
+	}
+
+	@Test
+	public void testBundleOrderAndProgress() throws IOException {
+		URI[] uris = writeBundles(50);
+		RecordingMonitor monitor = new RecordingMonitor();
+		PDEState state = new PDEState(uris, true, false, monitor);
+
+		List<String> names = Arrays.stream(state.getState().getBundles())
+				.sorted(Comparator.comparingLong(BundleDescription::getBundleId))
+				.map(BundleDescription::getSymbolicName).toList();
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < uris.length; i++) {
+			expected.add("bundle" + i);
+		}
+		assertThat(names).isEqualTo(expected);
+		assertThat(monitor.threads).containsExactly(Thread.currentThread());
+		assertThat(monitor.subTasks).contains("bundle0_1.0.0.jar", "bundle49_1.0.0.jar");
+	}
+
+	@Test
+	public void testCanceled() throws IOException {
+		URI[] uris = writeBundles(10);
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		assertThatThrownBy(() -> new PDEState(uris, true, false, monitor))
+				.isInstanceOf(OperationCanceledException.class);
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.core.IIdentifiable;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.search.PluginSearchInput;
+import org.eclipse.pde.internal.core.search.PluginSearchOperation;
+import org.eclipse.pde.internal.core.search.PluginSearchScope;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that plug-in searches see the changes of workspace plug-ins, which are
+ * applied to the search index incrementally, and respect the search scope.
+ */
+public class PluginSearchOperationTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testChangedExtensionPoints() throws CoreException {
+		IProject project = ProjectUtils.createPluginProject("search.a", "search.a", "1.0.0");
+		// builds the index
+		assertThat(searchExtensionPoints("search.a.*", new PluginSearchScope())).isEmpty();
+
+		IFile pluginXml = PDEProject.getPluginXml(project);
+		writePluginXml(pluginXml, "point1");
+		assertThat(searchExtensionPoints("search.a.point1", new PluginSearchScope())).hasSize(1);
+
+		writePluginXml(pluginXml, "point2");
+		assertThat(searchExtensionPoints("search.a.point1", new PluginSearchScope())).isEmpty();
+		assertThat(searchExtensionPoints("search.a.point?", new PluginSearchScope())).hasSize(1)
+				.allSatisfy(match -> assertThat(((IPluginExtensionPoint) match).getId()).isEqualTo("point2"));
+
+		pluginXml.delete(true, null);
+		TestUtils.waitForJobs(getClass().getName(), 100, 10000);
+		assertThat(searchExtensionPoints("search.a.*", new PluginSearchScope())).isEmpty();
+	}
+
+	@Test
+	public void testScope() throws CoreException {
+		IProject a = ProjectUtils.createPluginProject("search.a", "search.a", "1.0.0");
+		IProject b = ProjectUtils.createPluginProject("search.b", "search.b", "1.0.0");
+		writePluginXml(PDEProject.getPluginXml(a), "point");
+		writePluginXml(PDEProject.getPluginXml(b), "point");
+
+		PluginSearchScope workspace = new PluginSearchScope();
+		List<String> scopeOrder = Arrays.stream(workspace.getMatchingModels())
+				.map(model -> model.getPluginBase().getId()).filter(id -> id.startsWith("search.")).toList();
+		// matches are reported in the order of the scope
+		assertThat(searchExtensionPoints("search.*.point", workspace))
+				.extracting(match -> ((IPluginExtensionPoint) match).getPluginBase().getId())
+				.containsExactlyElementsOf(scopeOrder).hasSize(2);
+		PluginSearchScope selection = new PluginSearchScope(PluginSearchScope.SCOPE_SELECTION,
+				PluginSearchScope.EXTERNAL_SCOPE_NONE, Set.of(b));
+		assertThat(searchExtensionPoints("search.*.point", selection)).hasSize(1)
+				.allSatisfy(match -> assertThat(((IPluginExtensionPoint) match).getFullId()).isEqualTo("search.b.point"));
+	}
+
+	private void writePluginXml(IFile pluginXml, String point) throws CoreException {
+		String contents = """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<?eclipse version="3.4"?>
+				<plugin>
+				   <extension-point id="%s" name="Point"/>
+				</plugin>
+				""".formatted(point);
+		ByteArrayInputStream stream = new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+		if (pluginXml.exists()) {
+			pluginXml.setContents(stream, true, false, null);
+		} else {
+			pluginXml.create(stream, true, null);
+		}
+		TestUtils.waitForJobs(getClass().getName(), 100, 10000);
+	}
+
+	private static List<IIdentifiable> searchExtensionPoints(String pattern, PluginSearchScope scope) {
+		PluginSearchInput input = new PluginSearchInput();
+		input.setSearchElement(PluginSearchInput.ELEMENT_EXTENSION_POINT);
+		input.setSearchLimit(PluginSearchInput.LIMIT_DECLARATIONS);
+		input.setSearchString(pattern);
+		input.setSearchScope(scope);
+		List<IIdentifiable> matches = new ArrayList<>();
+		new PluginSearchOperation(input, match -> matches.add((IIdentifiable) match))
+				.execute(new NullProgressMonitor());
+		return matches;
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.builders.ElementOccurrenceResult;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.schema.SchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.pde.internal.core.schema.SchemaValidator;
+import org.eclipse.pde.internal.core.schema.SchemaValidator.ElementValidator;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+/**
+ * Tests that the compiled {@link SchemaValidator} reports the same occurrence
+ * violations as the {@link ElementOccurenceChecker} walking the schema model,
+ * and the caching of validators by the {@link SchemaRegistry}.
+ */
+public class SchemaValidatorTest {
+
+	private static final String SCHEMA = """
+			<?xml version='1.0' encoding='UTF-8'?>
+			<schema targetNamespace="test" xmlns="http://www.w3.org/2001/XMLSchema">
+			   <annotation>
+			      <appInfo>
+			         <meta.schema plugin="test" id="point" name="Point"/>
+			      </appInfo>
+			   </annotation>
+			   <element name="extension">
+			      <complexType>
+			         <sequence>
+			            <element ref="a" minOccurs="1" maxOccurs="2"/>
+			            <choice minOccurs="1" maxOccurs="1">
+			               <element ref="b"/>
+			               <element ref="c"/>
+			            </choice>
+			            <sequence minOccurs="0" maxOccurs="2">
+			               <element ref="d" minOccurs="1" maxOccurs="1"/>
+			            </sequence>
+			         </sequence>
+			         <attribute name="point" type="string" use="required"/>
+			      </complexType>
+			   </element>
+			   <element name="a">
+			      <complexType>
+			         <attribute name="id" type="string"/>
+			      </complexType>
+			   </element>
+			   <element name="b">
+			      <complexType>
+			         <attribute name="id" type="string"/>
+			      </complexType>
+			   </element>
+			   <element name="c">
+			      <complexType>
+			         <attribute name="id" type="string"/>
+			      </complexType>
+			   </element>
+			   <element name="d">
+			      <complexType>
+			         <attribute name="id" type="string"/>
+			      </complexType>
+			   </element>
+			</schema>
+			""";
+
+	private static final List<String> EXTENSIONS = List.of( //
+			"<extension point=\"p\"><a/><b/></extension>", //
+			"<extension point=\"p\"></extension>", //
+			"<extension point=\"p\"><a/><a/><a/><b/><c/></extension>", //
+			"<extension point=\"p\"><a/><c/><d/><d/><d/></extension>", //
+			"<extension point=\"p\"><b/><b/><d/></extension>", //
+			"<extension point=\"p\"><a/><x/><c/><c/><c/></extension>");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File fSchemaFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fSchemaFile = folder.newFile("point.exsd");
+		Files.writeString(fSchemaFile.toPath(), SCHEMA);
+	}
+
+	@Test
+	public void testSameViolationsAsOccurrenceChecker() throws Exception {
+		ISchema schema = new SchemaDescriptor(fSchemaFile).getSchema(false);
+		ElementValidator validator = getRegistry().getValidator(schema).findElement("extension");
+		assertThat(validator).isNotNull();
+		for (String extension : EXTENSIONS) {
+			Element element = parse(extension);
+			var siblings = ElementValidator.countChildren(element);
+			assertThat(describe(validator.findMaxOccurrenceViolations(element, siblings))).as(extension)
+					.isEqualTo(describe(ElementOccurenceChecker
+							.findMaxOccurenceViolations(schema.findElement("extension"), element)));
+			assertThat(describe(validator.findMinOccurrenceViolations(element, siblings))).as(extension)
+					.isEqualTo(describe(ElementOccurenceChecker
+							.findMinOccurenceViolations(schema.findElement("extension"), element)));
+		}
+	}
+
+	@Test
+	public void testValidatorIsReplacedWithSchema() {
+		ISchema schema = new SchemaDescriptor(fSchemaFile).getSchema(false);
+		SchemaValidator validator = getRegistry().getValidator(schema);
+		assertThat(getRegistry().getValidator(schema)).isSameAs(validator);
+
+		ISchema reloaded = new SchemaDescriptor(fSchemaFile).getSchema(false);
+		SchemaValidator replaced = getRegistry().getValidator(reloaded);
+		assertThat(replaced).isNotSameAs(validator);
+		assertThat(replaced.getSchema()).isSameAs(reloaded);
+		assertThat(getRegistry().getValidator(reloaded)).isSameAs(replaced);
+	}
+
+	private static SchemaRegistry getRegistry() {
+		return PDECore.getDefault().getSchemaRegistry();
+	}
+
+	private static Element parse(String xml) throws Exception {
+		return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+				.parse(new InputSource(new StringReader(xml))).getDocumentElement();
+	}
+
+	private static List<String> describe(Collection<ElementOccurrenceResult> results) {
+		return results.stream()
+				.map(result -> result.getSchemaElement().getName() + ':' + result.getActualOccurrences() + '/'
+						+ result.getAllowedOccurrences() + '@'
+						+ (result.getElement() == null ? null : result.getElement().getNodeName()))
+				.sorted().toList();
+	}
+}
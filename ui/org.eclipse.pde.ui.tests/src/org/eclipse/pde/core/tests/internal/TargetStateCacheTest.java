@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.TargetStateCache;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests that a target state created from cached manifests is the same as one
+ * created from the bundles themselves, and the maintenance of the cache files.
+ */
+public class TargetStateCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testCachedStateEqualsColdState() throws IOException {
+		Path plugins = folder.newFolder("plugins").toPath();
+		Path a = writeBundle(plugins, "a", "1.0.0", "a.pkg;version=\"1.0.0\",a.pkg.internal;x-internal:=true");
+		Path b = writeBundle(plugins, "b", "2.0.0", null);
+		Path notABundle = plugins.resolve("c.jar");
+		Files.writeString(notABundle, "not a jar");
+		URI[] uris = Arrays.asList(a, b, notABundle).stream().map(Path::toUri).toArray(URI[]::new);
+		String key = "test:" + plugins;
+
+		String cold = describe(new PDEState(uris, true, false, new NullProgressMonitor()));
+		// fills the cache
+		assertThat(describe(new PDEState(uris, key, true, false, new NullProgressMonitor()))).isEqualTo(cold);
+		// uses the cache
+		assertThat(describe(new PDEState(uris, key, true, false, new NullProgressMonitor()))).isEqualTo(cold);
+
+		// a changed bundle must be read again
+		FileTime modified = Files.getLastModifiedTime(a);
+		writeBundle(plugins, "a", "1.0.0", "a.pkg;version=\"1.1.0\"");
+		Files.setLastModifiedTime(a, FileTime.fromMillis(modified.toMillis() + 10000));
+		String changed = describe(new PDEState(uris, true, false, new NullProgressMonitor()));
+		assertThat(changed).isNotEqualTo(cold);
+		assertThat(describe(new PDEState(uris, key, true, false, new NullProgressMonitor()))).isEqualTo(changed);
+	}
+
+	@Test
+	public void testNotABundleMessage() throws IOException {
+		Path notABundle = folder.newFile("c.jar").toPath();
+		Files.writeString(notABundle, "not a jar");
+		String key = "test:" + folder.getRoot();
+		TargetStateCache cache = TargetStateCache.getCache(key);
+		CoreException cold = assertThrows(CoreException.class, () -> cache.loadManifest(notABundle.toFile()));
+		cache.save();
+
+		TargetStateCache reloaded = TargetStateCache.getCache(key);
+		CoreException cached = assertThrows(CoreException.class, () -> reloaded.loadManifest(notABundle.toFile()));
+		assertThat(cached.getStatus().getCode()).isEqualTo(cold.getStatus().getCode());
+		assertThat(cached.getStatus().getMessage()).isEqualTo(cold.getStatus().getMessage());
+	}
+
+	@Test
+	public void testCanceledLoadKeepsCache() throws IOException {
+		Path plugins = folder.newFolder("plugins").toPath();
+		URI[] uris = { writeBundle(plugins, "a", "1.0.0", null).toUri(),
+				writeBundle(plugins, "b", "1.0.0", null).toUri() };
+		String key = "test:" + plugins;
+		new PDEState(uris, key, true, false, new NullProgressMonitor());
+		Map<String, String> saved = readCacheFiles();
+
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		assertThrows(OperationCanceledException.class, () -> new PDEState(uris, key, true, false, monitor));
+		assertThat(readCacheFiles()).isEqualTo(saved);
+	}
+
+	@Test
+	public void testCleanup() throws Exception {
+		Path bundle = writeBundle(folder.getRoot().toPath(), "a", "1.0.0", null);
+		for (String key : List.of("test:kept", "test:deleted")) {
+			TargetStateCache cache = TargetStateCache.getCache(key);
+			cache.loadManifest(bundle.toFile());
+			cache.save();
+		}
+		Path dir = PDECore.getDefault().getStateLocation().toPath().resolve("target-states");
+		TargetStateCache.cleanup("test:kept"::equals);
+		try (Stream<Path> files = Files.list(dir)) {
+			assertThat(files.filter(file -> file.toString().endsWith(".bin"))).hasSize(1);
+		}
+	}
+
+	private static Map<String, String> readCacheFiles() throws IOException {
+		Path dir = PDECore.getDefault().getStateLocation().toPath().resolve("target-states");
+		Map<String, String> contents = new HashMap<>();
+		try (Stream<Path> files = Files.list(dir)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				contents.put(file.getFileName().toString(), Base64.getEncoder().encodeToString(Files.readAllBytes(file)));
+			}
+		}
+		return contents;
+	}
+
+	private static String describe(PDEState state) {
+		state.resolveState(false);
+		return Arrays.stream(state.getState().getBundles()).map(TargetStateCacheTest::describe).sorted()
+				.collect(Collectors.joining("\n"));
+	}
+
+	private static String describe(BundleDescription bundle) {
+		List<String> exports = Arrays.stream(bundle.getExportPackages()).map(ExportPackageDescription::toString)
+				.sorted().toList();
+		return bundle.getSymbolicName() + '_' + bundle.getVersion() + ' ' + bundle.isResolved() + ' ' + exports;
+	}
+
+	static Path writeBundle(Path directory, String id, String version, String exports) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, id);
+		attributes.putValue(Constants.BUNDLE_VERSION, version);
+		if (exports != null) {
+			attributes.putValue(Constants.EXPORT_PACKAGE, exports);
+		}
+		Path jar = directory.resolve(id + "_" + version + ".jar");
+		try (OutputStream stream = Files.newOutputStream(jar); ZipOutputStream out = new ZipOutputStream(stream)) {
+			out.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+			manifest.write(out);
+		}
+		return jar;
+	}
+}
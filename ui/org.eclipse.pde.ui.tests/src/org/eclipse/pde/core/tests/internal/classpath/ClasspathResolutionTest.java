@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 Red Hat Inc. and others.
+ * Copyright (c) 2020, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
@@ -39,6 +40,7 @@ import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.internal.core.MinimalState;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelManager;
 import org.eclipse.pde.internal.core.RequiredPluginsClasspathContainer;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.ui.tests.util.ProjectUtils;
@@ -147,6 +149,22 @@ public class ClasspathResolutionTest {
 		}
 	}
 
+	@Test
+	public void testUnchangedContainerIsNotReplaced() throws Exception {
+		loadTargetPlatform("org.eclipse.osgi");
+		IExecutionEnvironment java17 = JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-17");
+		IJavaProject javaProject = ProjectUtils.createPluginProject("unchangedContainer", java17);
+		Job.getJobManager().join(PluginModelManager.class, null);
+		IClasspathContainer container = JavaCore.getClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH,
+				javaProject);
+
+		// reloading the same target queues the container of every project
+		PDECore.getDefault().getModelManager().targetReloaded(new NullProgressMonitor());
+		Job.getJobManager().join(PluginModelManager.class, null);
+		assertThat(JavaCore.getClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, javaProject))
+				.isSameAs(container);
+	}
+
 	// --- utilitiy methods ---
 
 	private List<String> getRequiredPluginContainerEntries(IProject project) throws CoreException {
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.builders.ValidationCache;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests that the markers of unchanged plug-in projects are reused and that
+ * changes of the project or of the plug-ins it depends on invalidate them.
+ */
+public class ValidationCacheTest {
+
+	private IProject fProject;
+	private IProject fOther;
+	private IFile fManifest;
+
+	@Before
+	public void setUp() throws Exception {
+		fOther = ProjectUtils.createPluginProject("validation.other", "1.0.0",
+				Map.of(Constants.EXPORT_PACKAGE, "validation.other;version=\"1.0.0\""));
+		fProject = ProjectUtils.createPluginProject("validation.project", "1.0.0",
+				Map.of(Constants.IMPORT_PACKAGE, "validation.other"));
+		fManifest = PDEProject.getManifest(fProject);
+		fProject.build(IncrementalProjectBuilder.FULL_BUILD, null);
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		for (IProject project : new IProject[] { fProject, fOther }) {
+			if (project != null && project.exists()) {
+				project.delete(true, null);
+			}
+		}
+	}
+
+	@Test
+	public void testUnchangedProjectIsReused() {
+		byte[] inputs = ValidationCache.computeInputs(fProject);
+		assertThat(inputs).isNotNull().isEqualTo(ValidationCache.computeInputs(fProject));
+		assertThat(ValidationCache.restore(fManifest, inputs)).isNotNull();
+	}
+
+	@Test
+	public void testChangedManifestInvalidates() throws CoreException {
+		byte[] inputs = ValidationCache.computeInputs(fProject);
+		append(fManifest, "Bundle-Vendor: Test\n");
+		assertThat(ValidationCache.computeInputs(fProject)).isNotEqualTo(inputs);
+	}
+
+	@Test
+	public void testAddedResourceInvalidates() throws CoreException {
+		byte[] inputs = ValidationCache.computeInputs(fProject);
+		fProject.getFile("resource.txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+		assertThat(ValidationCache.computeInputs(fProject)).isNotEqualTo(inputs);
+	}
+
+	@Test
+	public void testChangedMarkersKeepInputs() throws CoreException {
+		byte[] inputs = ValidationCache.computeInputs(fProject);
+		fManifest.createMarker(IMarker.PROBLEM).delete();
+		fOther.getFile("resource.txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+		assertThat(ValidationCache.computeInputs(fProject)).isEqualTo(inputs);
+	}
+
+	@Test
+	public void testChangedExportOfOtherProjectInvalidates() throws CoreException {
+		byte[] inputs = ValidationCache.computeInputs(fProject);
+		String manifest = """
+				Manifest-Version: 1.0
+				Bundle-ManifestVersion: 2
+				Bundle-SymbolicName: validation.other
+				Bundle-Version: 1.0.0
+				Export-Package: validation.other;version="1.0.0";x-internal:=true
+				""";
+		PDEProject.getManifest(fOther).setContents(
+				new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)), true, false, null);
+		assertThat(ValidationCache.computeInputs(fProject)).isNotEqualTo(inputs);
+	}
+
+	@Test
+	public void testClosedProjectIsForgotten() throws CoreException {
+		byte[] inputs = ValidationCache.computeInputs(fProject);
+		assertThat(ValidationCache.restore(fManifest, inputs)).isNotNull();
+		fProject.close(null);
+		assertThat(ValidationCache.restore(fManifest, inputs)).isNull();
+	}
+
+	private static void append(IFile file, String text) throws CoreException {
+		file.appendContents(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), true, false, null);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -240,6 +240,56 @@ public class ExportBundleTests extends PDETestCase {
 		}
 	}
 
+	/**
+	 * Exports a plug-in project for several configurations, which are
+	 * assembled and packaged side by side.
+	 */
+	@Test
+	public void testExportMultipleConfigurations() throws Exception {
+		try {
+			IExecutionEnvironment env = JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-1.8");
+			IJavaProject project = ProjectUtils.createPluginProject("configs.export", env);
+			assertTrue("Project was not created", project.exists());
+
+			final FeatureExportInfo info = new FeatureExportInfo();
+			info.toDirectory = true;
+			info.useJarFormat = true;
+			info.exportSource = false;
+			info.allowBinaryCycles = false;
+			info.useWorkspaceCompiledClasses = false;
+			info.destinationDirectory = EXPORT_PATH.toString();
+			info.zipFileName = null;
+			info.items = new Object[] { PluginRegistry.findModel(project.getProject()) };
+			info.signingInfo = null;
+			info.qualifier = "vXYZ";
+			info.targets = new String[][] { { "linux", "gtk", "x86_64" }, { "win32", "win32", "x86_64" },
+					{ "macosx", "cocoa", "aarch64" } };
+
+			PluginExportOperation job = new PluginExportOperation(info, "Test-Export");
+			job.schedule();
+			job.join();
+			if (job.hasAntErrors()) {
+				fail("Export job had ant errors");
+			}
+			IStatus result = job.getResult();
+			assertTrue("Export job had errors", result.isOK());
+
+			TestUtils.processUIEvents(100);
+			TestUtils.waitForJobs(name.getMethodName(), 100, 10000);
+
+			// each configuration is exported to its own directory
+			for (String[] config : info.targets) {
+				Path path = EXPORT_PATH.resolve(String.join(".", config)).resolve("plugins/configs.export_1.0.0.jar");
+				assertTrue("Missing exported bundle " + path, Files.exists(path));
+				validateTargetLevel(path.toString(), "configs/export/Activator.class", ClassFileConstants.MAJOR_VERSION_1_8);
+			}
+		} finally {
+			TestUtils.waitForJobs(name.getMethodName(), 10, 5000);
+			deleteProject("configs.export");
+			delete(EXPORT_PATH.toFile());
+		}
+	}
+
 	private void printContents(File dir) {
 		System.out.println("First 2 levels of: " + dir);
 		File[] children = dir.listFiles();
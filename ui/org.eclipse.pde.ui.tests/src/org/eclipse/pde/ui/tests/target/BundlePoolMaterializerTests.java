@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.MetadataFactory;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRepositoryManager;
+import org.eclipse.equinox.p2.repository.artifact.IFileArtifactRepository;
+import org.eclipse.pde.internal.core.target.BundlePoolMaterializer;
+import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the placement of artifacts of local repositories into the bundle pool.
+ */
+public class BundlePoolMaterializerTests {
+
+	private static final int ARTIFACTS = 8;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private IArtifactRepositoryManager fManager;
+	private IFileArtifactRepository fPool;
+	private URI fLocation;
+	private IArtifactRepository fRepository;
+	private final List<IArtifactKey> fKeys = new ArrayList<>();
+	private final List<IInstallableUnit> fUnits = new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		fManager = P2TargetUtils.getArtifactRepositoryManager();
+		fPool = P2TargetUtils.getBundlePool();
+		fLocation = folder.newFolder("repository").toURI();
+		fRepository = fManager.createRepository(fLocation, "test", IArtifactRepositoryManager.TYPE_SIMPLE_REPOSITORY,
+				null);
+		String prefix = "materializer." + System.nanoTime() + '.';
+		for (int i = 0; i < ARTIFACTS; i++) {
+			IArtifactKey key = fRepository.createArtifactKey("osgi.bundle", prefix + i, Version.create("1.0.0"));
+			try (OutputStream out = fRepository.getOutputStream(fRepository.createArtifactDescriptor(key))) {
+				out.write(("artifact " + i).getBytes(StandardCharsets.UTF_8));
+			}
+			InstallableUnitDescription description = new MetadataFactory.InstallableUnitDescription();
+			description.setId(key.getId());
+			description.setVersion(key.getVersion());
+			description.setArtifacts(new IArtifactKey[] { key });
+			fKeys.add(key);
+			fUnits.add(MetadataFactory.createInstallableUnit(description));
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		for (IArtifactKey key : fKeys) {
+			File file = fPool.getArtifactFile(key);
+			fPool.removeDescriptor(key, null);
+			if (file != null) {
+				Files.deleteIfExists(file.toPath());
+			}
+		}
+		fManager.removeRepository(fLocation);
+	}
+
+	@Test
+	public void testArtifactsArePlaced() throws Exception {
+		BundlePoolMaterializer.materialize(fUnits, List.of(fLocation), new NullProgressMonitor());
+
+		for (IArtifactKey key : fKeys) {
+			assertTrue(key.toString(), fPool.contains(key));
+			Path placed = fPool.getArtifactFile(key).toPath();
+			Path source = ((IFileArtifactRepository) fRepository).getArtifactFile(key).toPath();
+			assertArrayEquals(Files.readAllBytes(source), Files.readAllBytes(placed));
+			if (!Files.getFileStore(source).equals(Files.getFileStore(placed))) {
+				// links are only created within a file store
+				assertFalse(Files.isSameFile(source, placed));
+			}
+		}
+	}
+
+	@Test
+	public void testCancellationKeepsPoolConsistent() throws Exception {
+		for (int checks = 1; checks <= ARTIFACTS + 2; checks++) {
+			tearDown();
+			AtomicInteger remaining = new AtomicInteger(checks);
+			NullProgressMonitor monitor = new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return super.isCanceled() || remaining.decrementAndGet() < 0;
+				}
+			};
+			try {
+				BundlePoolMaterializer.materialize(fUnits, List.of(fLocation), monitor);
+			} catch (OperationCanceledException e) {
+				// expected for most of the runs
+			}
+			assertPoolConsistent();
+		}
+	}
+
+	/**
+	 * Asserts that every artifact placed into the pool is registered and that
+	 * no temporary files are left behind.
+	 */
+	private void assertPoolConsistent() throws Exception {
+		Path plugins = P2TargetUtils.BUNDLE_POOL.toFile().toPath().resolve("plugins");
+		if (!Files.isDirectory(plugins)) {
+			return;
+		}
+		for (IArtifactKey key : fKeys) {
+			Path file = plugins.resolve(key.getId() + '_' + key.getVersion() + ".jar");
+			if (Files.exists(file)) {
+				assertTrue(key.toString(), fPool.contains(key));
+			}
+			if (fPool.contains(key)) {
+				assertNotNull(key.toString(), fPool.getArtifactFile(key));
+				assertTrue(key.toString(), fPool.getArtifactFile(key).isFile());
+			}
+		}
+		try (Stream<Path> files = Files.list(plugins)) {
+			assertFalse(files.map(Path::getFileName).map(Path::toString)
+					.anyMatch(name -> name.startsWith("materializer.") && name.endsWith(".tmp")));
+		}
+	}
+}
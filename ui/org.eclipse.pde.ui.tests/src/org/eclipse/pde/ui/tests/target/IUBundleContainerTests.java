@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2023 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -37,11 +38,15 @@ import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.equinox.p2.engine.IEngine;
+import org.eclipse.equinox.p2.engine.IProfile;
+import org.eclipse.equinox.p2.engine.IProvisioningPlan;
 import org.eclipse.equinox.p2.metadata.IArtifactKey;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.equinox.p2.publisher.eclipse.BundlesAction;
 import org.eclipse.equinox.p2.publisher.eclipse.FeaturesAction;
 import org.eclipse.equinox.p2.query.IQueryResult;
+import org.eclipse.equinox.p2.query.IQueryable;
 import org.eclipse.equinox.p2.query.QueryUtil;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
@@ -73,6 +78,9 @@ import org.xml.sax.helpers.DefaultHandler;
  */
 public class IUBundleContainerTests extends AbstractTargetTest {
 
+	private static final String MARKER = "org.eclipse.pde.ui.tests.marker";
+	private static final String MARKED_UNIT = "bundle.a1";
+
 	/**
 	 * Returns the metadata repository at the specified location.
 	 *
@@ -99,13 +107,13 @@ public class IUBundleContainerTests extends AbstractTargetTest {
 	}
 
 	/**
-	 * Returns an installable unit from the given repository with the specified identifier.
+	 * Returns an installable unit from the given repository or profile with the specified identifier.
 	 *
 	 * @param id unit identifier
-	 * @param repository repository
+	 * @param repository repository or profile
 	 * @return installable unit
 	 */
-	protected IInstallableUnit getUnit(String id, IMetadataRepository repository) {
+	protected IInstallableUnit getUnit(String id, IQueryable<IInstallableUnit> repository) {
 		IQueryResult<IInstallableUnit> result = repository.query(QueryUtil.createIUQuery(id), null);
 		IInstallableUnit[] units = result.toArray(IInstallableUnit.class);
 		if (units.length == 1) {
@@ -564,6 +572,113 @@ public class IUBundleContainerTests extends AbstractTargetTest {
 		assertTrue(profiles.isEmpty());
 	}
 
+	/**
+	 * Adding a root unit updates the existing profile.
+	 */
+	@Test
+	public void testUpdateProfileAddRoot() throws Exception {
+		try {
+			ITargetDefinition target = resolveAndMark(createContainer(new String[] { "feature.a.feature.group" }));
+			target.setTargetLocations(new ITargetLocation[] {
+					createContainer(new String[] { "feature.a.feature.group", "feature.b.feature.group" }) });
+			assertBundles(target, "bundle.a1", "bundle.a2", "bundle.a3", "bundle.b1", "bundle.b2", "bundle.b3");
+			assertEquals("Profile was not updated in place", Boolean.TRUE.toString(), getMarker(target));
+		} finally {
+			P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+		}
+	}
+
+	/**
+	 * Removing a root unit updates the existing profile.
+	 */
+	@Test
+	public void testUpdateProfileRemoveRoot() throws Exception {
+		try {
+			ITargetDefinition target = resolveAndMark(
+					createContainer(new String[] { "feature.a.feature.group", "bundle.b1" }));
+			target.setTargetLocations(
+					new ITargetLocation[] { createContainer(new String[] { "feature.a.feature.group" }) });
+			assertBundles(target, "bundle.a1", "bundle.a2", "bundle.a3");
+			assertEquals("Profile was not updated in place", Boolean.TRUE.toString(), getMarker(target));
+		} finally {
+			P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+		}
+	}
+
+	/**
+	 * Changing the declared version of a root unit updates the existing
+	 * profile.
+	 */
+	@Test
+	public void testUpdateProfileChangedRootVersion() throws Exception {
+		URI uri = getURI("/tests/sites/site.a.b");
+		String[] ids = { "feature.a.feature.group" };
+		try {
+			ITargetDefinition target = resolveAndMark(getTargetService().newIULocation(ids,
+					new String[] { "1.0.0" }, new URI[] { uri }, IUBundleContainer.INCLUDE_REQUIRED));
+			target.setTargetLocations(new ITargetLocation[] { getTargetService().newIULocation(ids,
+					new String[] { "[1.0,1.1)" }, new URI[] { uri }, IUBundleContainer.INCLUDE_REQUIRED) });
+			assertBundles(target, "bundle.a1", "bundle.a2", "bundle.a3");
+			assertEquals("Profile was not updated in place", Boolean.TRUE.toString(), getMarker(target));
+		} finally {
+			P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+		}
+	}
+
+	/**
+	 * Removing a root unit that is still required by another root can not be
+	 * applied to the profile, which is recreated instead.
+	 */
+	@Test
+	public void testUpdateProfileFallsBackToRecreation() throws Exception {
+		try {
+			ITargetDefinition target = resolveAndMark(
+					createContainer(new String[] { "feature.b.feature.group", "feature.a.feature.group" }));
+			target.setTargetLocations(
+					new ITargetLocation[] { createContainer(new String[] { "feature.b.feature.group" }) });
+			assertBundles(target, "bundle.a1", "bundle.a2", "bundle.a3", "bundle.b1", "bundle.b2", "bundle.b3");
+			assertNull("Profile was not recreated", getMarker(target));
+		} finally {
+			P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+		}
+	}
+
+	/**
+	 * Resolves a new target with the given location and marks a unit of its
+	 * profile, the mark is kept by updates of the profile but not by its
+	 * recreation.
+	 */
+	private ITargetDefinition resolveAndMark(ITargetLocation location) throws Exception {
+		ITargetDefinition target = getTargetService().newTarget();
+		target.setTargetLocations(new ITargetLocation[] { location });
+		assertTrue(target.resolve(null).isOK());
+
+		IProfile profile = getProfile(target);
+		IInstallableUnit unit = getUnit(MARKED_UNIT, profile);
+		IEngine engine = P2TargetUtils.getAgent().getService(IEngine.class);
+		IProvisioningPlan plan = engine.createPlan(profile, null);
+		plan.setInstallableUnitProfileProperty(unit, MARKER, Boolean.TRUE.toString());
+		assertTrue(engine.perform(plan, null).isOK());
+		return target;
+	}
+
+	private String getMarker(ITargetDefinition target) throws Exception {
+		IProfile profile = getProfile(target);
+		return profile.getInstallableUnitProperty(getUnit(MARKED_UNIT, profile), MARKER);
+	}
+
+	private static IProfile getProfile(ITargetDefinition target) throws Exception {
+		IProfile profile = P2TargetUtils.getProfileRegistry().getProfile(P2TargetUtils.getProfileId(target));
+		assertNotNull("Missing profile", profile);
+		return profile;
+	}
+
+	private void assertBundles(ITargetDefinition target, String... expected) throws Exception {
+		List<BundleInfo> infos = getAllBundleInfos(target);
+		assertEquals(Set.of(expected), collectAllSymbolicNames(infos));
+		assertEquals(expected.length, infos.size());
+	}
+
 	/**
 	 * Tests overlapping IU containers.
 	 */
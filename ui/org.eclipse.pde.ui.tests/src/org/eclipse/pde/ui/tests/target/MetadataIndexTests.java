@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.query.IQueryable;
+import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
+import org.eclipse.pde.internal.core.target.MetadataIndex;
+import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the reuse and the invalidation of the index of the installable units
+ * of IU locations.
+ */
+public class MetadataIndexTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private IMetadataRepositoryManager fManager;
+	private File fRepository;
+	private URI fLocation;
+
+	@Before
+	public void setUp() throws Exception {
+		fManager = P2TargetUtils.getRepoManager();
+		fRepository = folder.newFolder("repository");
+		fLocation = fRepository.toURI();
+	}
+
+	@After
+	public void tearDown() {
+		fManager.removeRepository(fLocation);
+	}
+
+	@Test
+	public void testIndexIsReused() throws Exception {
+		writeContent("a");
+		IMetadataRepository repository = fManager.loadRepository(fLocation, null);
+
+		IQueryable<IInstallableUnit> queryable = MetadataIndex.getQueryable(List.of(repository), null);
+		assertSame(queryable, MetadataIndex.getQueryable(List.of(repository), null));
+		assertEquals(1, queryable.query(QueryUtil.createIUQuery("a"), null).toUnmodifiableSet().size());
+		assertTrue(queryable.query(QueryUtil.createIUQuery("b"), null).isEmpty());
+	}
+
+	@Test
+	public void testChangedContentInvalidates() throws Exception {
+		writeContent("a");
+		IMetadataRepository repository = fManager.loadRepository(fLocation, null);
+		assertFalse(MetadataIndex.hasChanged(repository));
+		IQueryable<IInstallableUnit> queryable = MetadataIndex.getQueryable(List.of(repository), null);
+
+		writeContent("a", "b");
+		assertTrue(MetadataIndex.hasChanged(repository));
+		// the index is not reused for the changed files
+		assertNotSame(queryable, MetadataIndex.getQueryable(List.of(repository), null));
+
+		IMetadataRepository reloaded = fManager.refreshRepository(fLocation, null);
+		assertFalse(MetadataIndex.hasChanged(reloaded));
+		IQueryable<IInstallableUnit> refreshed = MetadataIndex.getQueryable(List.of(reloaded), null);
+		assertNotSame(queryable, refreshed);
+		assertEquals(1, refreshed.query(QueryUtil.createIUQuery("b"), null).toUnmodifiableSet().size());
+	}
+
+	private void writeContent(String... ids) throws IOException {
+		StringBuilder units = new StringBuilder();
+		for (String id : ids) {
+			units.append("""
+					    <unit id='%s' version='1.0.0'>
+					      <provides size='1'>
+					        <provided namespace='org.eclipse.equinox.p2.iu' name='%s' version='1.0.0'/>
+					      </provides>
+					    </unit>
+					""".formatted(id, id));
+		}
+		Path content = fRepository.toPath().resolve("content.xml");
+		long previous = Files.exists(content) ? content.toFile().lastModified() : 0;
+		Files.writeString(content, """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<?metadataRepository version='1.2.0'?>
+				<repository name='test' type='org.eclipse.equinox.internal.p2.metadata.repository.LocalMetadataRepository' version='1'>
+				  <properties size='1'>
+				    <property name='p2.timestamp' value='%d'/>
+				  </properties>
+				  <units size='%d'>
+				%s  </units>
+				</repository>
+				""".formatted(System.currentTimeMillis(), ids.length, units));
+		// make the change visible on file systems with a coarse time stamp
+		content.toFile().setLastModified(Math.max(System.currentTimeMillis(), previous + 2000));
+	}
+}
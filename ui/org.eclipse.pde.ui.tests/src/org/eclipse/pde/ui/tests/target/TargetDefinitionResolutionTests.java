@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2025 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,16 +16,22 @@ package org.eclipse.pde.ui.tests.target;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.jdt.launching.JavaRuntime;
@@ -35,6 +41,8 @@ import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.core.target.AbstractBundleContainer;
 import org.eclipse.pde.internal.core.target.IUBundleContainer;
 import org.eclipse.pde.ui.tests.PDETestCase;
 import org.junit.Test;
@@ -68,6 +76,80 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 		}
 	}
 
+	/**
+	 * Tests that locations contributed by other plug-ins are resolved on the
+	 * calling thread while the built-in locations are resolved concurrently,
+	 * and that the statuses are in the order of the locations.
+	 */
+	@Test
+	public void testConcurrentResolution() throws Exception {
+		ITargetDefinition definition = getNewTarget();
+		Thread caller = Thread.currentThread();
+		AtomicReference<Thread> resolver = new AtomicReference<>();
+		definition.setTargetLocations(new ITargetLocation[] {
+				getTargetService().newDirectoryLocation("***SHOULD NOT EXIST 1***"),
+				createContributedLocation("contributed", false, resolver),
+				getTargetService().newDirectoryLocation("***SHOULD NOT EXIST 2***") });
+		IStatus[] children = definition.resolve(null).getChildren();
+		assertEquals("Wrong number of children", 3, children.length);
+		assertSame("Contributed locations must be resolved by the caller", caller, resolver.get());
+		assertTrue(children[0].getMessage(), children[0].getMessage().contains("EXIST 1"));
+		assertEquals("contributed", children[1].getMessage());
+		assertTrue(children[2].getMessage(), children[2].getMessage().contains("EXIST 2"));
+	}
+
+	/**
+	 * Tests that contributed locations supporting it are resolved concurrently
+	 */
+	@Test
+	public void testConcurrentResolutionOptIn() throws Exception {
+		ITargetDefinition definition = getNewTarget();
+		AtomicReference<Thread> resolver1 = new AtomicReference<>();
+		AtomicReference<Thread> resolver2 = new AtomicReference<>();
+		definition.setTargetLocations(new ITargetLocation[] { createContributedLocation("contributed 1", true, resolver1),
+				createContributedLocation("contributed 2", true, resolver2) });
+		IStatus[] children = definition.resolve(null).getChildren();
+		assertEquals("Wrong number of children", 2, children.length);
+		assertNotSame("Concurrent locations must be resolved in the background", Thread.currentThread(),
+				resolver1.get());
+		assertNotSame("Concurrent locations must be resolved in the background", Thread.currentThread(),
+				resolver2.get());
+		assertEquals("contributed 1", children[0].getMessage());
+		assertEquals("contributed 2", children[1].getMessage());
+	}
+
+	private static ITargetLocation createContributedLocation(String name, boolean concurrent,
+			AtomicReference<Thread> resolver) {
+		return new AbstractBundleContainer() {
+			@Override
+			protected TargetBundle[] resolveBundles(ITargetDefinition target, IProgressMonitor monitor)
+					throws CoreException {
+				resolver.set(Thread.currentThread());
+				throw new CoreException(Status.error(name));
+			}
+
+			@Override
+			protected TargetFeature[] resolveFeatures(ITargetDefinition target, IProgressMonitor monitor) {
+				return new TargetFeature[0];
+			}
+
+			@Override
+			public String getType() {
+				return "contributed";
+			}
+
+			@Override
+			public String getLocation(boolean resolve) {
+				return name;
+			}
+
+			@Override
+			public boolean isConcurrentResolutionSupported() {
+				return concurrent;
+			}
+		};
+	}
+
 	/**
 	 * Tests that if we find a bundle with a bad or missing manifest when
 	 * resolving we create the correct status.